@@ -0,0 +1,57 @@
+package com.qrcoffee.backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit 확인 경로 벤치마크 (./gradlew jmh)
+ *
+ * - hotKey: 모든 스레드가 같은 IP (매장 NAT) → 같은 버킷에서 CAS 경합
+ * - spreadKeys: 스레드마다 여러 IP → 경합 없는 조회/갱신
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 거부되지 않도록 충분히 큰 한도 (허용 경로 측정)
+        limiter = new TokenBucketRateLimiter("bench", Integer.MAX_VALUE / 2, 1_000_000_000, KEY_COUNT * 2);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(keys[0], 1);
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)], 1);
+    }
+}
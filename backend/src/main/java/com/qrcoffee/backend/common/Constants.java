@@ -28,6 +28,25 @@ public final class Constants {
         private User() {}
     }
     
+    // 인증 관련 상수
+    public static final class Auth {
+        public static final int VERIFIED_TOKEN_CACHE_SIZE = 10000; // 검증된 Access Token 캐시 항목 수 (만료 시각까지 유효)
+        public static final int REVOCATION_BLOOM_BITS = 1 << 20;     // 폐기 토큰 Bloom filter 비트 수 (128KB)
+        public static final int REVOCATION_BLOOM_HASHES = 4;
+        public static final long REVOCATION_SYNC_INTERVAL_MS = 5000;  // 다른 서버의 폐기 반영 주기
+        public static final long REVOCATION_SYNC_OVERLAP_MS = 30000;  // 동기화 조회 겹침 구간 (서버 간 시계 차이/늦은 커밋 보정)
+        public static final long TOKEN_CLEANUP_INTERVAL_MS = 3600000; // 만료 토큰 삭제 주기
+        public static final int PASSWORD_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2); // 비밀번호 해시 전용 스레드 수
+        public static final int PASSWORD_QUEUE_CAPACITY = 64;          // 대기 가능한 해시 요청 수 (초과 시 즉시 거부)
+        public static final long PASSWORD_TIMEOUT_MS = 5000;           // 대기 포함 해시 검증 최대 시간
+        public static final long LOGIN_ATTEMPT_WINDOW_MS = 900000;     // 로그인 실패 집계 구간 (15분)
+        public static final int LOGIN_MAX_FAILURES_PER_ACCOUNT = 5;    // 구간 내 (계정, IP)별 최대 실패 수
+        public static final int LOGIN_MAX_FAILURES_PER_IP = 20;        // 구간 내 IP별 최대 실패 수
+        public static final long LOGIN_ATTEMPT_CLEANUP_INTERVAL_MS = 60000;
+        
+        private Auth() {}
+    }
+    
     // 좌석 관련 상수
     public static final class Seat {
         public static final int DEFAULT_MAX_CAPACITY = 4;
@@ -37,6 +56,21 @@ public final class Constants {
         public static final String SEAT_DELETED_MESSAGE = "좌석 삭제 완료";
         public static final String SEAT_STATUS_CHANGED_MESSAGE = "좌석 상태 변경";
         public static final String QR_CODE_REGENERATED_MESSAGE = "QR코드 재생성 완료";
+        public static final int QR_IMAGE_DEFAULT_SIZE = 300;      // QR 이미지 기본 크기 (px)
+        public static final int QR_IMAGE_MIN_SIZE = 100;
+        public static final int QR_IMAGE_MAX_SIZE = 1000;
+        public static final int QR_IMAGE_MARGIN = 2;              // QR 여백 (모듈 수)
+        public static final int QR_IMAGE_CACHE_SIZE = 512;        // 인코딩된 QR 이미지 LRU 캐시 항목 수
+        public static final int QR_PRINT_SIZE = 600;              // 일괄 인쇄용 QR 크기 (px)
+        public static final int QR_PRINT_LABEL_HEIGHT = 80;       // 일괄 인쇄용 좌석번호 영역 높이 (px)
+        public static final int QR_RENDER_THREADS = 4;            // 일괄 인쇄 병렬 렌더링 스레드 수
+        public static final int QR_RENDER_QUEUE_CAPACITY = 32;
+        public static final int QR_CACHE_SIZE = 10000;            // QR코드 → 활성 좌석 캐시 항목 수
+        public static final long QR_CACHE_TTL_MS = 60000;         // 다중 인스턴스 환경에서 다른 서버 변경이 반영되는 최대 지연
+        public static final int QR_NEGATIVE_CACHE_SIZE = 10000;   // 존재하지 않는 QR코드 캐시 항목 수
+        public static final long QR_NEGATIVE_CACHE_TTL_MS = 30000;
+        public static final String SIGNED_QR_PREFIX = "s.";       // 서명 QR코드: s.{storeId}.{seatId}.{generation}.{mac} (ID는 36진수)
+        public static final int SIGNED_QR_MAC_BYTES = 12;         // HMAC-SHA256 앞 96비트 (base64url 16자)
         
         private Seat() {}
     }
@@ -58,14 +92,106 @@ public final class Constants {
     public static final class Dashboard {
         public static final int DEFAULT_POPULAR_MENU_LIMIT = 10;
         public static final String DATE_FORMAT_PATTERN = "yyyy-MM-dd";
+        public static final int FRANCHISE_MAX_CONCURRENCY = 8; // 프랜차이즈 집계 동시 실행 매장 수
+        public static final int FRANCHISE_QUEUE_CAPACITY = 256;
+        public static final long FRANCHISE_TIMEOUT_MS = 3000; // 프랜차이즈 집계 전체 시간 예산
+        public static final int PREP_TIME_RETENTION_DAYS = 7; // 처리 시간 히스토그램 메모리 보관 일수
+        public static final String DAILY_CLOSE_CRON = "0 10 0 * * *"; // 일 마감 (매일 00:10)
+        public static final int DAILY_CLOSE_CATCH_UP_DAYS = 7; // 일 마감 시 누락일을 함께 마감하는 기간
+        public static final int SALES_REPORT_MAX_DAYS = 366; // 매출 리포트 최대 조회 기간
         
         private Dashboard() {}
     }
     
+    // 고객용 메뉴 카탈로그 관련 상수
+    public static final class Catalog {
+        public static final long MAX_AGE_MS = 30000; // 스냅샷 최대 유지 시간 (다중 서버 간 변경 반영 상한)
+        public static final int MAX_STORES = 2000;   // 스냅샷/검색 인덱스를 보관하는 매장 수 상한 (LRU)
+        public static final int SEARCH_DEFAULT_RESULTS = 20;
+        public static final int SEARCH_MAX_RESULTS = 50;
+        public static final int SEARCH_MAX_QUERY_LENGTH = 50;
+        
+        private Catalog() {}
+    }
+    
+    // 메뉴 재고 관련 상수
+    public static final class Stock {
+        public static final int LEASE_BATCH = 5;                  // DB에서 한 번에 가져오는 재고 수량
+        public static final long IDLE_RETURN_MS = 60000;          // 이 시간 동안 사용되지 않은 로컬 재고는 DB로 반환
+        public static final long FLUSH_INTERVAL_MS = 30000;       // 로컬 재고 반환 주기
+        public static final int RESERVATION_TTL_MINUTES = 30;     // 결제 미완료 예약 만료 시간
+        public static final long EXPIRE_INTERVAL_MS = 60000;      // 만료 예약 정리 주기
+        public static final int EXPIRE_BATCH_SIZE = 200;          // 만료 예약 정리 시 한 번에 조회하는 결제 수
+        public static final String RESERVATION_METADATA_KEY = "stockReservation";
+        
+        private Stock() {}
+    }
+    
+    // QR 스캔 집계 관련 상수
+    public static final class Scan {
+        public static final int BUFFER_CAPACITY = 1 << 16;       // 스캔 이벤트 링 버퍼 크기 (가득 차면 버림)
+        public static final long FLUSH_INTERVAL_MS = 5000;        // 집계 반영 주기
+        public static final int MAX_PENDING_KEYS = 100_000;       // DB 반영 실패 시 메모리에 보관할 최대 (좌석, 시간대) 수
+        
+        private Scan() {}
+    }
+    
+    // 메뉴 일괄 등록/정렬 관련 상수
+    public static final class Import {
+        public static final int MAX_ROWS = 2000;       // 요청당 최대 행 수
+        public static final int MAX_STORES = 200;      // 요청당 최대 매장 수
+        public static final int BATCH_SIZE = 500;      // JDBC batch 크기
+        
+        private Import() {}
+    }
+    
+    // 메뉴 이미지 관련 상수
+    public static final class Image {
+        public static final int[] VARIANT_WIDTHS = {160, 480, 960}; // 변환본 가로 크기 (작은 순)
+        public static final int MAX_SOURCE_PIXELS = 40_000_000;     // 원본 최대 픽셀 수 (디코딩 전 검사)
+        public static final float JPEG_QUALITY = 0.85f;
+        public static final int WORKER_THREADS = 2;                 // 디코딩/리사이즈 동시 실행 수
+        public static final int QUEUE_CAPACITY = 16;
+        public static final long PROCESS_TIMEOUT_MS = 15000;
+        public static final String URL_PREFIX = "/images/menus/";
+        public static final long CACHE_MAX_AGE_DAYS = 365;          // 파일명에 내용 해시가 있으므로 변경 불가 캐시
+        
+        private Image() {}
+    }
+    
+    // 데이터 내보내기 관련 상수
+    public static final class Export {
+        public static final int FETCH_SIZE = 1000; // MySQL 외 드라이버용 fetch size
+        public static final int MAX_RANGE_DAYS = 366; // 최대 조회 기간
+        
+        private Export() {}
+    }
+    
+    // API Rate Limit 관련 상수 (토큰 버킷: burst개까지 즉시 허용, 이후 초당 rate개 보충)
+    public static final class RateLimit {
+        public static final int MAX_KEYS = 50_000;               // 정책별 추적 IP 수 상한
+        public static final long EVICT_INTERVAL_MS = 60000;      // 유휴 키 정리 주기
+        public static final int DEFAULT_BURST = 100;             // 일반 API
+        public static final double DEFAULT_RATE = 100 / 60.0;
+        public static final int PUBLIC_BURST = 200;              // 고객용 공개 API (매장 NAT 뒤 여러 고객이 같은 IP 사용)
+        public static final double PUBLIC_RATE = 10;
+        public static final int PAYMENT_BURST = 60;              // 결제 준비/취소 (매장 NAT 뒤 여러 고객이 같은 IP 사용)
+        public static final double PAYMENT_RATE = 1;
+        public static final int CONFIRM_BURST = 200;             // 결제 승인 (PG 승인 후 호출되므로 거부 시 결제 기록 누락)
+        public static final double CONFIRM_RATE = 5;
+        public static final int EXPORT_COST = 20;                // 내보내기 요청 1건이 사용하는 토큰 수
+        public static final int WS_CONNECT_BURST = 5;            // WebSocket 연결
+        public static final double WS_CONNECT_RATE = 1;
+        public static final int LEASE_DIVISOR = 10;              // 공유 버킷에서 한 번에 받는 토큰 수 = burst / LEASE_DIVISOR
+        public static final long LEASE_TTL_MS = 10000;           // 이 시간 동안 다시 받지 않으면 남은 토큰을 공유 버킷에 반납
+        public static final long SHARED_CLEANUP_INTERVAL_MS = 60000; // 만료 lease 반납 및 가득 찬 공유 버킷 정리 주기
+        
+        private RateLimit() {}
+    }
+    
     // WebSocket 관련 상수
     public static final class WebSocket {
         public static final int MAX_CONNECTIONS_PER_IP = 5;
-        public static final long CONNECTION_RATE_LIMIT_MS = 1000; // 1초당 1개 연결
         public static final long CONNECTION_TIMEOUT_MS = 300000; // 5분 타임아웃
         public static final long CLEANUP_INTERVAL_MS = 600000; // 10분마다 정리
         
@@ -0,0 +1,62 @@
+package com.qrcoffee.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * CSV 내보내기 조회용 DataSource
+ * export.datasource.url 설정 시 읽기 전용 복제본(replica) 커넥션 풀을 별도로 생성하고, 미설정 시 기본 DataSource 사용
+ * (DataSource 타입 빈을 추가하면 기본 DataSource 자동 설정이 꺼지므로 별도 타입으로 감싸서 등록)
+ */
+@Configuration
+@Slf4j
+public class ExportDataSourceConfig {
+    
+    private static final String REPLICA_POOL_NAME = "export-replica";
+    
+    @Bean(destroyMethod = "close")
+    public ExportDataSource exportDataSource(DataSource dataSource,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${spring.datasource.url:}") String primaryUrl,
+                                             @Value("${export.datasource.url:}") String replicaUrl,
+                                             @Value("${export.datasource.username:}") String replicaUsername,
+                                             @Value("${export.datasource.password:}") String replicaPassword) {
+        if (!StringUtils.hasText(replicaUrl)) {
+            return new ExportDataSource(dataSource, primaryUrl, false);
+        }
+        
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName(REPLICA_POOL_NAME);
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        log.info("CSV 내보내기는 복제본 DB에서 조회합니다.");
+        return new ExportDataSource(replica, replicaUrl, true);
+    }
+    
+    /**
+     * 내보내기 DataSource (owned: 이 설정에서 생성한 복제본 풀이면 종료 시 닫음)
+     */
+    public record ExportDataSource(DataSource dataSource, String url, boolean owned) implements AutoCloseable {
+        
+        @Override
+        public void close() {
+            if (owned && dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.qrcoffee.backend.config;
 
+import com.qrcoffee.backend.service.TokenRevocationService;
+import com.qrcoffee.backend.util.JwtPrincipal;
 import com.qrcoffee.backend.util.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -28,6 +31,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -37,44 +41,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt)) {
-                String email = jwtUtil.getEmailFromToken(jwt);
+            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 토큰 검증 및 사용자 정보 추출 (1회 파싱, 검증된 토큰은 캐시)
+                JwtPrincipal principal = jwtUtil.authenticate(jwt);
+                String email = principal.email();
                 
-                if (StringUtils.hasText(email) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 로그아웃 등으로 폐기된 토큰 (메모리 조회)
+                if (tokenRevocationService.isRevoked(principal.tokenId())) {
+                    log.warn("폐기된 JWT 토큰: {}", email);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.getWriter().write("{\"error\":\"폐기된 토큰입니다. 다시 로그인해 주세요.\"}");
+                    return;
+                }
+                
+                if (StringUtils.hasText(email)) {
+                    Long userId = principal.userId();
+                    String role = principal.role();
+                    Long storeId = principal.storeId();
+                    
+                    // 권한 설정
+                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+                    
+                    // Authentication 객체 생성
+                    UsernamePasswordAuthenticationToken authentication = 
+                        new UsernamePasswordAuthenticationToken(
+                            email, 
+                            null, 
+                            Collections.singletonList(authority)
+                        );
+                    
+                    // 추가 정보 설정 (사용자 ID, 매장 ID 등)
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     
-                    if (jwtUtil.isTokenValid(jwt, email)) {
-                        // JWT에서 사용자 정보 추출
-                        Long userId = jwtUtil.getUserIdFromToken(jwt);
-                        String role = jwtUtil.getRoleFromToken(jwt);
-                        Long storeId = jwtUtil.getStoreIdFromToken(jwt);
-                        
-                        // 권한 설정
-                        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
-                        
-                        // Authentication 객체 생성
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(
-                                email, 
-                                null, 
-                                Collections.singletonList(authority)
-                            );
-                        
-                        // 추가 정보 설정 (사용자 ID, 매장 ID 등)
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        
-                        // SecurityContext에 인증 정보 설정
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        
-                        // 요청에 사용자 정보 추가 (컨트롤러에서 사용하기 위해)
-                        request.setAttribute("userId", userId);
-                        request.setAttribute("userEmail", email);
-                        request.setAttribute("userRole", role);
-                        request.setAttribute("storeId", storeId);
-                        
-                        log.debug("JWT 인증 성공: {} (역할: {}, 매장: {})", email, role, storeId);
-                    } else {
-                        log.warn("유효하지 않은 JWT 토큰: {}", email);
-                    }
+                    // SecurityContext에 인증 정보 설정
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    
+                    // 요청에 사용자 정보 추가 (컨트롤러에서 사용하기 위해)
+                    request.setAttribute("userId", userId);
+                    request.setAttribute("userEmail", email);
+                    request.setAttribute("userRole", role);
+                    request.setAttribute("storeId", storeId);
+                    request.setAttribute("tokenId", principal.tokenId());
+                    request.setAttribute("tokenExpiresAt", principal.expiresAt());
+                    
+                    log.debug("JWT 인증 성공: {} (역할: {}, 매장: {})", email, role, storeId);
+                } else {
+                    log.warn("유효하지 않은 JWT 토큰: 사용자 정보 없음");
                 }
             }
         } catch (ExpiredJwtException e) {
@@ -97,6 +109,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("{\"error\":\"토큰 서명이 유효하지 않습니다.\"}");
             return;
+        } catch (JwtException e) {
+            // 그 외 검증 실패 (예: 다른 길이의 키로 서명되어 알고리즘/키 강도가 맞지 않는 토큰)
+            log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.getWriter().write("{\"error\":\"유효하지 않은 토큰입니다.\"}");
+            return;
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있음: {}", e.getMessage());
         } catch (Exception e) {
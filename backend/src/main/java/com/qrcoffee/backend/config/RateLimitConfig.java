@@ -0,0 +1,33 @@
+package com.qrcoffee.backend.config;
+
+import com.qrcoffee.backend.repository.RateLimitBucketRepository;
+import com.qrcoffee.backend.service.LocalRateLimitBackend;
+import com.qrcoffee.backend.service.RateLimitBackend;
+import com.qrcoffee.backend.service.SharedRateLimitBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate Limit 저장소 선택 (rate-limit.backend)
+ * - local: 서버 메모리 (서버별 한도)
+ * - shared: MySQL 공유 버킷 (여러 서버 운영 시 전체 합산 한도)
+ */
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+    
+    @Bean
+    public RateLimitBackend rateLimitBackend(@Value("${rate-limit.backend:local}") String backend,
+                                             RateLimitBucketRepository rateLimitBucketRepository,
+                                             MeterRegistry meterRegistry) {
+        log.info("Rate Limit 저장소: {}", backend);
+        return switch (backend) {
+            case "local" -> new LocalRateLimitBackend(meterRegistry);
+            case "shared" -> new SharedRateLimitBackend(rateLimitBucketRepository, meterRegistry);
+            default -> throw new IllegalStateException("알 수 없는 rate-limit.backend 값입니다: " + backend);
+        };
+    }
+}
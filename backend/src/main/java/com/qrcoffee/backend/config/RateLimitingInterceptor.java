@@ -1,30 +1,60 @@
 package com.qrcoffee.backend.config;
 
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.service.RateLimitBackend;
+import com.qrcoffee.backend.util.RateLimitPolicy;
+import com.qrcoffee.backend.util.RequestUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * API Rate Limiting 인터셉터
- * IP 주소별로 요청 횟수를 제한합니다.
+ * IP 주소별로 경로에 따른 토큰 버킷 정책을 적용합니다.
+ *
+ * - 정책: 결제(payment) / 결제 승인(confirm) / 고객용 공개 API(public) / 그 외(api). 정책마다 별도 버킷
+ * - 결제 승인은 PG에서 이미 승인된 결제를 기록하므로 준비/취소와 버킷을 나누고 한도를 넉넉히 둠
+ * - 요청 비용은 경로별로 다름 (내보내기는 일반 요청의 EXPORT_COST배)
+ * - 버킷은 RateLimitBackend에 보관 (서버 메모리 또는 서버 공유)
+ * - 거부 시 429와 Retry-After 헤더 반환
+ * - 지표: rate.limit.requests (policy, result)
  */
 @Component
 @Slf4j
 public class RateLimitingInterceptor implements HandlerInterceptor {
     
-    // IP별 요청 카운터 (시간 윈도우별)
-    private final Map<String, RateLimitInfo> rateLimitMap = new ConcurrentHashMap<>();
+    private final RateLimitBackend rateLimitBackend;
+    private final List<Route> routes;
+    private final Route defaultRoute;
     
-    // Rate Limit 설정
-    private static final int MAX_REQUESTS_PER_MINUTE = 100; // 분당 최대 요청 수
-    private static final int MAX_REQUESTS_PER_HOUR = 1000;   // 시간당 최대 요청 수
-    private static final long WINDOW_SIZE_MS = 60_000;      // 1분 윈도우
+    public RateLimitingInterceptor(RateLimitBackend rateLimitBackend, MeterRegistry meterRegistry) {
+        this.rateLimitBackend = rateLimitBackend;
+        Policy payment = new Policy(meterRegistry, new RateLimitPolicy("payment",
+                Constants.RateLimit.PAYMENT_BURST, Constants.RateLimit.PAYMENT_RATE));
+        Policy confirm = new Policy(meterRegistry, new RateLimitPolicy("confirm",
+                Constants.RateLimit.CONFIRM_BURST, Constants.RateLimit.CONFIRM_RATE));
+        Policy publicApi = new Policy(meterRegistry, new RateLimitPolicy("public",
+                Constants.RateLimit.PUBLIC_BURST, Constants.RateLimit.PUBLIC_RATE));
+        Policy api = new Policy(meterRegistry, new RateLimitPolicy("api",
+                Constants.RateLimit.DEFAULT_BURST, Constants.RateLimit.DEFAULT_RATE));
+        
+        // 앞에서부터 처음 일치하는 경로 적용
+        this.routes = List.of(
+                new Route("/api/payments/prepare", payment, 1),
+                new Route("/api/payments/confirm", confirm, 1),
+                new Route("/api/payments/cancel", payment, 1),
+                new Route("/api/public/", publicApi, 1),
+                new Route("/api/exports", api, Constants.RateLimit.EXPORT_COST)
+        );
+        this.defaultRoute = new Route("/api/", api, 1);
+    }
     
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -37,12 +67,15 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
             return true;
         }
         
-        String clientIp = getClientIpAddress(request);
+        Route route = resolve(path);
+        String clientIp = RequestUtils.getClientIpAddress(request);
+        long waitNanos = rateLimitBackend.tryAcquire(route.policy().limit(), clientIp, route.cost());
         
-        // Rate Limit 체크
-        if (!checkRateLimit(clientIp)) {
-            log.warn("Rate limit 초과: IP={}, Path={}", clientIp, path);
+        if (waitNanos > 0) {
+            route.policy().rejected().increment();
+            log.warn("Rate limit 초과: IP={}, Path={}, policy={}", clientIp, path, route.policy().limit().name());
             response.setStatus(429); // HTTP 429 Too Many Requests
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
             response.setContentType("application/json");
             try {
                 response.getWriter().write("{\"error\":\"Too many requests. Please try again later.\"}");
@@ -52,80 +85,35 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
             return false;
         }
         
-        return true;
-    }
-    
-    /**
-     * Rate Limit 체크
-     */
-    private boolean checkRateLimit(String ipAddress) {
-        RateLimitInfo info = rateLimitMap.computeIfAbsent(ipAddress, k -> new RateLimitInfo());
-        
-        long currentTime = System.currentTimeMillis();
-        
-        // 시간 윈도우가 지났으면 리셋
-        if (currentTime - info.getWindowStartTime() > WINDOW_SIZE_MS) {
-            info.reset();
-        }
-        
-        // 분당 요청 수 체크
-        if (info.getMinuteCount().get() >= MAX_REQUESTS_PER_MINUTE) {
-            return false;
-        }
-        
-        // 시간당 요청 수 체크
-        if (info.getHourCount().get() >= MAX_REQUESTS_PER_HOUR) {
-            return false;
+        if (waitNanos == RateLimitBackend.OVERFLOW) {
+            route.policy().overflow().increment();
+        } else {
+            route.policy().allowed().increment();
         }
-        
-        // 카운터 증가
-        info.getMinuteCount().incrementAndGet();
-        info.getHourCount().incrementAndGet();
-        
         return true;
     }
     
-    /**
-     * 클라이언트 IP 주소 추출
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+    private Route resolve(String path) {
+        for (Route route : routes) {
+            if (path.startsWith(route.pathPrefix())) {
+                return route;
+            }
         }
-        
-        return request.getRemoteAddr();
+        return defaultRoute;
     }
     
+    private record Route(String pathPrefix, Policy policy, int cost) {}
+    
     /**
-     * Rate Limit 정보 클래스
+     * 정책과 지표
      */
-    private static class RateLimitInfo {
-        private final AtomicInteger minuteCount = new AtomicInteger(0);
-        private final AtomicInteger hourCount = new AtomicInteger(0);
-        private long windowStartTime = System.currentTimeMillis();
+    private record Policy(RateLimitPolicy limit, Counter allowed, Counter rejected, Counter overflow) {
         
-        public AtomicInteger getMinuteCount() {
-            return minuteCount;
-        }
-        
-        public AtomicInteger getHourCount() {
-            return hourCount;
-        }
-        
-        public long getWindowStartTime() {
-            return windowStartTime;
-        }
-        
-        public void reset() {
-            minuteCount.set(0);
-            windowStartTime = System.currentTimeMillis();
+        Policy(MeterRegistry meterRegistry, RateLimitPolicy limit) {
+            this(limit,
+                    meterRegistry.counter("rate.limit.requests", "policy", limit.name(), "result", "allowed"),
+                    meterRegistry.counter("rate.limit.requests", "policy", limit.name(), "result", "rejected"),
+                    meterRegistry.counter("rate.limit.requests", "policy", limit.name(), "result", "overflow"));
         }
     }
 }
-
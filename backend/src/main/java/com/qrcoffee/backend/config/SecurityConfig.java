@@ -1,5 +1,6 @@
 package com.qrcoffee.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -90,18 +91,24 @@ public class SecurityConfig {
                     ).denyAll();
                 }
                 
+                // 스트리밍 응답(CSV 내보내기 등) 완료 후 비동기 디스패치 허용 (최초 요청에서 이미 인가됨)
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                
                 // 공개 엔드포인트
                 auth
                 .requestMatchers(
                     "/api/auth/login",
                     "/api/auth/signup", 
+                    "/api/auth/refresh",
                     "/api/health",
                     "/actuator/**",
                     "/api/qr/**",  // QR코드 스캔용
                     "/api/public/seats/**",  // 퍼블릭 좌석 API
                     "/api/public/stores/**", // 고객용 매장/메뉴 조회 API
+                    "/api/public/storefront/**", // 고객 앱 첫 화면 API
                     "/api/public/menus/**",  // 고객용 메뉴 조회 (하위 호환성)
                     "/api/payments/**",      // 고객용 결제 API
+                    "/images/menus/**",      // 메뉴 이미지 변환본 (정적 파일)
                     "/ws/**"                 // WebSocket 엔드포인트
                 ).permitAll()
                 
@@ -147,7 +154,7 @@ public class SecurityConfig {
         configuration.setAllowCredentials(allowCredentials);
         
         // 노출할 헤더
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "X-Catalog-Version"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -1,11 +1,17 @@
 package com.qrcoffee.backend.config;
 
+import com.qrcoffee.backend.common.Constants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Web MVC 설정
  * 정적 리소스 핸들러가 API 경로를 처리하지 않도록 설정
@@ -17,6 +23,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
     
     private final RateLimitingInterceptor rateLimitingInterceptor;
     
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+    
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // API 경로는 정적 리소스 핸들러가 처리하지 않도록 설정
@@ -27,6 +36,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/public/**")
                 .addResourceLocations("classpath:/public/");
         
+        // 메뉴 이미지 변환본: 파일명에 내용 해시가 있어 내용이 바뀌면 URL도 바뀌므로 변경 불가 캐시
+        registry.addResourceHandler(Constants.Image.URL_PREFIX + "**")
+                .addResourceLocations("file:" + Paths.get(uploadDir, "menus").toAbsolutePath().normalize() + "/")
+                .setCacheControl(CacheControl.maxAge(Constants.Image.CACHE_MAX_AGE_DAYS, TimeUnit.DAYS)
+                        .cachePublic()
+                        .immutable());
+        
         // API 경로를 정적 리소스로 처리하지 않도록 설정
         // Spring Boot의 기본 정적 리소스 핸들러가 /api/** 경로를 가로채지 않도록 함
         registry.setOrder(Integer.MAX_VALUE - 1);
@@ -3,6 +3,8 @@ package com.qrcoffee.backend.config;
 import com.qrcoffee.backend.common.Constants;
 import com.qrcoffee.backend.entity.Order;
 import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.service.RateLimitBackend;
+import com.qrcoffee.backend.util.RateLimitPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -17,17 +19,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * WebSocket Rate Limiting 및 연결 관리 인터셉터
+ * 연결 속도 제한은 RateLimitBackend 버킷 사용 (shared 설정 시 전체 서버 합산), 동시 연결 수 제한은 서버별
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
     
+    private static final String ADMIN_SEAT_TOPIC_SUFFIX = "/seats";
+    private static final Pattern PUBLIC_MENU_TOPIC = Pattern.compile("^/topic/public/stores/\\d{1,18}/menus$");
+    private static final RateLimitPolicy CONNECT_POLICY = new RateLimitPolicy("ws-connect",
+            Constants.RateLimit.WS_CONNECT_BURST, Constants.RateLimit.WS_CONNECT_RATE);
+    
     private final OrderRepository orderRepository;
+    private final RateLimitBackend rateLimitBackend;
     
     // IP별 연결 수 추적
     private final Map<String, AtomicInteger> connectionCounts = new ConcurrentHashMap<>();
@@ -85,6 +95,7 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
      * SUBSCRIBE 권한 검증
      * 관리자 채널: storeId 일치 확인
      * 고객 채널: orderId 소유권 확인
+     * 매장 메뉴 채널: 공개 (storeId 형식만 확인)
      */
     private boolean validateSubscribePermission(StompHeaderAccessor accessor) {
         String destination = accessor.getDestination();
@@ -92,12 +103,17 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             return false;
         }
         
+        // 매장 메뉴 상태 채널 구독 검증: /topic/public/stores/{storeId}/menus
+        if (PUBLIC_MENU_TOPIC.matcher(destination).matches()) {
+            return true;
+        }
+        
         Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
         if (sessionAttributes == null) {
             return false;
         }
         
-        // 관리자 채널 구독 검증: /topic/admin/{storeId}
+        // 관리자 채널 구독 검증: /topic/admin/{storeId}, /topic/admin/{storeId}/seats
         if (destination.startsWith("/topic/admin/")) {
             Long userStoreId = (Long) sessionAttributes.get("storeId");
             if (userStoreId == null) {
@@ -107,6 +123,9 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             
             try {
                 String storeIdStr = destination.substring("/topic/admin/".length());
+                if (storeIdStr.endsWith(ADMIN_SEAT_TOPIC_SUFFIX)) {
+                    storeIdStr = storeIdStr.substring(0, storeIdStr.length() - ADMIN_SEAT_TOPIC_SUFFIX.length());
+                }
                 Long targetStoreId = Long.parseLong(storeIdStr);
                 
                 if (!userStoreId.equals(targetStoreId)) {
@@ -156,17 +175,10 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
     }
     
     /**
-     * Rate Limiting 체크 (1초당 1개 연결)
+     * Rate Limiting 체크 (IP별 WS_CONNECT_BURST개까지 연속 허용, 이후 초당 WS_CONNECT_RATE개)
      */
     private boolean checkRateLimit(String ipAddress) {
-        Long lastTime = lastConnectionTime.get(ipAddress);
-        if (lastTime != null) {
-            long timeSinceLastConnection = System.currentTimeMillis() - lastTime;
-            if (timeSinceLastConnection < Constants.WebSocket.CONNECTION_RATE_LIMIT_MS) {
-                return false;
-            }
-        }
-        return true;
+        return rateLimitBackend.tryAcquire(CONNECT_POLICY, ipAddress, 1) <= 0;
     }
     
     /**
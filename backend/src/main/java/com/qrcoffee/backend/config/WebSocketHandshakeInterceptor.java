@@ -1,5 +1,7 @@
 package com.qrcoffee.backend.config;
 
+import com.qrcoffee.backend.service.TokenRevocationService;
+import com.qrcoffee.backend.util.JwtPrincipal;
 import com.qrcoffee.backend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ import java.util.Map;
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
     
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
     
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
@@ -68,17 +71,18 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
         
         try {
             // 토큰 검증
-            String email = jwtUtil.getEmailFromToken(token);
-            if (!StringUtils.hasText(email) || !jwtUtil.isTokenValid(token, email)) {
+            JwtPrincipal principal = jwtUtil.authenticate(token);
+            String email = principal.email();
+            if (!StringUtils.hasText(email) || tokenRevocationService.isRevoked(principal.tokenId())) {
                 log.warn("관리자 WebSocket 연결 거부: 유효하지 않은 토큰.");
                 response.setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
                 return false;
             }
             
             // 사용자 정보를 attributes에 저장
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            String role = jwtUtil.getRoleFromToken(token);
-            Long storeId = jwtUtil.getStoreIdFromToken(token);
+            Long userId = principal.userId();
+            String role = principal.role();
+            Long storeId = principal.storeId();
             
             attributes.put("userId", userId);
             attributes.put("userEmail", email);
@@ -111,9 +115,10 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
         String token = extractTokenFromRequest(request);
         if (StringUtils.hasText(token)) {
             try {
-                String email = jwtUtil.getEmailFromToken(token);
-                if (jwtUtil.isTokenValid(token, email)) {
-                    Long userId = jwtUtil.getUserIdFromToken(token);
+                JwtPrincipal principal = jwtUtil.authenticate(token);
+                String email = principal.email();
+                if (StringUtils.hasText(email)) {
+                    Long userId = principal.userId();
                     attributes.put("userId", userId);
                     attributes.put("userEmail", email);
                     log.debug("고객 WebSocket 연결 (인증됨): {}", email);
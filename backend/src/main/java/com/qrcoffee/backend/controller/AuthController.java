@@ -5,7 +5,9 @@ import com.qrcoffee.backend.common.BaseController;
 import com.qrcoffee.backend.dto.JwtResponse;
 import com.qrcoffee.backend.dto.LoginRequest;
 import com.qrcoffee.backend.dto.SignupRequest;
+import com.qrcoffee.backend.dto.TokenRefreshRequest;
 import com.qrcoffee.backend.dto.UserResponse;
+import com.qrcoffee.backend.service.AuthTokenService;
 import com.qrcoffee.backend.service.UserService;
 import com.qrcoffee.backend.util.RequestUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +30,7 @@ import java.security.Principal;
 public class AuthController extends BaseController {
     
     private final UserService userService;
+    private final AuthTokenService authTokenService;
     
     /**
      * 회원가입
@@ -45,14 +48,25 @@ public class AuthController extends BaseController {
      * 로그인
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                          HttpServletRequest httpRequest) {
         log.info("로그인 요청: {}", request.getEmail());
         
-        JwtResponse jwtResponse = userService.login(request);
+        JwtResponse jwtResponse = userService.login(request, RequestUtils.getTrustedClientIpAddress(httpRequest));
         
         return success("로그인이 완료되었습니다.", jwtResponse);
     }
     
+    /**
+     * 토큰 갱신 (Refresh Token은 한 번만 사용 가능, 새 토큰 쌍 반환)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<JwtResponse>> refresh(@Valid @RequestBody TokenRefreshRequest request) {
+        JwtResponse jwtResponse = authTokenService.refresh(request.getRefreshToken());
+        
+        return success("토큰이 갱신되었습니다.", jwtResponse);
+    }
+    
     /**
      * 현재 사용자 정보 조회
      */
@@ -68,15 +82,14 @@ public class AuthController extends BaseController {
     
     /**
      * 로그아웃
-     * (클라이언트에서 토큰을 삭제하도록 안내)
+     * (현재 Access Token과 같은 로그인에서 발급된 토큰 모두 폐기)
      */
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request) {
         String userEmail = RequestUtils.getUserEmail(request);
         log.info("로그아웃 요청: {}", userEmail);
         
-        // JWT는 stateless하므로 서버에서 특별한 처리가 필요하지 않음
-        // 클라이언트에서 토큰을 삭제하면 됨
+        authTokenService.logout(RequestUtils.getTokenId(request), RequestUtils.getTokenExpiresAt(request));
         
         return success("로그아웃이 완료되었습니다.");
     }
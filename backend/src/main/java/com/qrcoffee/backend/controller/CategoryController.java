@@ -4,6 +4,7 @@ import com.qrcoffee.backend.common.ApiResponse;
 import com.qrcoffee.backend.common.BaseController;
 import com.qrcoffee.backend.dto.CategoryRequest;
 import com.qrcoffee.backend.dto.CategoryResponse;
+import com.qrcoffee.backend.dto.ReorderRequest;
 import com.qrcoffee.backend.service.CategoryService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -107,6 +108,22 @@ public class CategoryController extends BaseController {
         return success("카테고리가 수정되었습니다.", category);
     }
     
+    /**
+     * 카테고리 일괄 정렬 (마스터 계정만)
+     */
+    @PutMapping("/order")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<Void>> reorderCategories(@Valid @RequestBody ReorderRequest request,
+                                                              HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        
+        log.info("카테고리 정렬 요청: storeId={}, count={}", storeId, request.getIds().size());
+        
+        categoryService.reorderCategories(storeId, request.getIds());
+        
+        return success("카테고리 순서가 변경되었습니다.");
+    }
+    
     /**
      * 카테고리 삭제 (마스터 계정만)
      */
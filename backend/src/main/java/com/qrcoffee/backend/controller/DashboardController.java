@@ -3,9 +3,17 @@ package com.qrcoffee.backend.controller;
 import com.qrcoffee.backend.common.ApiResponse;
 import com.qrcoffee.backend.common.BaseController;
 import com.qrcoffee.backend.dto.DashboardStatsResponse;
+import com.qrcoffee.backend.dto.FranchiseStatsResponse;
+import com.qrcoffee.backend.dto.PrepTimeStatsResponse;
+import com.qrcoffee.backend.dto.SalesReportResponse;
+import com.qrcoffee.backend.dto.ScanConversionResponse;
+import com.qrcoffee.backend.service.DailyCloseService;
 import com.qrcoffee.backend.service.DashboardService;
+import com.qrcoffee.backend.service.FranchiseDashboardService;
+import com.qrcoffee.backend.service.OrderTimingService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/dashboard")
 @RequiredArgsConstructor
@@ -21,6 +31,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController extends BaseController {
     
     private final DashboardService dashboardService;
+    private final FranchiseDashboardService franchiseDashboardService;
+    private final OrderTimingService orderTimingService;
+    private final DailyCloseService dailyCloseService;
     
     /**
      * 전체 대시보드 통계 조회
@@ -107,4 +120,66 @@ public class DashboardController extends BaseController {
         
         return ResponseEntity.ok(ApiResponse.success(hourlyStats));
     }
+    
+    /**
+     * 주문 처리 시간(대기/제조) 백분위 조회
+     */
+    @GetMapping("/stats/prep-times")
+    @PreAuthorize("hasRole('MASTER') or hasRole('SUB')")
+    public ResponseEntity<ApiResponse<PrepTimeStatsResponse>> getPrepTimeStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        
+        PrepTimeStatsResponse stats = orderTimingService.getPrepTimeStats(
+                storeId, date != null ? date : LocalDate.now());
+        
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+    
+    /**
+     * QR 스캔 대비 주문 전환 조회 (좌석별/시간대별)
+     */
+    @GetMapping("/stats/scan-conversion")
+    @PreAuthorize("hasRole('MASTER') or hasRole('SUB')")
+    public ResponseEntity<ApiResponse<ScanConversionResponse>> getScanConversion(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        
+        ScanConversionResponse conversion = dashboardService.getScanConversion(
+                storeId, date != null ? date : LocalDate.now());
+        
+        return ResponseEntity.ok(ApiResponse.success(conversion));
+    }
+    
+    /**
+     * 기간 매출 리포트 조회 (마감 스냅샷 + 오늘 실시간 집계)
+     */
+    @GetMapping("/reports/sales")
+    @PreAuthorize("hasRole('MASTER') or hasRole('SUB')")
+    public ResponseEntity<ApiResponse<SalesReportResponse>> getSalesReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        
+        SalesReportResponse report = dailyCloseService.getSalesReport(storeId, from, to);
+        
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+    
+    /**
+     * 프랜차이즈(소유 매장 전체) 통계 조회
+     */
+    @GetMapping("/franchise/stats")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<FranchiseStatsResponse>> getFranchiseStats(HttpServletRequest request) {
+        Long userId = getUserId(request);
+        Long storeId = getStoreId(request);
+        
+        FranchiseStatsResponse stats = franchiseDashboardService.getFranchiseStats(userId, storeId);
+        
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
 }
@@ -0,0 +1,69 @@
+package com.qrcoffee.backend.controller;
+
+import com.qrcoffee.backend.common.BaseController;
+import com.qrcoffee.backend.service.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController extends BaseController {
+
+    private final ExportService exportService;
+
+    /**
+     * 주문/주문항목/결제 CSV 내보내기 (스트리밍)
+     * type: orders, order-items, payments
+     */
+    @GetMapping("/{type}")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @PathVariable String type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        ExportService.ExportType exportType = ExportService.ExportType.fromPath(type);
+        exportService.validateRange(from, to);
+
+        log.info("CSV 내보내기 요청: storeId={}, type={}, from={}, to={}, gzip={}", storeId, exportType, from, to, gzip);
+
+        String fileName = String.format("%s_%s_%s.csv%s", exportType.getFileName(), from, to, gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+                exportService.writeCsv(storeId, exportType, from, to, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                exportService.writeCsv(storeId, exportType, from, to, outputStream);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .body(body);
+    }
+}
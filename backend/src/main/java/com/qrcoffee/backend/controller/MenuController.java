@@ -2,13 +2,20 @@ package com.qrcoffee.backend.controller;
 
 import com.qrcoffee.backend.common.ApiResponse;
 import com.qrcoffee.backend.common.BaseController;
+import com.qrcoffee.backend.dto.MenuImportRequest;
+import com.qrcoffee.backend.dto.MenuImportResponse;
 import com.qrcoffee.backend.dto.MenuRequest;
 import com.qrcoffee.backend.dto.MenuResponse;
+import com.qrcoffee.backend.dto.ReorderRequest;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.service.MenuImageService;
+import com.qrcoffee.backend.service.MenuImportService;
 import com.qrcoffee.backend.service.MenuService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,8 +25,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -29,6 +42,8 @@ import java.util.List;
 public class MenuController extends BaseController {
     
     private final MenuService menuService;
+    private final MenuImportService menuImportService;
+    private final MenuImageService menuImageService;
     
     /**
      * 내 매장의 활성 메뉴 목록 조회
@@ -102,6 +117,53 @@ public class MenuController extends BaseController {
         return success("메뉴가 생성되었습니다.", menu);
     }
     
+    /**
+     * 메뉴 일괄 등록 - JSON (마스터 계정만, 여러 매장 동시 가능)
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<MenuImportResponse>> importMenus(@RequestBody MenuImportRequest request,
+                                                                      HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        Long userId = getUserId(httpRequest);
+        
+        log.info("메뉴 일괄 등록 요청: storeId={}, stores={}, rows={}", storeId, request.getStoreIds(),
+                request.getItems() != null ? request.getItems().size() : 0);
+        
+        MenuImportResponse result = menuImportService.importMenus(userId, storeId, request);
+        
+        return success("메뉴 일괄 등록을 처리했습니다.", result);
+    }
+    
+    /**
+     * 메뉴 일괄 등록 - CSV 파일 (마스터 계정만, 여러 매장 동시 가능)
+     */
+    @PostMapping("/import/csv")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<MenuImportResponse>> importMenusCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) List<Long> storeIds,
+            @RequestParam(defaultValue = "true") boolean createMissingCategories,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        Long userId = getUserId(httpRequest);
+        
+        log.info("메뉴 CSV 일괄 등록 요청: storeId={}, stores={}, file={}", storeId, storeIds, file.getOriginalFilename());
+        
+        MenuImportRequest options = MenuImportRequest.builder()
+                .storeIds(storeIds)
+                .createMissingCategories(createMissingCategories)
+                .dryRun(dryRun)
+                .build();
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            MenuImportResponse result = menuImportService.importCsv(userId, storeId, options, reader);
+            return success("메뉴 일괄 등록을 처리했습니다.", result);
+        } catch (IOException e) {
+            throw new BusinessException("CSV 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+    
     /**
      * 메뉴 수정 (마스터 계정만)
      */
@@ -119,6 +181,43 @@ public class MenuController extends BaseController {
         return success("메뉴가 수정되었습니다.", menu);
     }
     
+    /**
+     * 메뉴 이미지 업로드 (마스터 계정만) - 고정 크기 변환본 생성 후 imageUrl/thumbnailUrl 설정
+     */
+    @PostMapping("/{menuId}/image")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<MenuResponse>> uploadMenuImage(@PathVariable Long menuId,
+                                                                    @RequestParam("file") MultipartFile file,
+                                                                    HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        
+        log.info("메뉴 이미지 업로드 요청: menuId={}, storeId={}, size={}", menuId, storeId, file.getSize());
+        
+        try {
+            MenuResponse menu = menuImageService.uploadMenuImage(menuId, storeId, file.getBytes());
+            return success("메뉴 이미지가 등록되었습니다.", menu);
+        } catch (IOException e) {
+            throw new BusinessException("이미지 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    /**
+     * 카테고리 내 메뉴 일괄 정렬 (마스터 계정만)
+     */
+    @PutMapping("/category/{categoryId}/order")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<Void>> reorderMenus(@PathVariable Long categoryId,
+                                                         @Valid @RequestBody ReorderRequest request,
+                                                         HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        
+        log.info("메뉴 정렬 요청: storeId={}, categoryId={}, count={}", storeId, categoryId, request.getIds().size());
+        
+        menuService.reorderMenus(storeId, categoryId, request.getIds());
+        
+        return success("메뉴 순서가 변경되었습니다.");
+    }
+    
     /**
      * 메뉴 삭제 (마스터 계정만)
      */
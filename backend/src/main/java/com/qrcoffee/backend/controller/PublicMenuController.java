@@ -1,20 +1,31 @@
 package com.qrcoffee.backend.controller;
 
 import com.qrcoffee.backend.common.ApiResponse;
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.MenuCatalog;
 import com.qrcoffee.backend.dto.MenuResponse;
-import com.qrcoffee.backend.service.MenuService;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.service.MenuCatalogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 고객용 메뉴 조회 API (인증 불필요)
+ * 매장 카탈로그 스냅샷에 미리 직렬화된 본문을 그대로 전송하며, If-None-Match가 현재 ETag와 같으면 304 응답
  */
 @RestController
 @RequestMapping("/api/public/stores")
@@ -22,17 +33,77 @@ import java.util.List;
 @Slf4j
 public class PublicMenuController {
     
-    private final MenuService menuService;
+    // 메뉴 상태 브로드캐스트(catalogVersion)와 비교하기 위한 카탈로그 버전 헤더
+    private static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+    
+    private final MenuCatalogService menuCatalogService;
     
     /**
      * 고객용 메뉴 목록 조회 (인증 불필요)
      */
     @GetMapping("/{storeId}/menus")
-    public ResponseEntity<ApiResponse<List<MenuResponse>>> getMenusForCustomer(@PathVariable Long storeId) {
-        log.info("고객용 메뉴 목록 조회: storeId={}", storeId);
+    public ResponseEntity<byte[]> getMenusForCustomer(
+            @PathVariable Long storeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond(storeId, ifNoneMatch, acceptEncoding, MenuCatalog::getMenusPayload);
+    }
+    
+    /**
+     * 고객용 카테고리 목록 조회 (인증 불필요)
+     */
+    @GetMapping("/{storeId}/categories")
+    public ResponseEntity<byte[]> getCategoriesForCustomer(
+            @PathVariable Long storeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return respond(storeId, ifNoneMatch, acceptEncoding, MenuCatalog::getCategoriesPayload);
+    }
+    
+    /**
+     * 고객용 메뉴 검색 (인증 불필요, 초성 검색 지원)
+     */
+    @GetMapping("/{storeId}/menus/search")
+    public ResponseEntity<ApiResponse<List<MenuResponse>>> searchMenus(
+            @PathVariable Long storeId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + Constants.Catalog.SEARCH_DEFAULT_RESULTS) int limit) {
+        if (q.length() > Constants.Catalog.SEARCH_MAX_QUERY_LENGTH) {
+            throw new BusinessException("검색어가 너무 깁니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        List<MenuResponse> menus = menuCatalogService.search(storeId, q, limit);
+        return ResponseEntity.ok(ApiResponse.success("메뉴 검색 결과를 조회했습니다.", menus));
+    }
+    
+    private ResponseEntity<byte[]> respond(Long storeId, String ifNoneMatch, String acceptEncoding,
+                                           Function<MenuCatalog, MenuCatalog.Payload> payloadSelector) {
+        MenuCatalog catalog = menuCatalogService.getCatalog(storeId);
+        boolean gzip = MenuCatalog.acceptsGzip(acceptEncoding);
+        
+        if (catalog.matches(ifNoneMatch)) {
+            menuCatalogService.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.getEtag(gzip))
+                    .header(CATALOG_VERSION_HEADER, String.valueOf(catalog.getVersion()))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
         
-        List<MenuResponse> menus = menuService.getMenusForCustomer(storeId);
+        log.debug("고객용 메뉴 카탈로그 응답: storeId={}, version={}, gzip={}", storeId, catalog.getVersion(), gzip);
         
-        return ResponseEntity.ok(ApiResponse.success("메뉴 목록을 조회했습니다.", menus));
+        byte[] body = payloadSelector.apply(catalog).body(gzip);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .eTag(catalog.getEtag(gzip))
+                .header(CATALOG_VERSION_HEADER, String.valueOf(catalog.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
     }
 }
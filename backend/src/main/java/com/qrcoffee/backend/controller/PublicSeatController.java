@@ -2,12 +2,16 @@ package com.qrcoffee.backend.controller;
 
 import com.qrcoffee.backend.common.ApiResponse;
 import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.service.QRCodeImageService;
+import com.qrcoffee.backend.service.QrScanService;
 import com.qrcoffee.backend.service.SeatService;
 import com.qrcoffee.backend.util.QRCodeUtil;
 import com.qrcoffee.backend.util.RequestUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/public/seats")
@@ -25,6 +30,8 @@ public class PublicSeatController {
     
     private final SeatService seatService;
     private final QRCodeUtil qrCodeUtil;
+    private final QRCodeImageService qrCodeImageService;
+    private final QrScanService qrScanService;
     
     /**
      * QR코드로 좌석 정보 조회 (고객용)
@@ -35,17 +42,29 @@ public class PublicSeatController {
             @PathVariable String qrCode,
             HttpServletRequest request) {
         
-        // QR코드 스캔 로그 기록
-        String userAgent = request.getHeader("User-Agent");
-        String ipAddress = RequestUtils.getClientIpAddress(request);
-        qrCodeUtil.logQRCodeScan(qrCode, userAgent, ipAddress);
-        
-        log.info("QR코드 접근: qrCode={}, IP={}", qrCode, ipAddress);
+        log.debug("QR코드 접근: qrCode={}, IP={}", qrCode, RequestUtils.getClientIpAddress(request));
         
         SeatResponse seat = seatService.getActiveSeatByQRCode(qrCode);
+        qrScanService.record(seat);
         return ResponseEntity.ok(ApiResponse.success("좌석 정보를 조회했습니다.", seat));
     }
     
+    /**
+     * QR코드 PNG 이미지 (활성 좌석의 QR코드만, 이미지는 QR코드 값으로 고정되므로 캐시 허용)
+     */
+    @GetMapping("/qr/{qrCode}/image.png")
+    public ResponseEntity<byte[]> getQRCodeImage(
+            @PathVariable String qrCode,
+            @RequestParam(defaultValue = "300") int size) {
+        if (!seatService.validateQRCode(qrCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .body(qrCodeImageService.renderPng(qrCode, size));
+    }
+    
     /**
      * QR코드 유효성 검증 (고객용)
      */
@@ -63,9 +82,7 @@ public class PublicSeatController {
      * QR코드 URL에서 좌석 정보 조회
      */
     @GetMapping("/qr-url")
-    public ResponseEntity<ApiResponse<SeatResponse>> getSeatByQRUrl(
-            @RequestParam String url,
-            HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<SeatResponse>> getSeatByQRUrl(@RequestParam String url) {
         
         log.info("QR코드 URL 접근: url={}", url);
         
@@ -75,12 +92,8 @@ public class PublicSeatController {
                     .body(ApiResponse.error("유효하지 않은 QR코드 URL입니다."));
         }
         
-        // QR코드 스캔 로그 기록
-        String userAgent = request.getHeader("User-Agent");
-        String ipAddress = RequestUtils.getClientIpAddress(request);
-        qrCodeUtil.logQRCodeScan(qrCode, userAgent, ipAddress);
-        
         SeatResponse seat = seatService.getActiveSeatByQRCode(qrCode);
+        qrScanService.record(seat);
         return ResponseEntity.ok(ApiResponse.success("좌석 정보를 조회했습니다.", seat));
     }
     
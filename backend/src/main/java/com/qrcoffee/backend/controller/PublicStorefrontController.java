@@ -0,0 +1,36 @@
+package com.qrcoffee.backend.controller;
+
+import com.qrcoffee.backend.common.ApiResponse;
+import com.qrcoffee.backend.dto.StorefrontResponse;
+import com.qrcoffee.backend.service.QrScanService;
+import com.qrcoffee.backend.service.StorefrontService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 고객 앱 첫 화면 API (인증 불필요)
+ */
+@RestController
+@RequestMapping("/api/public/storefront")
+@RequiredArgsConstructor
+@Slf4j
+public class PublicStorefrontController {
+    
+    private final StorefrontService storefrontService;
+    private final QrScanService qrScanService;
+    
+    /**
+     * QR코드로 좌석/매장/메뉴 한 번에 조회
+     */
+    @GetMapping("/{qrCode}")
+    public ResponseEntity<ApiResponse<StorefrontResponse>> getStorefront(@PathVariable String qrCode) {
+        StorefrontResponse storefront = storefrontService.getStorefront(qrCode);
+        qrScanService.record(storefront.getSeat());
+        return ResponseEntity.ok(ApiResponse.success("매장 정보를 조회했습니다.", storefront));
+    }
+}
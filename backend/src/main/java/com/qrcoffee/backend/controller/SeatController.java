@@ -2,14 +2,20 @@ package com.qrcoffee.backend.controller;
 
 import com.qrcoffee.backend.common.ApiResponse;
 import com.qrcoffee.backend.common.BaseController;
+import com.qrcoffee.backend.dto.SeatBulkRequest;
 import com.qrcoffee.backend.dto.SeatRequest;
 import com.qrcoffee.backend.dto.SeatResponse;
 import com.qrcoffee.backend.dto.SeatStatsResponse;
+import com.qrcoffee.backend.service.QRCodeImageService;
 import com.qrcoffee.backend.service.SeatService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,7 +26,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +39,7 @@ import java.util.List;
 public class SeatController extends BaseController {
     
     private final SeatService seatService;
+    private final QRCodeImageService qrCodeImageService;
     
     /**
      * 매장의 모든 좌석 조회
@@ -91,6 +100,38 @@ public class SeatController extends BaseController {
         return success("좌석이 생성되었습니다.", seat);
     }
     
+    /**
+     * 좌석 일괄 생성 (좌석번호 패턴)
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<ApiResponse<List<SeatResponse>>> createSeatsBulk(
+            @Valid @RequestBody SeatBulkRequest request,
+            HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        List<SeatResponse> seats = seatService.createSeatsBulk(storeId, request);
+        return success(seats.size() + "개의 좌석이 생성되었습니다.", seats);
+    }
+    
+    /**
+     * 좌석 일괄 생성 후 생성된 좌석의 QR코드 인쇄용 ZIP 반환
+     */
+    @PostMapping("/bulk/qr-sheet")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<StreamingResponseBody> createSeatsBulkWithQRSheet(
+            @Valid @RequestBody SeatBulkRequest request,
+            HttpServletRequest httpRequest) {
+        Long storeId = getStoreId(httpRequest);
+        List<SeatResponse> seats = seatService.createSeatsBulk(storeId, request);
+        
+        StreamingResponseBody body = outputStream -> qrCodeImageService.writeSeatsZip(seats, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("seat_qrcodes_" + storeId + "_new.zip").build().toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+    
     /**
      * 좌석 수정
      */
@@ -157,6 +198,58 @@ public class SeatController extends BaseController {
         return success("QR코드가 재생성되었습니다.", seat);
     }
     
+    /**
+     * 좌석 QR코드 PNG 이미지
+     */
+    @GetMapping("/{seatId}/qr.png")
+    @PreAuthorize("hasRole('MASTER') or hasRole('SUB')")
+    public ResponseEntity<byte[]> getSeatQRCodePng(
+            @PathVariable Long seatId,
+            @RequestParam(defaultValue = "300") int size,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        SeatResponse seat = seatService.getSeatById(seatId, storeId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(seat.getQrCode() + "-" + size)
+                .body(qrCodeImageService.renderPng(seat.getQrCode(), size));
+    }
+    
+    /**
+     * 좌석 QR코드 SVG 이미지
+     */
+    @GetMapping("/{seatId}/qr.svg")
+    @PreAuthorize("hasRole('MASTER') or hasRole('SUB')")
+    public ResponseEntity<byte[]> getSeatQRCodeSvg(
+            @PathVariable Long seatId,
+            HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        SeatResponse seat = seatService.getSeatById(seatId, storeId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("image/svg+xml"))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(seat.getQrCode() + "-svg")
+                .body(qrCodeImageService.renderSvg(seat.getQrCode()));
+    }
+    
+    /**
+     * 매장 전체 좌석 QR코드 인쇄용 ZIP (좌석번호 라벨 포함 PNG)
+     */
+    @GetMapping("/qr-export")
+    @PreAuthorize("hasRole('MASTER')")
+    public ResponseEntity<StreamingResponseBody> exportSeatQRCodes(HttpServletRequest request) {
+        Long storeId = getStoreId(request);
+        log.info("좌석 QR코드 일괄 인쇄 요청: storeId={}", storeId);
+        
+        StreamingResponseBody body = outputStream -> qrCodeImageService.writeStoreZip(storeId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("seat_qrcodes_" + storeId + ".zip").build().toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+    
     /**
      * 좌석 통계 조회
      */
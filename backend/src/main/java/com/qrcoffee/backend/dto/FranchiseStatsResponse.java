@@ -0,0 +1,60 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FranchiseStatsResponse {
+
+    // 매장별 통계
+    private List<StoreStats> stores;
+
+    // 전체 매장 합계
+    private Totals totals;
+
+    // 일부 매장 집계 실패/시간 초과 여부
+    private Boolean partial;
+
+    public enum StoreStatsStatus {
+        OK,         // 집계 완료
+        TIMEOUT,    // 시간 예산 초과
+        FAILED      // 집계 실패
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StoreStats {
+        private Long storeId;
+        private String storeName;
+        private StoreStatsStatus status;
+        private DashboardStatsResponse.BasicStats basicStats;
+        private BigDecimal todaySales;      // 오늘 매출
+        private BigDecimal weekSales;       // 이번 주 매출
+        private BigDecimal monthSales;      // 이번 달 매출
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Totals {
+        private Integer storeCount;         // 집계 대상 매장 수
+        private Integer completedStoreCount; // 집계 완료 매장 수
+        private Long todayOrderCount;       // 오늘 주문 수
+        private Long pendingOrderCount;     // 대기 중인 주문 수
+        private Long totalOrderCount;       // 전체 주문 수
+        private BigDecimal todaySales;      // 오늘 매출
+        private BigDecimal weekSales;       // 이번 주 매출
+        private BigDecimal monthSales;      // 이번 달 매출
+    }
+}
@@ -0,0 +1,21 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메뉴 판매 상태 변경 브로드캐스트 메시지 (고객 메뉴 화면 실시간 반영용)
+ * catalogVersion보다 낮은 버전의 카탈로그를 보고 있는 클라이언트만 적용하면 됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuAvailabilityMessage {
+    
+    private Long menuId;
+    private Boolean available;
+    private Long catalogVersion;
+}
@@ -0,0 +1,115 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 매장별 고객용 메뉴 카탈로그 스냅샷 (불변)
+ * 메뉴/카테고리 변경 시 새 버전으로 교체되며, ETag는 내용 해시로 생성
+ * 응답 본문은 빌드 시 한 번 직렬화/압축해 두고 요청마다 그대로 전송
+ */
+@Getter
+public class MenuCatalog {
+    
+    private static final String GZIP_SUFFIX = "-gzip";
+    
+    private final Long storeId;
+    private final long version;
+    private final String etag;
+    private final List<MenuResponse> menus;
+    private final List<CategoryResponse> categories;
+    private final StorefrontResponse.StoreInfo store;   // 매장이 없으면 null
+    private final String storefrontJson;                // 매장 정보 + 카테고리별 메뉴 (StorefrontResponse.Catalog)
+    private final Payload menusPayload;
+    private final Payload categoriesPayload;
+    private final long builtAt;
+    
+    public MenuCatalog(Long storeId, long version, String etag,
+                       List<MenuResponse> menus, List<CategoryResponse> categories,
+                       StorefrontResponse.StoreInfo store, String storefrontJson,
+                       Payload menusPayload, Payload categoriesPayload) {
+        this.storeId = storeId;
+        this.version = version;
+        this.etag = etag;
+        this.menus = Collections.unmodifiableList(menus);
+        this.categories = Collections.unmodifiableList(categories);
+        this.store = store;
+        this.storefrontJson = storefrontJson;
+        this.menusPayload = menusPayload;
+        this.categoriesPayload = categoriesPayload;
+        this.builtAt = System.currentTimeMillis();
+    }
+    
+    /**
+     * 응답 인코딩별 ETag (강한 ETag는 표현마다 달라야 하므로 gzip 본문은 별도 값)
+     */
+    public String getEtag(boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"" : etag;
+    }
+    
+    /**
+     * If-None-Match 헤더 값과 ETag 일치 여부 (인코딩 무관)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals(getEtag(true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 미리 직렬화된 응답 본문 (원본 / gzip)
+     */
+    @Getter
+    public static class Payload {
+        private final byte[] identity;
+        private final byte[] gzip;
+        
+        public Payload(byte[] identity, byte[] gzip) {
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+        
+        public byte[] body(boolean gzipAccepted) {
+            return gzipAccepted ? gzip : identity;
+        }
+    }
+    
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 여부 (q=0은 거부로 처리)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.matches("[qQ]=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 메뉴 일괄 등록 요청
+ * 행 단위 검증 결과는 응답의 errors로 반환 (오류 행만 제외하고 나머지는 등록)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuImportRequest {
+    
+    private List<Long> storeIds;                      // 대상 매장 (비어 있으면 내 매장)
+    
+    @Builder.Default
+    private Boolean createMissingCategories = true;   // 없는 카테고리는 생성
+    
+    @Builder.Default
+    private Boolean dryRun = false;                   // 검증만 수행
+    
+    private List<Row> items;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private String categoryName;
+        private String name;
+        private String description;
+        private BigDecimal price;
+        private String imageUrl;
+        private Boolean isAvailable;
+        private Integer displayOrder;
+        private Integer stockQuantity;
+    }
+}
@@ -0,0 +1,36 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 메뉴 일괄 등록 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuImportResponse {
+    
+    private Integer storeCount;
+    private Integer rowCount;
+    private Integer createdMenus;
+    private Integer createdCategories;
+    private Integer failedRows;        // 매장별 오류 건수 합계
+    private Boolean dryRun;
+    private List<RowError> errors;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private Integer row;           // 1부터 시작 (CSV는 헤더 제외)
+        private Long storeId;          // 매장과 무관한 오류면 null
+        private String message;
+    }
+}
@@ -1,5 +1,6 @@
 package com.qrcoffee.backend.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -31,4 +32,7 @@ public class MenuRequest {
     private Boolean isAvailable = true;
     
     private Integer displayOrder = 0;
+    
+    @Min(value = 0, message = "재고는 0 이상이어야 합니다")
+    private Integer stockQuantity; // null이면 재고 관리 안 함
 } 
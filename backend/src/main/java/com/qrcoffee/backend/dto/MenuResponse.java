@@ -22,8 +22,10 @@ public class MenuResponse {
     private String description;
     private BigDecimal price;
     private String imageUrl;
+    private String thumbnailUrl;
     private Boolean isAvailable;
     private Integer displayOrder;
+    private Integer stockQuantity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -39,8 +41,10 @@ public class MenuResponse {
                 .description(menu.getDescription())
                 .price(menu.getPrice())
                 .imageUrl(menu.getImageUrl())
+                .thumbnailUrl(menu.getThumbnailUrl())
                 .isAvailable(menu.getIsAvailable())
                 .displayOrder(menu.getDisplayOrder())
+                .stockQuantity(menu.getStockQuantity())
                 .createdAt(menu.getCreatedAt())
                 .updatedAt(menu.getUpdatedAt())
                 .build();
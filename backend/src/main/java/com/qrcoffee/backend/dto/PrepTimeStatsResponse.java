@@ -0,0 +1,42 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrepTimeStatsResponse {
+    
+    private String date;                        // 날짜 (YYYY-MM-DD)
+    private Percentiles queueTime;              // 대기 시간 (접수 → 제조 시작)
+    private Percentiles prepTime;               // 제조 시간 (제조 시작 → 완료)
+    private List<HourlyPrepTime> hourlyStats;   // 시간대별 (주문 접수 시각 기준)
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Percentiles {
+        private Long count;     // 표본 수
+        private Long p50;       // 중앙값 (초)
+        private Long p90;       // 90번째 백분위 (초)
+        private Long p99;       // 99번째 백분위 (초)
+        private Long max;       // 최대값 (초)
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HourlyPrepTime {
+        private Integer hour;           // 시간 (0-23)
+        private Percentiles queueTime;  // 대기 시간
+        private Percentiles prepTime;   // 제조 시간
+    }
+}
@@ -0,0 +1,21 @@
+package com.qrcoffee.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 정렬 요청 (드래그 앤 드롭 결과 전체 ID 목록, 앞에서부터 displayOrder 0, 1, 2 ...)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderRequest {
+    
+    @NotEmpty(message = "정렬할 ID 목록은 필수입니다")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,50 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesReportResponse {
+    
+    private String from;                // 시작일 (YYYY-MM-DD)
+    private String to;                  // 종료일 (YYYY-MM-DD)
+    private Figures totals;             // 기간 합계
+    private List<DailyReport> days;     // 일별 집계
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DailyReport {
+        private String date;            // 영업일 (YYYY-MM-DD)
+        private Boolean closed;         // 마감 스냅샷 여부 (false면 실시간 집계)
+        private Figures figures;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Figures {
+        private Long orderCount;                    // 주문 수 (취소 제외)
+        private Long cancelledCount;                // 취소 주문 수
+        private Long paymentCount;                  // 승인 완료 결제 수
+        private BigDecimal totalSales;              // 총 매출
+        private BigDecimal suppliedAmount;          // 공급가액
+        private BigDecimal vat;                     // 부가세
+        private Map<String, Long> methodAmounts;    // 결제 수단별 금액
+        private Map<String, Long> methodCounts;     // 결제 수단별 건수
+        private Map<String, Long> menuQuantities;   // 메뉴별 판매 수량
+        private List<Long> hourlyOrderCounts;       // 시간대별 주문 수 (0-23시)
+        private List<Long> hourlySales;             // 시간대별 주문 금액 (0-23시)
+    }
+}
@@ -0,0 +1,45 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScanConversionResponse {
+    
+    private String date;                        // 날짜 (YYYY-MM-DD)
+    private Long scanCount;                     // QR 스캔 수
+    private Long orderCount;                    // 주문 수
+    private Double conversionRate;              // 주문 전환율 (%, 주문 수 / 스캔 수)
+    private List<SeatConversion> seats;         // 좌석별 (좌석번호 순)
+    private List<HourlyConversion> hourlyStats; // 시간대별 (0-23시)
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SeatConversion {
+        private Long seatId;
+        private String seatNumber;
+        private Long scanCount;
+        private Long orderCount;
+        private Double conversionRate;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HourlyConversion {
+        private Integer hour;           // 시간 (0-23)
+        private Long scanCount;
+        private Long orderCount;
+        private Double conversionRate;
+    }
+}
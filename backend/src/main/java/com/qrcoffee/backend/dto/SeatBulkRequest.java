@@ -0,0 +1,47 @@
+package com.qrcoffee.backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 일괄 생성 요청
+ * 좌석번호 = prefix + 번호 (padding 자리수만큼 0으로 채움, 예: prefix "A", start 1, padding 2 → A01, A02, ...)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatBulkRequest {
+    
+    @Size(max = 90, message = "좌석번호 접두어는 90자 이하여야 합니다")
+    private String prefix;
+    
+    @NotNull(message = "시작 번호는 필수입니다")
+    @Min(value = 0, message = "시작 번호는 0 이상이어야 합니다")
+    @Max(value = 999999, message = "시작 번호는 999999 이하여야 합니다")
+    private Integer startNumber;
+    
+    @NotNull(message = "생성할 좌석 수는 필수입니다")
+    @Min(value = 1, message = "생성할 좌석 수는 1개 이상이어야 합니다")
+    @Max(value = 200, message = "한 번에 최대 200개까지 생성할 수 있습니다")
+    private Integer count;
+    
+    @Min(value = 0, message = "자리수는 0 이상이어야 합니다")
+    @Max(value = 6, message = "자리수는 6 이하여야 합니다")
+    private Integer padding;
+    
+    @Size(max = 255, message = "좌석 설명은 255자 이하여야 합니다")
+    private String description;
+    
+    @Min(value = 1, message = "최대 수용 인원은 1명 이상이어야 합니다")
+    @Max(value = 20, message = "최대 수용 인원은 20명 이하여야 합니다")
+    private Integer maxCapacity;
+    
+    private Boolean isActive;
+}
@@ -0,0 +1,23 @@
+package com.qrcoffee.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 점유 상태 변경 메시지 (관리자 좌석 현황판 실시간 반영용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatOccupancyMessage {
+    
+    private Long seatId;
+    private String seatNumber;
+    private Boolean isOccupied;
+    private LocalDateTime lastUsedAt;
+}
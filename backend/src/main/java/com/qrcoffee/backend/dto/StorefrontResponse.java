@@ -0,0 +1,59 @@
+package com.qrcoffee.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 고객 앱 첫 화면용 응답 (좌석 + 매장 상태 + 카테고리별 메뉴)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorefrontResponse {
+    
+    private SeatResponse seat;
+    private Long catalogVersion;
+    
+    // 카탈로그 스냅샷에 미리 직렬화된 Catalog JSON
+    @JsonRawValue
+    private String catalog;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Catalog {
+        private StoreInfo store;
+        private List<CategoryGroup> categories;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StoreInfo {
+        private Long id;
+        private String name;
+        private String address;
+        private String phone;
+        private String businessHours;
+        private Boolean isActive;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryGroup {
+        private Long id;
+        private String name;
+        private Integer displayOrder;
+        private List<MenuResponse> menus;
+    }
+}
@@ -0,0 +1,11 @@
+package com.qrcoffee.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class TokenRefreshRequest {
+    
+    @NotBlank(message = "Refresh Token은 필수입니다")
+    private String refreshToken;
+}
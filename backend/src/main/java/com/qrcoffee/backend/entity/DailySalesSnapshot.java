@@ -0,0 +1,93 @@
+package com.qrcoffee.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일 마감 매출 스냅샷 (마감 후 변경 불가)
+ */
+@Entity
+@Immutable
+@Table(name = "daily_sales_snapshots", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_daily_sales_store_date", columnNames = {"store_id", "business_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class DailySalesSnapshot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+    
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate; // 영업일
+    
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount; // 주문 수 (취소 제외)
+    
+    @Column(name = "cancelled_count", nullable = false)
+    private Long cancelledCount; // 취소 주문 수
+    
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount; // 승인 완료 결제 수
+    
+    @Column(name = "total_sales", nullable = false, precision = 12, scale = 0)
+    private BigDecimal totalSales; // 총 매출 (승인 완료 결제 합계)
+    
+    @Column(name = "supplied_amount", nullable = false, precision = 12, scale = 0)
+    private BigDecimal suppliedAmount; // 공급가액
+    
+    @Column(name = "vat", nullable = false, precision = 12, scale = 0)
+    private BigDecimal vat; // 부가세
+    
+    @Column(name = "method_amounts", columnDefinition = "JSON")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Long> methodAmounts; // 결제 수단별 금액
+    
+    @Column(name = "method_counts", columnDefinition = "JSON")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Long> methodCounts; // 결제 수단별 건수
+    
+    @Column(name = "menu_quantities", columnDefinition = "JSON")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Long> menuQuantities; // 메뉴별 판매 수량 (주문 당시 메뉴명 기준)
+    
+    @Column(name = "hourly_order_counts", columnDefinition = "JSON")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<Long> hourlyOrderCounts; // 시간대별 주문 수 (0-23시)
+    
+    @Column(name = "hourly_sales", columnDefinition = "JSON")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<Long> hourlySales; // 시간대별 주문 금액 (0-23시)
+    
+    @CreatedDate
+    @Column(name = "closed_at", updatable = false)
+    private LocalDateTime closedAt; // 마감 시각
+}
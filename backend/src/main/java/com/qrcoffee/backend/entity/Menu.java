@@ -49,12 +49,18 @@ public class Menu {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
     
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;  // 업로드 이미지의 가장 작은 변환본 (imageUrl을 직접 바꾸면 null)
+    
     @Column(name = "is_available")
     private Boolean isAvailable = true;
     
     @Column(name = "display_order")
     private Integer displayOrder = 0;
     
+    @Column(name = "stock_quantity", updatable = false)
+    private Integer stockQuantity;  // 남은 재고 (null이면 재고 관리 안 함, 변경은 MenuRepository 조건부 UPDATE로만)
+    
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
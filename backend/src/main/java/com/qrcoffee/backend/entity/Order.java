@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -28,7 +29,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_store_created_desc", columnList = "store_id, created_at DESC"),
+    @Index(name = "idx_orders_store_status_created", columnList = "store_id, status, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -72,6 +76,18 @@ public class Order {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    @Column(name = "preparing_started_at")
+    private LocalDateTime preparingStartedAt; // 제조 시작 시각
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt; // 제조 완료 시각
+    
+    @Column(name = "picked_up_at")
+    private LocalDateTime pickedUpAt; // 수령 완료 시각
+    
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt; // 취소 시각
+    
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
@@ -131,6 +147,7 @@ public class Order {
             throw new IllegalStateException("주문접수 상태에서만 제조를 시작할 수 있습니다.");
         }
         this.status = OrderStatus.PREPARING;
+        this.preparingStartedAt = LocalDateTime.now();
     }
     
     /**
@@ -141,6 +158,7 @@ public class Order {
             throw new IllegalStateException("제조중 상태에서만 완료 처리할 수 있습니다.");
         }
         this.status = OrderStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
     }
     
     /**
@@ -151,6 +169,7 @@ public class Order {
             throw new IllegalStateException("제조완료 상태에서만 수령 완료 처리할 수 있습니다.");
         }
         this.status = OrderStatus.PICKED_UP;
+        this.pickedUpAt = LocalDateTime.now();
     }
     
     /**
@@ -162,6 +181,7 @@ public class Order {
         }
         this.status = OrderStatus.CANCELLED;
         this.paymentStatus = PaymentStatus.CANCELLED;
+        this.cancelledAt = LocalDateTime.now();
     }
 }
 
@@ -0,0 +1,55 @@
+package com.qrcoffee.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 Refresh Token (사용 시마다 새 토큰으로 교체)
+ *
+ * - 같은 로그인에서 이어지는 토큰은 familyId를 공유
+ * - 이미 사용된 토큰이 다시 제출되면 탈취로 보고 계열 전체를 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+    
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId; // jti
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    
+    @Column(name = "access_token_id", nullable = false, length = 36)
+    private String accessTokenId; // 함께 발급한 Access Token의 jti
+    
+    @Column(name = "access_expires_at", nullable = false)
+    private LocalDateTime accessExpiresAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt; // 교체/폐기 시각
+    
+    @Column(name = "replaced_by", length = 36)
+    private String replacedBy; // 교체된 새 토큰 ID
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.qrcoffee.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 Access Token (만료 후 삭제)
+ */
+@Entity
+@Immutable
+@Table(name = "revoked_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId; // jti
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 토큰 만료 시각
+    
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt; // 다른 서버 동기화 기준
+}
@@ -67,10 +67,20 @@ public class Seat {
     @Column(name = "qr_generated_at")
     private LocalDateTime qrGeneratedAt;
     
+    // QR코드 재생성 횟수 (서명 QR코드에 포함, 재생성 시 이전 QR코드 폐기)
+    @Column(name = "qr_generation", nullable = false)
+    @Builder.Default
+    private Integer qrGeneration = 0;
+    
     // 마지막 사용 시점
     @Column(name = "last_used_at")
     private LocalDateTime lastUsedAt;
     
+    // 주문으로 점유된 좌석 여부 (자동 해제 대상, 관리자가 직접 변경하면 false)
+    @Column(name = "occupied_by_order", nullable = false)
+    @Builder.Default
+    private Boolean occupiedByOrder = false;
+    
     // 복합 인덱스 제약조건 추가
     @Table(indexes = {
         @Index(name = "idx_seat_store_number", columnList = "storeId, seatNumber", unique = true),
@@ -45,6 +45,9 @@ public class Store {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    @Column(name = "owner_user_id")
+    private Long ownerUserId;  // 가맹 본사(MASTER) 사용자 ID
+    
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
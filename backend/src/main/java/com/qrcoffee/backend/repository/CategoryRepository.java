@@ -4,6 +4,7 @@ import com.qrcoffee.backend.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * 매장별 카테고리명 중복 검사 (신규 생성시)
      */
     boolean existsByStoreIdAndName(Long storeId, String name);
-} 
+    
+    /**
+     * 여러 매장의 카테고리 조회 (일괄 등록 검증용)
+     */
+    List<Category> findByStoreIdIn(Collection<Long> storeIds);
+}
@@ -0,0 +1,24 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.entity.DailySalesSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailySalesSnapshotRepository extends JpaRepository<DailySalesSnapshot, Long> {
+    
+    /**
+     * 매장별 기간 내 마감 스냅샷 조회 (영업일순)
+     */
+    List<DailySalesSnapshot> findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(
+            Long storeId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 매장별 영업일 마감 스냅샷 조회
+     */
+    Optional<DailySalesSnapshot> findByStoreIdAndBusinessDate(Long storeId, LocalDate businessDate);
+}
@@ -0,0 +1,113 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.entity.Category;
+import com.qrcoffee.backend.entity.Menu;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴/카테고리 일괄 쓰기 (JDBC batch)
+ * JPA IDENTITY 전략은 insert를 묶지 못하므로 대량 등록/정렬은 여기서 처리
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 다중 VALUES 한 문장으로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuBatchRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 카테고리 일괄 등록
+     */
+    public void insertCategories(List<Category> categories) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (store_id, name, display_order, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                categories, Constants.Import.BATCH_SIZE,
+                (ps, category) -> {
+                    ps.setLong(1, category.getStoreId());
+                    ps.setString(2, category.getName());
+                    ps.setInt(3, category.getDisplayOrder());
+                    ps.setBoolean(4, category.getIsActive());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+    }
+    
+    /**
+     * 메뉴 일괄 등록
+     */
+    public void insertMenus(List<Menu> menus) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO menus (store_id, category_id, name, description, price, image_url, " +
+                "is_available, display_order, stock_quantity, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                menus, Constants.Import.BATCH_SIZE,
+                (ps, menu) -> {
+                    ps.setLong(1, menu.getStoreId());
+                    ps.setLong(2, menu.getCategoryId());
+                    ps.setString(3, menu.getName());
+                    ps.setString(4, menu.getDescription());
+                    ps.setBigDecimal(5, menu.getPrice());
+                    ps.setString(6, menu.getImageUrl());
+                    ps.setBoolean(7, menu.getIsAvailable());
+                    ps.setInt(8, menu.getDisplayOrder());
+                    if (menu.getStockQuantity() != null) {
+                        ps.setInt(9, menu.getStockQuantity());
+                    } else {
+                        ps.setNull(9, Types.INTEGER);
+                    }
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+    }
+    
+    /**
+     * 메뉴 표시 순서 일괄 변경 (menuId → displayOrder)
+     * 변경되지 않은 행이 있으면(다른 매장 ID이거나 그 사이 삭제) 예외를 던져 호출 트랜잭션 전체를 롤백
+     */
+    public void updateMenuDisplayOrders(Long storeId, Map<Long, Integer> displayOrders) {
+        updateDisplayOrders("UPDATE menus SET display_order = ?, updated_at = ? WHERE id = ? AND store_id = ?",
+                storeId, displayOrders);
+    }
+    
+    /**
+     * 카테고리 표시 순서 일괄 변경 (categoryId → displayOrder)
+     * 변경되지 않은 행이 있으면 예외를 던져 호출 트랜잭션 전체를 롤백
+     */
+    public void updateCategoryDisplayOrders(Long storeId, Map<Long, Integer> displayOrders) {
+        updateDisplayOrders("UPDATE categories SET display_order = ?, updated_at = ? WHERE id = ? AND store_id = ?",
+                storeId, displayOrders);
+    }
+    
+    private void updateDisplayOrders(String sql, Long storeId, Map<Long, Integer> displayOrders) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(sql, new ArrayList<>(displayOrders.entrySet()), Constants.Import.BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, entry.getKey());
+                    ps.setLong(4, storeId);
+                });
+        // rewriteBatchedStatements 사용 시 건별 결과는 SUCCESS_NO_INFO(-2)로 오므로 0만 실패로 판단
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, 1, 0);
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.qrcoffee.backend.repository;
 
 import com.qrcoffee.backend.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,4 +60,38 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     @Query("SELECT m FROM Menu m WHERE m.storeId = :storeId AND m.isAvailable = true " +
            "ORDER BY m.categoryId ASC, m.displayOrder ASC")
     List<Menu> findActiveMenusForCustomer(@Param("storeId") Long storeId);
-} 
+    
+    /**
+     * 매장의 메뉴 목록 조회 (ID 목록 기준)
+     */
+    List<Menu> findByStoreIdAndIdIn(Long storeId, Collection<Long> ids);
+    
+    /**
+     * 여러 매장의 메뉴명 조회 (일괄 등록 중복 검사용, [storeId, name])
+     */
+    @Query("SELECT m.storeId, m.name FROM Menu m WHERE m.storeId IN :storeIds")
+    List<Object[]> findNamesByStoreIdIn(@Param("storeIds") Collection<Long> storeIds);
+    
+    /**
+     * 재고 차감 (남은 재고가 충분할 때만, 반영된 행 수 반환)
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stockQuantity = m.stockQuantity - :quantity " +
+           "WHERE m.id = :menuId AND m.stockQuantity >= :quantity")
+    int decrementStock(@Param("menuId") Long menuId, @Param("quantity") int quantity);
+    
+    /**
+     * 재고 수량 설정 (관리자 수정, null이면 재고 관리 해제)
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stockQuantity = :stockQuantity WHERE m.id = :menuId")
+    int updateStockQuantity(@Param("menuId") Long menuId, @Param("stockQuantity") Integer stockQuantity);
+    
+    /**
+     * 재고 반환 (재고 관리 메뉴만)
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stockQuantity = m.stockQuantity + :quantity " +
+           "WHERE m.id = :menuId AND m.stockQuantity IS NOT NULL")
+    int incrementStock(@Param("menuId") Long menuId, @Param("quantity") int quantity);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -36,5 +37,18 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<Object[]> findPopularMenusByStoreId(@Param("storeId") Long storeId, 
                                              @Param("cancelledStatus") Order.OrderStatus cancelledStatus,
                                              Pageable pageable);
+    
+    /**
+     * 매장별 기간 내 메뉴별 판매 수량 (취소 제외)
+     */
+    @Query("SELECT oi.menuName, SUM(oi.quantity) " +
+           "FROM OrderItem oi " +
+           "JOIN oi.order o " +
+           "WHERE o.storeId = :storeId AND o.status != :cancelledStatus " +
+           "AND o.createdAt >= :startDate AND o.createdAt < :endDate " +
+           "GROUP BY oi.menuName")
+    List<Object[]> findMenuQuantitiesByStoreIdAndDateRange(@Param("storeId") Long storeId,
+                                                           @Param("cancelledStatus") Order.OrderStatus cancelledStatus,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
 }
-
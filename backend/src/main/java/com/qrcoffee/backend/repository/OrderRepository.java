@@ -34,10 +34,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByIdAndStoreId(Long id, Long storeId);
     
     /**
-     * 매장별 특정 날짜 주문 개수
+     * 매장별 기간 내 주문 개수 [startDate, endDate)
+     * created_at을 함수로 감싸지 않아 (store_id, created_at) 인덱스 범위 검색 사용
      */
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.storeId = :storeId AND DATE(o.createdAt) = DATE(:date)")
-    long countByStoreIdAndDate(@Param("storeId") Long storeId, @Param("date") LocalDateTime date);
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.storeId = :storeId " +
+           "AND o.createdAt >= :startDate AND o.createdAt < :endDate")
+    long countByStoreIdAndDateRange(@Param("storeId") Long storeId,
+                                    @Param("startDate") LocalDateTime startDate,
+                                    @Param("endDate") LocalDateTime endDate);
     
     /**
      * 매장별 특정 상태 주문 개수
@@ -50,28 +54,82 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     long countByStoreIdAndStatusNot(Long storeId, Order.OrderStatus status);
     
     /**
-     * 매장별 시간대별 통계 조회 (오늘)
+     * 매장 좌석별 주문 수 [startDate, endDate) → [seatId, orderCount]
+     */
+    @Query("SELECT o.seatId, COUNT(o) FROM Order o " +
+           "WHERE o.storeId = :storeId AND o.createdAt >= :startDate AND o.createdAt < :endDate " +
+           "GROUP BY o.seatId")
+    List<Object[]> countBySeatAndDateRange(@Param("storeId") Long storeId,
+                                           @Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 매장별 시간대별 통계 조회 [startDate, endDate)
+     */
+    @Query("SELECT HOUR(o.createdAt) as hour, COUNT(o) as orderCount, COALESCE(SUM(o.totalAmount), 0) as salesAmount " +
+           "FROM Order o " +
+           "WHERE o.storeId = :storeId AND o.createdAt >= :startDate AND o.createdAt < :endDate " +
+           "GROUP BY HOUR(o.createdAt) " +
+           "ORDER BY hour ASC")
+    List<Object[]> findHourlyStatsByStoreId(@Param("storeId") Long storeId,
+                                            @Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 매장별 시간대별 통계 조회 [startDate, endDate), 취소 주문 제외 (일 마감 매출 집계용)
      */
     @Query("SELECT HOUR(o.createdAt) as hour, COUNT(o) as orderCount, COALESCE(SUM(o.totalAmount), 0) as salesAmount " +
            "FROM Order o " +
-           "WHERE o.storeId = :storeId AND DATE(o.createdAt) = DATE(:date) " +
+           "WHERE o.storeId = :storeId AND o.status != :cancelledStatus " +
+           "AND o.createdAt >= :startDate AND o.createdAt < :endDate " +
            "GROUP BY HOUR(o.createdAt) " +
            "ORDER BY hour ASC")
-    List<Object[]> findHourlyStatsByStoreId(@Param("storeId") Long storeId, @Param("date") LocalDateTime date);
+    List<Object[]> findHourlyStatsByStoreIdExcludingStatus(@Param("storeId") Long storeId,
+                                                           @Param("cancelledStatus") Order.OrderStatus cancelledStatus,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 매장별 기간 내 주문 처리 시각 조회 (처리 시간 히스토그램 복원용)
+     * 접수/제조 시작/제조 완료 시각만 조회
+     */
+    @Query("SELECT o.createdAt, o.preparingStartedAt, o.completedAt FROM Order o " +
+           "WHERE o.storeId = :storeId AND o.createdAt >= :startDate AND o.createdAt < :endDate " +
+           "AND o.preparingStartedAt IS NOT NULL")
+    List<Object[]> findTimingsByStoreIdAndDateRange(@Param("storeId") Long storeId,
+                                                    @Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate);
     
     /**
      * 매장별 기본 통계 조회 (단일 쿼리로 통합)
      * 오늘 주문 수, 대기 주문 수, 오늘 매출액, 전체 주문 수를 한 번에 조회
+     * 항목별 스칼라 서브쿼리로 분리하여 각각 인덱스 범위 검색 사용 (날짜 컬럼에 DATE() 미사용)
      */
     @Query(value = "SELECT " +
-           "COUNT(CASE WHEN DATE(o.created_at) = DATE(:today) THEN 1 END) as todayOrderCount, " +
-           "COUNT(CASE WHEN o.status = 'PENDING' THEN 1 END) as pendingOrderCount, " +
-           "COALESCE(SUM(CASE WHEN DATE(p.approved_at) = DATE(:today) AND p.status = 'DONE' THEN p.amount ELSE 0 END), 0) as todaySalesAmount, " +
-           "COUNT(CASE WHEN o.status != 'CANCELLED' THEN 1 END) as totalOrderCount " +
+           "(SELECT COUNT(*) FROM orders o WHERE o.store_id = :storeId " +
+           "AND o.created_at >= :startDate AND o.created_at < :endDate) as todayOrderCount, " +
+           "(SELECT COUNT(*) FROM orders o WHERE o.store_id = :storeId AND o.status = 'PENDING') as pendingOrderCount, " +
+           "(SELECT COALESCE(SUM(p.amount), 0) FROM orders o JOIN payments p ON p.order_id = o.id " +
+           "WHERE o.store_id = :storeId AND p.status = 'DONE' " +
+           "AND p.approved_at >= :startDate AND p.approved_at < :endDate) as todaySalesAmount, " +
+           "(SELECT COUNT(*) FROM orders o WHERE o.store_id = :storeId AND o.status <> 'CANCELLED') as totalOrderCount",
+           nativeQuery = true)
+    Object[] findBasicStatsByStoreId(@Param("storeId") Long storeId,
+                                     @Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 매장별 기간 내 주문 수 (취소 제외, 취소)
+     */
+    @Query(value = "SELECT " +
+           "COUNT(CASE WHEN o.status <> 'CANCELLED' THEN 1 END) as orderCount, " +
+           "COUNT(CASE WHEN o.status = 'CANCELLED' THEN 1 END) as cancelledCount " +
            "FROM orders o " +
-           "LEFT JOIN payments p ON o.id = p.order_id " +
-           "WHERE o.store_id = :storeId", nativeQuery = true)
-    Object[] findBasicStatsByStoreId(@Param("storeId") Long storeId, @Param("today") LocalDateTime today);
+           "WHERE o.store_id = :storeId AND o.created_at >= :startDate AND o.created_at < :endDate",
+           nativeQuery = true)
+    Object[] findOrderCountsByStoreIdAndDateRange(@Param("storeId") Long storeId,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
     
     /**
      * 매장별 주문 상태별 개수 조회 (단일 쿼리로 통합)
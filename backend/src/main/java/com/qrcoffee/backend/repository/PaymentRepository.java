@@ -1,7 +1,9 @@
 package com.qrcoffee.backend.repository;
 
 import com.qrcoffee.backend.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,6 +30,21 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Optional<Payment> findByOrderId(Long orderId);
     
+    /**
+     * 특정 시각 이전에 요청된 특정 상태의 결제를 afterId 다음부터 ID 순으로 조회 (재고 예약 만료 처리용)
+     */
+    List<Payment> findByStatusAndRequestedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            String status, LocalDateTime requestedBefore, Long afterId, Pageable pageable);
+    
+    /**
+     * 현재 상태가 일치할 때만 상태 변경 (여러 서버에서 동시에 처리해도 한 번만 반영)
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :newStatus WHERE p.id = :paymentId AND p.status = :currentStatus")
+    int updateStatusIfCurrent(@Param("paymentId") Long paymentId,
+                              @Param("currentStatus") String currentStatus,
+                              @Param("newStatus") String newStatus);
+    
     /**
      * 매장별 기간 내 완료된 결제 조회 (매출 통계용)
      * Payment와 Order 간 관계가 없으므로 orderId를 통해 조회
@@ -46,11 +63,13 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     /**
      * 매장별 일별 매출 통계 조회 (최근 N일)
      * GROUP BY를 사용하여 단일 쿼리로 처리
+     * 필터는 approved_at 반개구간 비교만 사용하고 DATE()는 그룹핑에만 적용
+     * (orders(store_id) → payments(order_id, status, approved_at) 인덱스 조인)
      */
     @Query(value = "SELECT DATE(p.approved_at) as date, " +
            "COUNT(p.id) as orderCount, " +
            "COALESCE(SUM(p.amount), 0) as amount " +
-           "FROM payments p JOIN orders o ON p.order_id = o.id " +
+           "FROM orders o JOIN payments p ON p.order_id = o.id " +
            "WHERE o.store_id = :storeId AND p.status = 'DONE' " +
            "AND p.approved_at >= :startDate AND p.approved_at < :endDate " +
            "GROUP BY DATE(p.approved_at) " +
@@ -60,5 +79,34 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
+    
+    /**
+     * 매장별 기간 내 승인 완료 결제 합계 (건수, 금액, 공급가액, 부가세)
+     */
+    @Query(value = "SELECT COUNT(p.id) as paymentCount, " +
+           "COALESCE(SUM(p.amount), 0) as totalAmount, " +
+           "COALESCE(SUM(p.supplied_amount), 0) as suppliedAmount, " +
+           "COALESCE(SUM(p.vat), 0) as vat " +
+           "FROM orders o JOIN payments p ON p.order_id = o.id " +
+           "WHERE o.store_id = :storeId AND p.status = 'DONE' " +
+           "AND p.approved_at >= :startDate AND p.approved_at < :endDate", nativeQuery = true)
+    Object[] findSalesSummaryByStoreId(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+    
+    /**
+     * 매장별 기간 내 결제 수단별 건수/금액
+     */
+    @Query(value = "SELECT p.method as method, COUNT(p.id) as paymentCount, COALESCE(SUM(p.amount), 0) as amount " +
+           "FROM orders o JOIN payments p ON p.order_id = o.id " +
+           "WHERE o.store_id = :storeId AND p.status = 'DONE' " +
+           "AND p.approved_at >= :startDate AND p.approved_at < :endDate " +
+           "GROUP BY p.method", nativeQuery = true)
+    List<Object[]> findMethodBreakdownByStoreId(
+            @Param("storeId") Long storeId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
 }
-
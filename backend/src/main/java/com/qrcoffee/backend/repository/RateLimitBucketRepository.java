@@ -0,0 +1,82 @@
+package com.qrcoffee.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 서버 공유 Rate Limit 버킷 (rate_limit_buckets)
+ *
+ * - GCRA: 버킷마다 다음 토큰이 보충되는 이론 시각(tat, 마이크로초)만 저장
+ * - 허용 판정과 갱신을 조건부 UPDATE 한 번으로 처리 (행 잠금 외 별도 잠금 없음)
+ * - tat가 현재보다 과거인 행은 버킷이 가득 찬 상태와 같으므로 삭제해도 동작이 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateLimitBucketRepository {
+    
+    private static final int MAX_ATTEMPTS = 2;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 토큰 사용 시도
+     *
+     * @param incrementMicros 사용할 토큰 수 × 토큰 보충 간격
+     * @param toleranceMicros burst × 토큰 보충 간격
+     * @return 허용이면 0, 거부면 허용될 때까지 대기 시간 (마이크로초)
+     * @throws ConcurrencyFailureException 재시도 후에도 판정하지 못한 경우 (허용하지 않고 호출 측 대체 한도 적용)
+     */
+    public long tryAcquire(String policy, String key, long nowMicros, long incrementMicros, long toleranceMicros) {
+        if (incrementMicros > toleranceMicros) {
+            return incrementMicros - toleranceMicros; // burst보다 큰 요청은 허용될 수 없음
+        }
+        
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int updated = jdbcTemplate.update(
+                    "UPDATE rate_limit_buckets SET tat = GREATEST(tat, ?) + ? " +
+                    "WHERE policy = ? AND bucket_key = ? AND GREATEST(tat, ?) + ? - ? <= ?",
+                    nowMicros, incrementMicros, policy, key, nowMicros, incrementMicros, nowMicros, toleranceMicros);
+            if (updated > 0) {
+                return 0;
+            }
+            
+            List<Long> tats = jdbcTemplate.queryForList(
+                    "SELECT tat FROM rate_limit_buckets WHERE policy = ? AND bucket_key = ?",
+                    Long.class, policy, key);
+            if (!tats.isEmpty()) {
+                return Math.max(1, Math.max(tats.get(0), nowMicros) + incrementMicros - toleranceMicros - nowMicros);
+            }
+            
+            // 처음 보는 키: 다른 서버가 먼저 생성했으면 0건이므로 UPDATE부터 다시 시도
+            int inserted = jdbcTemplate.update(
+                    "INSERT IGNORE INTO rate_limit_buckets (policy, bucket_key, tat) VALUES (?, ?, ?)",
+                    policy, key, nowMicros + incrementMicros);
+            if (inserted > 0) {
+                return 0;
+            }
+        }
+        throw new ConcurrencyFailureException("Rate limit bucket could not be resolved: " + policy + ":" + key);
+    }
+    
+    /**
+     * 사용하지 않은 토큰 반납 (행이 없으면 이미 가득 찬 버킷이므로 무시)
+     *
+     * @param decrementMicros 반납할 토큰 수 × 토큰 보충 간격
+     */
+    public void release(String policy, String key, long decrementMicros) {
+        jdbcTemplate.update(
+                "UPDATE rate_limit_buckets SET tat = tat - ? WHERE policy = ? AND bucket_key = ?",
+                decrementMicros, policy, key);
+    }
+    
+    /**
+     * 가득 찬 버킷 삭제
+     */
+    public int deleteIdle(long nowMicros) {
+        return jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE tat < ?", nowMicros);
+    }
+}
@@ -0,0 +1,62 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    
+    /**
+     * Access Token으로 함께 발급된 Refresh Token 조회 (로그아웃 시 계열 확인)
+     */
+    Optional<RefreshToken> findByAccessTokenId(String accessTokenId);
+    
+    /**
+     * 계열 내 아직 만료되지 않은 Access Token이 있는 토큰 조회
+     */
+    List<RefreshToken> findByFamilyIdAndAccessExpiresAtAfter(String familyId, LocalDateTime now);
+    
+    /**
+     * 사용자의 아직 만료되지 않은 Access Token이 있는 토큰 조회
+     */
+    List<RefreshToken> findByUserIdAndAccessExpiresAtAfter(Long userId, LocalDateTime now);
+    
+    /**
+     * 사용 처리 (교체). 이미 사용/폐기된 토큰이면 0 반환 (동시 사용 시 한 요청만 성공)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now, r.replacedBy = :replacedBy " +
+           "WHERE r.tokenId = :tokenId AND r.revokedAt IS NULL")
+    int markUsed(@Param("tokenId") String tokenId,
+                 @Param("replacedBy") String replacedBy,
+                 @Param("now") LocalDateTime now);
+    
+    /**
+     * 계열 전체 폐기
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 사용자의 모든 토큰 폐기
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.userId = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 만료된 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    
+    /**
+     * 만료되지 않은 폐기 토큰 전체 조회 (기동 시 적재)
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+    
+    /**
+     * 기준 시각 이후 폐기된 토큰 조회 (다른 서버의 폐기 동기화)
+     */
+    List<RevokedToken> findByRevokedAtAfter(LocalDateTime since);
+    
+    /**
+     * 만료된 폐기 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,87 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.entity.Seat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 일괄 쓰기 (JDBC batch)
+ * JPA IDENTITY 전략은 insert를 묶지 못하므로 좌석 일괄 생성은 여기서 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatBatchRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 좌석 일괄 등록
+     */
+    public void insertSeats(List<Seat> seats) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO seats (store_id, seat_number, description, qr_code, is_active, is_occupied, " +
+                "max_capacity, qr_code_image_url, qr_generated_at, qr_generation, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                seats, Constants.Import.BATCH_SIZE,
+                (ps, seat) -> {
+                    ps.setLong(1, seat.getStoreId());
+                    ps.setString(2, seat.getSeatNumber());
+                    ps.setString(3, seat.getDescription());
+                    ps.setString(4, seat.getQrCode());
+                    ps.setBoolean(5, seat.getIsActive());
+                    ps.setBoolean(6, seat.getIsOccupied());
+                    ps.setInt(7, seat.getMaxCapacity());
+                    ps.setString(8, seat.getQrCodeImageUrl());
+                    ps.setTimestamp(9, Timestamp.valueOf(seat.getQrGeneratedAt()));
+                    ps.setInt(10, seat.getQrGeneration());
+                    ps.setTimestamp(11, Timestamp.valueOf(seat.getCreatedAt()));
+                    ps.setTimestamp(12, Timestamp.valueOf(seat.getUpdatedAt()));
+                });
+    }
+    
+    /**
+     * 매장 좌석번호 → 좌석 ID (일괄 등록 후 생성된 ID 확인용)
+     */
+    public Map<String, Long> findSeatIds(Long storeId, List<String> seatNumbers) {
+        String placeholders = String.join(", ", Collections.nCopies(seatNumbers.size(), "?"));
+        List<Object> args = new ArrayList<>(seatNumbers.size() + 1);
+        args.add(storeId);
+        args.addAll(seatNumbers);
+        
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT seat_number, id FROM seats WHERE store_id = ? AND seat_number IN (" + placeholders + ")",
+                rs -> {
+                    ids.put(rs.getString(1), rs.getLong(2));
+                },
+                args.toArray());
+        return ids;
+    }
+    
+    /**
+     * QR코드 일괄 변경 (서명 QR코드처럼 좌석 ID가 필요한 코드를 등록 후 반영)
+     */
+    public void updateQrCodes(List<Seat> seats) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE seats SET qr_code = ?, qr_code_image_url = ?, updated_at = ? WHERE id = ? AND store_id = ?",
+                seats, Constants.Import.BATCH_SIZE,
+                (ps, seat) -> {
+                    ps.setString(1, seat.getQrCode());
+                    ps.setString(2, seat.getQrCodeImageUrl());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, seat.getId());
+                    ps.setLong(5, seat.getStoreId());
+                });
+    }
+}
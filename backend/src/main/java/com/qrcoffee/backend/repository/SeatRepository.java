@@ -1,11 +1,14 @@
 package com.qrcoffee.backend.repository;
 
+import com.qrcoffee.backend.entity.Order;
 import com.qrcoffee.backend.entity.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,9 +39,38 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     // ID와 매장 ID로 좌석 조회
     Optional<Seat> findByIdAndStoreId(Long id, Long storeId);
     
+    // QR코드를 재생성한 좌석의 현재 세대 [seatId, qrGeneration] (서명 QR코드 폐기 판정용)
+    @Query("SELECT s.id, s.qrGeneration FROM Seat s WHERE s.qrGeneration > 0")
+    List<Object[]> findQrGenerations();
+    
     // QR코드 중복 체크
     boolean existsByQrCode(String qrCode);
     
+    // 이미 사용 중인 QR코드 (일괄 생성 시 한 번에 중복 체크)
+    @Query("SELECT s.qrCode FROM Seat s WHERE s.qrCode IN :qrCodes")
+    List<String> findExistingQrCodes(@Param("qrCodes") Collection<String> qrCodes);
+    
+    // 매장에 이미 있는 좌석번호 (일괄 생성 시 한 번에 중복 체크)
+    @Query("SELECT s.seatNumber FROM Seat s WHERE s.storeId = :storeId AND s.seatNumber IN :seatNumbers")
+    List<String> findExistingSeatNumbers(@Param("storeId") Long storeId, @Param("seatNumbers") Collection<String> seatNumbers);
+    
+    // 주문으로 점유 중인 좌석의 [ID, 매장 ID] (기동 시 자동 해제 일정 복구용, 관리자가 직접 점유한 좌석 제외)
+    @Query("SELECT s.id, s.storeId FROM Seat s WHERE s.isOccupied = true AND s.occupiedByOrder = true")
+    List<Object[]> findOrderOccupiedSeatIds();
+    
+    /**
+     * 주문으로 점유된 좌석 해제 (idleSince 이후 새 주문이 없고 진행 중인 주문도 없을 때만, 관리자가 직접 점유한 좌석 제외)
+     * @return 해제된 행 수 (0이면 이미 해제됐거나 다시 사용 중)
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.isOccupied = false, s.occupiedByOrder = false, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.id = :seatId AND s.isOccupied = true AND s.occupiedByOrder = true " +
+           "AND (s.lastUsedAt IS NULL OR s.lastUsedAt <= :idleSince) " +
+           "AND NOT EXISTS (SELECT o.id FROM Order o WHERE o.seatId = s.id AND o.status IN :openStatuses)")
+    int releaseIfIdle(@Param("seatId") Long seatId,
+                      @Param("idleSince") java.time.LocalDateTime idleSince,
+                      @Param("openStatuses") Collection<Order.OrderStatus> openStatuses);
+    
     // 매장의 총 좌석 수
     long countByStoreId(Long storeId);
     
@@ -0,0 +1,78 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.common.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석별 시간대 QR 스캔 집계 (seat_scan_stats)
+ * 집계 단위 행에 누적만 하므로 JPA 엔티티 없이 JDBC로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatScanStatsRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 스캔 수 누적 (없으면 생성, 있으면 더함). 일부만 반영된 채 재시도되지 않도록 한 트랜잭션으로 처리
+     * 집계 전에 삭제된 좌석의 행은 건너뜀 (seats와 조인해 존재하는 좌석만 반영, FK 위반으로 batch 전체가 실패하지 않도록)
+     */
+    @Transactional
+    public void addScanCounts(List<ScanCount> counts) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO seat_scan_stats (seat_id, scan_hour, store_id, scan_count) " +
+                "SELECT s.id, ?, s.store_id, ? FROM seats s WHERE s.id = ? AND s.store_id = ? " +
+                "ON DUPLICATE KEY UPDATE scan_count = scan_count + VALUES(scan_count)",
+                counts, Constants.Import.BATCH_SIZE,
+                (ps, count) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(count.scanHour()));
+                    ps.setLong(2, count.count());
+                    ps.setLong(3, count.seatId());
+                    ps.setLong(4, count.storeId());
+                });
+    }
+    
+    /**
+     * 좌석별 스캔 수 [startDate, endDate) (좌석 ID → 스캔 수)
+     */
+    public Map<Long, Long> findSeatScanCounts(Long storeId, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT seat_id, SUM(scan_count) FROM seat_scan_stats " +
+                "WHERE store_id = ? AND scan_hour >= ? AND scan_hour < ? GROUP BY seat_id",
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getLong(2));
+                },
+                storeId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+        return counts;
+    }
+    
+    /**
+     * 시간대별 스캔 수 [startDate, endDate) (시 0-23 → 스캔 수)
+     */
+    public Map<Integer, Long> findHourlyScanCounts(Long storeId, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<Integer, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT HOUR(scan_hour), SUM(scan_count) FROM seat_scan_stats " +
+                "WHERE store_id = ? AND scan_hour >= ? AND scan_hour < ? GROUP BY HOUR(scan_hour)",
+                rs -> {
+                    counts.put(rs.getInt(1), rs.getLong(2));
+                },
+                storeId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+        return counts;
+    }
+    
+    /**
+     * 좌석/시간대별 스캔 수
+     */
+    public record ScanCount(Long storeId, Long seatId, LocalDateTime scanHour, long count) {}
+}
@@ -19,4 +19,9 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * ID와 활성 상태로 매장 조회
      */
     Optional<Store> findByIdAndIsActive(Long id, Boolean isActive);
+    
+    /**
+     * 소유자(가맹 본사 MASTER)별 활성 매장 조회
+     */
+    List<Store> findByOwnerUserIdAndIsActive(Long ownerUserId, Boolean isActive);
 } 
@@ -0,0 +1,161 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.JwtResponse;
+import com.qrcoffee.backend.entity.RefreshToken;
+import com.qrcoffee.backend.entity.User;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.RefreshTokenRepository;
+import com.qrcoffee.backend.repository.UserRepository;
+import com.qrcoffee.backend.util.JwtUtil;
+import com.qrcoffee.backend.util.ValidationUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * 토큰 발급/교체/폐기 서비스
+ *
+ * - 로그인 시 Access/Refresh Token 쌍을 발급하고 Refresh Token은 서버에 기록
+ * - 갱신 시 Refresh Token을 새 토큰으로 교체 (한 번만 사용 가능). 사용된 토큰이 다시 오면 계열 전체 폐기
+ * - 로그아웃/계열 폐기 시 아직 유효한 Access Token은 폐기 목록에 추가
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AuthTokenService {
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtUtil jwtUtil;
+    
+    /**
+     * 로그인 시 새 토큰 계열 발급
+     */
+    @Transactional
+    public JwtResponse issue(User user) {
+        return issue(user, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+    
+    /**
+     * Refresh Token 교체
+     * 재사용 감지 시 계열 폐기는 예외와 함께 커밋
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public JwtResponse refresh(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException("유효하지 않은 Refresh Token입니다.", HttpStatus.UNAUTHORIZED);
+        }
+        
+        RefreshToken stored = refreshTokenRepository.findById(claims.getId())
+                .orElseThrow(() -> new BusinessException("유효하지 않은 Refresh Token입니다.", HttpStatus.UNAUTHORIZED));
+        
+        LocalDateTime now = LocalDateTime.now();
+        String nextTokenId = UUID.randomUUID().toString();
+        if (refreshTokenRepository.markUsed(stored.getTokenId(), nextTokenId, now) == 0) {
+            log.warn("사용된 Refresh Token 재사용 감지, 토큰 계열 폐기: userId={}, familyId={}",
+                    stored.getUserId(), stored.getFamilyId());
+            revokeFamily(stored.getFamilyId(), now);
+            throw new BusinessException("만료된 로그인입니다. 다시 로그인해 주세요.", HttpStatus.UNAUTHORIZED);
+        }
+        
+        User user = userRepository.findById(stored.getUserId())
+                .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다.", HttpStatus.UNAUTHORIZED));
+        ValidationUtils.validateUserActive(user);
+        
+        log.debug("Refresh Token 교체: userId={}, familyId={}", user.getId(), stored.getFamilyId());
+        return issue(user, stored.getFamilyId(), nextTokenId);
+    }
+    
+    /**
+     * 로그아웃 (현재 Access Token과 같은 계열의 토큰 전체 폐기)
+     */
+    @Transactional
+    public void logout(String accessTokenId, LocalDateTime accessExpiresAt) {
+        if (accessTokenId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationService.revoke(accessTokenId, accessExpiresAt);
+        refreshTokenRepository.findByAccessTokenId(accessTokenId)
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), now));
+    }
+    
+    /**
+     * 사용자의 모든 토큰 폐기 (계정 비활성화 등)
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.findByUserIdAndAccessExpiresAtAfter(userId, now)
+                .forEach(token -> tokenRevocationService.revoke(token.getAccessTokenId(), token.getAccessExpiresAt()));
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, now);
+        log.info("사용자 토큰 전체 폐기: userId={}, refreshTokens={}", userId, revoked);
+    }
+    
+    /**
+     * 만료된 Refresh Token 삭제
+     */
+    @Scheduled(fixedDelay = Constants.Auth.TOKEN_CLEANUP_INTERVAL_MS)
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Refresh Token 삭제: {}건", deleted);
+        }
+    }
+    
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        refreshTokenRepository.findByFamilyIdAndAccessExpiresAtAfter(familyId, now)
+                .forEach(token -> tokenRevocationService.revoke(token.getAccessTokenId(), token.getAccessExpiresAt()));
+        refreshTokenRepository.revokeFamily(familyId, now);
+    }
+    
+    private JwtResponse issue(User user, String familyId, String refreshTokenId) {
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = jwtUtil.generateAccessToken(
+                accessTokenId,
+                user.getEmail(),
+                user.getId(),
+                user.getRole().name(),
+                user.getStoreId()
+        );
+        String refreshToken = jwtUtil.generateRefreshToken(refreshTokenId, user.getEmail());
+        
+        // 토큰 만료 시각 이후로 기록 (발급 후 시각 기준)
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(refreshTokenId)
+                .userId(user.getId())
+                .familyId(familyId)
+                .accessTokenId(accessTokenId)
+                .accessExpiresAt(now.plus(jwtUtil.getAccessTokenExpiration(), ChronoUnit.MILLIS))
+                .expiresAt(now.plus(jwtUtil.getRefreshTokenExpiration(), ChronoUnit.MILLIS))
+                .createdAt(now)
+                .build());
+        
+        return new JwtResponse(
+                accessToken,
+                refreshToken,
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getRole().name(),
+                user.getStoreId()
+        );
+    }
+}
@@ -5,14 +5,20 @@ import com.qrcoffee.backend.dto.CategoryResponse;
 import com.qrcoffee.backend.entity.Category;
 import com.qrcoffee.backend.exception.BusinessException;
 import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
 import com.qrcoffee.backend.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +29,8 @@ public class CategoryService {
     
     private final CategoryRepository categoryRepository;
     private final MenuRepository menuRepository;
+    private final MenuCatalogService menuCatalogService;
+    private final MenuBatchRepository menuBatchRepository;
     
     /**
      * 매장별 활성 카테고리 목록 조회
@@ -72,6 +80,7 @@ public class CategoryService {
                 .build();
         
         Category savedCategory = categoryRepository.save(category);
+        menuCatalogService.invalidate(storeId);
         
         log.info("카테고리 생성 완료: storeId={}, categoryId={}, name={}", 
                 storeId, savedCategory.getId(), savedCategory.getName());
@@ -97,6 +106,7 @@ public class CategoryService {
         category.setIsActive(request.getIsActive());
         
         Category updatedCategory = categoryRepository.save(category);
+        menuCatalogService.invalidate(storeId);
         
         log.info("카테고리 수정 완료: categoryId={}, name={}", categoryId, request.getName());
         
@@ -118,6 +128,7 @@ public class CategoryService {
         }
         
         categoryRepository.delete(category);
+        menuCatalogService.invalidate(storeId);
         
         log.info("카테고리 삭제 완료: categoryId={}, name={}", categoryId, category.getName());
     }
@@ -132,9 +143,43 @@ public class CategoryService {
         
         category.setIsActive(!category.getIsActive());
         Category updatedCategory = categoryRepository.save(category);
+        menuCatalogService.invalidate(storeId);
         
         log.info("카테고리 상태 변경: categoryId={}, isActive={}", categoryId, updatedCategory.getIsActive());
         
         return CategoryResponse.from(updatedCategory);
     }
-} 
+    
+    /**
+     * 매장 카테고리 일괄 정렬 (매장의 전체 카테고리 ID를 원하는 순서로 전달)
+     * 순서가 바뀐 카테고리만 한 번의 batch update로 반영하고 카탈로그는 한 번만 무효화
+     */
+    @Transactional
+    public void reorderCategories(Long storeId, List<Long> categoryIds) {
+        List<Category> categories = categoryRepository.findByStoreIdOrderByDisplayOrderAsc(storeId);
+        Map<Long, Integer> currentOrders = new LinkedHashMap<>();
+        categories.forEach(category -> currentOrders.put(category.getId(), category.getDisplayOrder()));
+        if (categoryIds.size() != currentOrders.size() || !new HashSet<>(categoryIds).equals(currentOrders.keySet())) {
+            throw new BusinessException("매장의 전체 카테고리 ID를 중복 없이 전달해야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < categoryIds.size(); i++) {
+            if (!Objects.equals(currentOrders.get(categoryIds.get(i)), i)) {
+                changed.put(categoryIds.get(i), i);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        
+        try {
+            menuBatchRepository.updateCategoryDisplayOrders(storeId, changed);
+        } catch (JdbcUpdateAffectedIncorrectNumberOfRowsException e) {
+            throw new BusinessException("카테고리 목록이 변경되었습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+        }
+        menuCatalogService.invalidate(storeId);
+        
+        log.info("카테고리 정렬 변경: storeId={}, changed={}", storeId, changed.size());
+    }
+}
@@ -0,0 +1,363 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SalesReportResponse;
+import com.qrcoffee.backend.entity.DailySalesSnapshot;
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.DailySalesSnapshotRepository;
+import com.qrcoffee.backend.repository.OrderItemRepository;
+import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.repository.PaymentRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일 마감 서비스
+ *
+ * - 매일 전날 매출을 변경 불가능한 스냅샷으로 저장 (합계, 부가세, 결제 수단별, 메뉴별 수량, 시간대별 곡선)
+ * - 서비스 중단 등으로 누락된 날은 다음 마감 때 최근 DAILY_CLOSE_CATCH_UP_DAYS일 범위에서 함께 마감 (매장 등록일 이후만)
+ * - 기간 매출 리포트는 마감 스냅샷 + 오늘 실시간 집계로 구성. 스냅샷이 없는 날은 저장하지 않고 즉석 집계하며,
+ *   매장 등록일 이전은 조회하지 않음 (조회 요청이 스냅샷을 만들지 않음)
+ * - 스냅샷 저장은 리포지토리 단위 트랜잭션으로 처리 (매장별 실패가 다른 매장 마감에 영향을 주지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCloseService {
+
+    private static final String UNKNOWN_METHOD = "기타";
+
+    private final DailySalesSnapshotRepository snapshotRepository;
+    private final StoreRepository storeRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    /**
+     * 전체 활성 매장의 전날 마감 (최근 누락일 포함)
+     */
+    @Scheduled(cron = Constants.Dashboard.DAILY_CLOSE_CRON)
+    public void closePreviousDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<Store> stores = storeRepository.findByIsActive(true);
+        log.info("일 마감 시작: date={}, storeCount={}", yesterday, stores.size());
+
+        for (Store store : stores) {
+            LocalDate from = latest(yesterday.minusDays(Constants.Dashboard.DAILY_CLOSE_CATCH_UP_DAYS - 1), openingDate(store));
+            Set<LocalDate> closedDates = snapshotRepository
+                    .findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(store.getId(), from, yesterday).stream()
+                    .map(DailySalesSnapshot::getBusinessDate)
+                    .collect(Collectors.toSet());
+            for (LocalDate date = from; !date.isAfter(yesterday); date = date.plusDays(1)) {
+                if (closedDates.contains(date)) {
+                    continue;
+                }
+                try {
+                    closeDay(store.getId(), date);
+                } catch (Exception e) {
+                    log.error("일 마감 실패: storeId={}, date={}", store.getId(), date, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 매장 영업일 마감 (이미 마감된 날짜는 기존 스냅샷 반환)
+     */
+    public DailySalesSnapshot closeDay(Long storeId, LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            throw new BusinessException("오늘 이후 날짜는 마감할 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        return snapshotRepository.findByStoreIdAndBusinessDate(storeId, date)
+                .orElseGet(() -> createSnapshot(storeId, date));
+    }
+
+    /**
+     * 매장별 기간 매출 리포트 (from ~ to, 양 끝 포함)
+     */
+    public SalesReportResponse getSalesReport(Long storeId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        validateRange(from, to, today);
+        LocalDate openingDate = storeRepository.findById(storeId).map(this::openingDate).orElse(null);
+
+        Map<LocalDate, DailySalesSnapshot> snapshots = snapshotRepository
+                .findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(storeId, from, to).stream()
+                .collect(Collectors.toMap(DailySalesSnapshot::getBusinessDate, Function.identity()));
+
+        List<SalesReportResponse.DailyReport> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DailySalesSnapshot snapshot = snapshots.get(date);
+            SalesReportResponse.Figures figures;
+            if (snapshot != null) {
+                figures = toFigures(snapshot);
+            } else if (openingDate != null && date.isBefore(openingDate)) {
+                // 매장 등록 전
+                figures = emptyFigures();
+            } else {
+                // 오늘 또는 마감 누락일은 즉석 집계 (저장하지 않음, 누락일은 다음 일 마감 때 저장)
+                figures = aggregate(storeId, date);
+            }
+            boolean closed = snapshot != null;
+            days.add(SalesReportResponse.DailyReport.builder()
+                    .date(date.toString())
+                    .closed(closed)
+                    .figures(figures)
+                    .build());
+        }
+
+        return SalesReportResponse.builder()
+                .from(from.toString())
+                .to(to.toString())
+                .totals(sum(days))
+                .days(days)
+                .build();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to, LocalDate today) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException("조회 기간이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (to.isAfter(today)) {
+            throw new BusinessException("미래 날짜는 조회할 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > Constants.Dashboard.SALES_REPORT_MAX_DAYS) {
+            throw new BusinessException("조회 기간은 최대 " + Constants.Dashboard.SALES_REPORT_MAX_DAYS + "일까지 가능합니다.",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private LocalDate openingDate(Store store) {
+        return store.getCreatedAt() != null ? store.getCreatedAt().toLocalDate() : null;
+    }
+
+    private LocalDate latest(LocalDate date, LocalDate other) {
+        return other != null && other.isAfter(date) ? other : date;
+    }
+
+    private DailySalesSnapshot createSnapshot(Long storeId, LocalDate date) {
+        SalesReportResponse.Figures figures = aggregate(storeId, date);
+        DailySalesSnapshot snapshot = DailySalesSnapshot.builder()
+                .storeId(storeId)
+                .businessDate(date)
+                .orderCount(figures.getOrderCount())
+                .cancelledCount(figures.getCancelledCount())
+                .paymentCount(figures.getPaymentCount())
+                .totalSales(figures.getTotalSales())
+                .suppliedAmount(figures.getSuppliedAmount())
+                .vat(figures.getVat())
+                .methodAmounts(figures.getMethodAmounts())
+                .methodCounts(figures.getMethodCounts())
+                .menuQuantities(figures.getMenuQuantities())
+                .hourlyOrderCounts(figures.getHourlyOrderCounts())
+                .hourlySales(figures.getHourlySales())
+                .build();
+
+        try {
+            DailySalesSnapshot saved = snapshotRepository.save(snapshot);
+            log.info("일 마감 완료: storeId={}, date={}, totalSales={}", storeId, date, figures.getTotalSales());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 마감한 경우
+            log.info("이미 마감된 영업일: storeId={}, date={}", storeId, date);
+            return snapshotRepository.findByStoreIdAndBusinessDate(storeId, date).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 하루 매출 집계 (모두 날짜 범위 인덱스 조회)
+     */
+    private SalesReportResponse.Figures aggregate(Long storeId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+
+        Object[] orderCounts = unwrap(orderRepository.findOrderCountsByStoreIdAndDateRange(storeId, start, end));
+        Object[] sales = unwrap(paymentRepository.findSalesSummaryByStoreId(storeId, start, end));
+
+        Map<String, Long> methodAmounts = new LinkedHashMap<>();
+        Map<String, Long> methodCounts = new LinkedHashMap<>();
+        for (Object[] row : paymentRepository.findMethodBreakdownByStoreId(storeId, start, end)) {
+            String method = row[0] != null ? row[0].toString() : UNKNOWN_METHOD;
+            methodCounts.merge(method, toLong(row[1]), Long::sum);
+            methodAmounts.merge(method, toLong(row[2]), Long::sum);
+        }
+
+        Map<String, Long> menuQuantities = new LinkedHashMap<>();
+        for (Object[] row : orderItemRepository.findMenuQuantitiesByStoreIdAndDateRange(
+                storeId, Order.OrderStatus.CANCELLED, start, end)) {
+            if (row[0] != null) {
+                menuQuantities.merge(row[0].toString(), toLong(row[1]), Long::sum);
+            }
+        }
+
+        List<Long> hourlyOrderCounts = new ArrayList<>(Collections.nCopies(24, 0L));
+        List<Long> hourlySales = new ArrayList<>(Collections.nCopies(24, 0L));
+        for (Object[] row : orderRepository.findHourlyStatsByStoreIdExcludingStatus(
+                storeId, Order.OrderStatus.CANCELLED, start, end)) {
+            int hour = (int) toLong(row[0]);
+            if (hour >= 0 && hour < 24) {
+                hourlyOrderCounts.set(hour, toLong(row[1]));
+                hourlySales.set(hour, toLong(row[2]));
+            }
+        }
+
+        return SalesReportResponse.Figures.builder()
+                .orderCount(toLong(valueAt(orderCounts, 0)))
+                .cancelledCount(toLong(valueAt(orderCounts, 1)))
+                .paymentCount(toLong(valueAt(sales, 0)))
+                .totalSales(toBigDecimal(valueAt(sales, 1)))
+                .suppliedAmount(toBigDecimal(valueAt(sales, 2)))
+                .vat(toBigDecimal(valueAt(sales, 3)))
+                .methodAmounts(methodAmounts)
+                .methodCounts(methodCounts)
+                .menuQuantities(menuQuantities)
+                .hourlyOrderCounts(hourlyOrderCounts)
+                .hourlySales(hourlySales)
+                .build();
+    }
+
+    private SalesReportResponse.Figures toFigures(DailySalesSnapshot snapshot) {
+        return SalesReportResponse.Figures.builder()
+                .orderCount(snapshot.getOrderCount())
+                .cancelledCount(snapshot.getCancelledCount())
+                .paymentCount(snapshot.getPaymentCount())
+                .totalSales(snapshot.getTotalSales())
+                .suppliedAmount(snapshot.getSuppliedAmount())
+                .vat(snapshot.getVat())
+                .methodAmounts(nullToEmpty(snapshot.getMethodAmounts()))
+                .methodCounts(nullToEmpty(snapshot.getMethodCounts()))
+                .menuQuantities(nullToEmpty(snapshot.getMenuQuantities()))
+                .hourlyOrderCounts(snapshot.getHourlyOrderCounts())
+                .hourlySales(snapshot.getHourlySales())
+                .build();
+    }
+
+    private SalesReportResponse.Figures emptyFigures() {
+        return SalesReportResponse.Figures.builder()
+                .orderCount(0L)
+                .cancelledCount(0L)
+                .paymentCount(0L)
+                .totalSales(BigDecimal.ZERO)
+                .suppliedAmount(BigDecimal.ZERO)
+                .vat(BigDecimal.ZERO)
+                .methodAmounts(new LinkedHashMap<>())
+                .methodCounts(new LinkedHashMap<>())
+                .menuQuantities(new LinkedHashMap<>())
+                .hourlyOrderCounts(new ArrayList<>(Collections.nCopies(24, 0L)))
+                .hourlySales(new ArrayList<>(Collections.nCopies(24, 0L)))
+                .build();
+    }
+
+    /**
+     * 일별 집계 합산
+     */
+    private SalesReportResponse.Figures sum(List<SalesReportResponse.DailyReport> days) {
+        long orderCount = 0;
+        long cancelledCount = 0;
+        long paymentCount = 0;
+        BigDecimal totalSales = BigDecimal.ZERO;
+        BigDecimal suppliedAmount = BigDecimal.ZERO;
+        BigDecimal vat = BigDecimal.ZERO;
+        Map<String, Long> methodAmounts = new LinkedHashMap<>();
+        Map<String, Long> methodCounts = new LinkedHashMap<>();
+        Map<String, Long> menuQuantities = new LinkedHashMap<>();
+        List<Long> hourlyOrderCounts = new ArrayList<>(Collections.nCopies(24, 0L));
+        List<Long> hourlySales = new ArrayList<>(Collections.nCopies(24, 0L));
+
+        for (SalesReportResponse.DailyReport day : days) {
+            SalesReportResponse.Figures figures = day.getFigures();
+            orderCount += figures.getOrderCount();
+            cancelledCount += figures.getCancelledCount();
+            paymentCount += figures.getPaymentCount();
+            totalSales = totalSales.add(figures.getTotalSales());
+            suppliedAmount = suppliedAmount.add(figures.getSuppliedAmount());
+            vat = vat.add(figures.getVat());
+            figures.getMethodAmounts().forEach((key, value) -> methodAmounts.merge(key, value, Long::sum));
+            figures.getMethodCounts().forEach((key, value) -> methodCounts.merge(key, value, Long::sum));
+            figures.getMenuQuantities().forEach((key, value) -> menuQuantities.merge(key, value, Long::sum));
+            addHourly(hourlyOrderCounts, figures.getHourlyOrderCounts());
+            addHourly(hourlySales, figures.getHourlySales());
+        }
+
+        return SalesReportResponse.Figures.builder()
+                .orderCount(orderCount)
+                .cancelledCount(cancelledCount)
+                .paymentCount(paymentCount)
+                .totalSales(totalSales)
+                .suppliedAmount(suppliedAmount)
+                .vat(vat)
+                .methodAmounts(methodAmounts)
+                .methodCounts(methodCounts)
+                .menuQuantities(menuQuantities)
+                .hourlyOrderCounts(hourlyOrderCounts)
+                .hourlySales(hourlySales)
+                .build();
+    }
+
+    private void addHourly(List<Long> target, List<Long> values) {
+        if (values == null) {
+            return;
+        }
+        for (int hour = 0; hour < Math.min(24, values.size()); hour++) {
+            Long value = values.get(hour);
+            if (value != null) {
+                target.set(hour, target.get(hour) + value);
+            }
+        }
+    }
+
+    private Map<String, Long> nullToEmpty(Map<String, Long> map) {
+        return map != null ? map : new LinkedHashMap<>();
+    }
+
+    /**
+     * 단일 행 네이티브 쿼리 결과 정규화 (드라이버에 따라 Object[]가 한 번 더 감싸져 반환됨)
+     */
+    private Object[] unwrap(Object[] result) {
+        if (result != null && result.length == 1 && result[0] instanceof Object[]) {
+            return (Object[]) result[0];
+        }
+        return result;
+    }
+
+    private Object valueAt(Object[] result, int index) {
+        return result != null && index < result.length ? result[index] : null;
+    }
+
+    private long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+}
@@ -2,11 +2,15 @@ package com.qrcoffee.backend.service;
 
 import com.qrcoffee.backend.common.Constants;
 import com.qrcoffee.backend.dto.DashboardStatsResponse;
+import com.qrcoffee.backend.dto.ScanConversionResponse;
 import com.qrcoffee.backend.entity.Order;
 import com.qrcoffee.backend.entity.Payment;
+import com.qrcoffee.backend.entity.Seat;
 import com.qrcoffee.backend.repository.OrderItemRepository;
 import com.qrcoffee.backend.repository.OrderRepository;
 import com.qrcoffee.backend.repository.PaymentRepository;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.repository.SeatScanStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -21,6 +25,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,6 +39,8 @@ public class DashboardService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final OrderItemRepository orderItemRepository;
+    private final SeatRepository seatRepository;
+    private final SeatScanStatsRepository seatScanStatsRepository;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.Dashboard.DATE_FORMAT_PATTERN);
     
@@ -57,10 +64,10 @@ public class DashboardService {
      * CASE WHEN을 사용한 단일 쿼리로 N+1 문제 해결
      */
     public DashboardStatsResponse.BasicStats getBasicStats(Long storeId) {
-        LocalDateTime today = LocalDateTime.now();
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
         
-        // 단일 쿼리로 모든 기본 통계 조회
-        Object[] result = orderRepository.findBasicStatsByStoreId(storeId, today);
+        // 단일 쿼리로 모든 기본 통계 조회 (오늘 = [00:00, 다음날 00:00))
+        Object[] result = orderRepository.findBasicStatsByStoreId(storeId, startOfToday, startOfToday.plusDays(1));
         
         // 안전한 타입 변환 (null 체크 및 타입 확인)
         long todayOrderCount = extractLongValue(result, 0);
@@ -224,8 +231,9 @@ public class DashboardService {
      * 시간대별 통계 조회 (오늘)
      */
     public List<DashboardStatsResponse.HourlyStats> getHourlyStats(Long storeId) {
-        LocalDateTime today = LocalDateTime.now();
-        List<Object[]> results = orderRepository.findHourlyStatsByStoreId(storeId, today);
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        List<Object[]> results = orderRepository.findHourlyStatsByStoreId(
+                storeId, startOfToday, startOfToday.plusDays(1));
         
         // 0-23시까지 모든 시간대 초기화
         List<DashboardStatsResponse.HourlyStats> hourlyStats = new ArrayList<>();
@@ -258,6 +266,73 @@ public class DashboardService {
         return hourlyStats;
     }
     
+    /**
+     * QR 스캔 대비 주문 전환 (좌석별/시간대별, 취소 주문 포함)
+     * 스캔 집계는 수 초 주기로 반영되므로 직전 스캔은 빠질 수 있음
+     */
+    public ScanConversionResponse getScanConversion(Long storeId, LocalDate date) {
+        LocalDateTime startDate = date.atStartOfDay();
+        LocalDateTime endDate = startDate.plusDays(1);
+        
+        Map<Long, Long> seatScans = seatScanStatsRepository.findSeatScanCounts(storeId, startDate, endDate);
+        Map<Long, Long> seatOrders = new HashMap<>();
+        for (Object[] result : orderRepository.countBySeatAndDateRange(storeId, startDate, endDate)) {
+            seatOrders.put(extractLongValue(result, 0), extractLongValue(result, 1));
+        }
+        
+        List<ScanConversionResponse.SeatConversion> seats = new ArrayList<>();
+        for (Seat seat : seatRepository.findByStoreIdOrderBySeatNumberAsc(storeId)) {
+            long scans = seatScans.getOrDefault(seat.getId(), 0L);
+            long orders = seatOrders.getOrDefault(seat.getId(), 0L);
+            seats.add(ScanConversionResponse.SeatConversion.builder()
+                    .seatId(seat.getId())
+                    .seatNumber(seat.getSeatNumber())
+                    .scanCount(scans)
+                    .orderCount(orders)
+                    .conversionRate(calculateConversionRate(scans, orders))
+                    .build());
+        }
+        
+        Map<Integer, Long> hourlyScans = seatScanStatsRepository.findHourlyScanCounts(storeId, startDate, endDate);
+        Map<Integer, Long> hourlyOrders = new HashMap<>();
+        for (Object[] result : orderRepository.findHourlyStatsByStoreId(storeId, startDate, endDate)) {
+            Integer hour = extractIntegerValue(result, 0);
+            if (hour != null) {
+                hourlyOrders.put(hour, extractLongValue(result, 1));
+            }
+        }
+        
+        List<ScanConversionResponse.HourlyConversion> hourlyStats = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            long scans = hourlyScans.getOrDefault(hour, 0L);
+            long orders = hourlyOrders.getOrDefault(hour, 0L);
+            hourlyStats.add(ScanConversionResponse.HourlyConversion.builder()
+                    .hour(hour)
+                    .scanCount(scans)
+                    .orderCount(orders)
+                    .conversionRate(calculateConversionRate(scans, orders))
+                    .build());
+        }
+        
+        long totalScans = seatScans.values().stream().mapToLong(Long::longValue).sum();
+        long totalOrders = seatOrders.values().stream().mapToLong(Long::longValue).sum();
+        return ScanConversionResponse.builder()
+                .date(date.format(DATE_FORMATTER))
+                .scanCount(totalScans)
+                .orderCount(totalOrders)
+                .conversionRate(calculateConversionRate(totalScans, totalOrders))
+                .seats(seats)
+                .hourlyStats(hourlyStats)
+                .build();
+    }
+    
+    /**
+     * 주문 전환율 (%, 소수 둘째 자리). 스캔이 없으면 0
+     */
+    private double calculateConversionRate(long scans, long orders) {
+        return scans > 0 ? Math.round((double) orders / scans * 10000.0) / 100.0 : 0.0;
+    }
+    
     /**
      * 결제 목록에서 총 매출 계산
      */
@@ -0,0 +1,230 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.config.ExportDataSourceConfig.ExportDataSource;
+import com.qrcoffee.backend.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 주문/주문항목/결제 CSV 내보내기 서비스
+ *
+ * - 결과를 메모리에 모으지 않고 forward-only 커서로 한 행씩 읽어 바로 응답 스트림에 기록
+ * - 하루 단위로 쿼리를 나눠 실행하여 긴 읽기 트랜잭션(스냅샷)을 유지하지 않음 (autocommit)
+ * - 주문/주문항목은 주문 생성일, 결제는 승인일(미승인은 결제 요청일) 기준으로 날짜 구분
+ * - export.datasource.url 설정 시 읽기 전용 복제본(replica)에서 조회 (ExportDataSourceConfig)
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /**
+     * 내보내기 대상
+     */
+    public enum ExportType {
+        ORDERS("orders",
+                new String[]{"order_id", "order_number", "seat_id", "status", "payment_status",
+                        "total_amount", "customer_request", "created_at", "updated_at"},
+                "SELECT o.id, o.order_number, o.seat_id, o.status, o.payment_status, " +
+                "o.total_amount, o.customer_request, o.created_at, o.updated_at " +
+                "FROM orders o " +
+                "WHERE o.store_id = ? AND o.created_at >= ? AND o.created_at < ? " +
+                "ORDER BY o.created_at, o.id", 1),
+        ORDER_ITEMS("order-items",
+                new String[]{"order_item_id", "order_id", "order_number", "menu_id", "menu_name",
+                        "quantity", "unit_price", "total_price", "ordered_at"},
+                "SELECT oi.id, o.id, o.order_number, oi.menu_id, oi.menu_name, " +
+                "oi.quantity, oi.unit_price, oi.total_price, o.created_at " +
+                "FROM orders o JOIN order_items oi ON oi.order_id = o.id " +
+                "WHERE o.store_id = ? AND o.created_at >= ? AND o.created_at < ? " +
+                "ORDER BY o.created_at, o.id, oi.id", 1),
+        PAYMENTS("payments",
+                new String[]{"payment_id", "order_id", "order_number", "order_id_toss", "status", "method",
+                        "amount", "supplied_amount", "vat", "approved_at", "created_at"},
+                "SELECT p.id, o.id, o.order_number, p.order_id_toss, p.status, p.method, " +
+                "p.amount, p.supplied_amount, p.vat, p.approved_at, p.created_at " +
+                "FROM orders o JOIN payments p ON p.order_id = o.id " +
+                "WHERE o.store_id = ? AND ((p.approved_at >= ? AND p.approved_at < ?) " +
+                "OR (p.approved_at IS NULL AND p.created_at >= ? AND p.created_at < ?)) " +
+                "ORDER BY COALESCE(p.approved_at, p.created_at), p.id", 2);
+
+        private final String fileName;
+        private final String[] header;
+        private final String sql;
+        private final int rangeCount; // SQL의 (시작, 끝) 날짜 파라미터 쌍 개수
+
+        ExportType(String fileName, String[] header, String sql, int rangeCount) {
+            this.fileName = fileName;
+            this.header = header;
+            this.sql = sql;
+            this.rangeCount = rangeCount;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public static ExportType fromPath(String value) {
+            for (ExportType type : values()) {
+                if (type.fileName.equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            throw new BusinessException("지원하지 않는 내보내기 대상입니다: " + value, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExportService(ExportDataSource exportDataSource) {
+        this(new JdbcTemplate(exportDataSource.dataSource()));
+        // MySQL Connector/J는 fetchSize=Integer.MIN_VALUE일 때만 행 단위 스트리밍 (그 외 드라이버는 일반 fetch size)
+        String url = exportDataSource.url() != null ? exportDataSource.url() : "";
+        this.jdbcTemplate.setFetchSize(url.startsWith("jdbc:mysql:")
+                ? Integer.MIN_VALUE : Constants.Export.FETCH_SIZE);
+    }
+
+    ExportService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 조회 기간 검증
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException("조회 기간이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > Constants.Export.MAX_RANGE_DAYS) {
+            throw new BusinessException("조회 기간은 최대 " + Constants.Export.MAX_RANGE_DAYS + "일까지 가능합니다.",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * CSV를 출력 스트림에 기록 (from ~ to, 양 끝 포함)
+     */
+    public void writeCsv(Long storeId, ExportType type, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        long[] rowCount = {0};
+
+        out.write(UTF8_BOM); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeRow(writer, type.header);
+
+        // 하루 단위로 짧은 쿼리를 나눠 실행
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Object[] params = rangeParams(storeId, type, day);
+            try {
+                jdbcTemplate.query(type.sql, rs -> {
+                    writeResultRow(writer, rs, type.header.length);
+                    rowCount[0]++;
+                }, params);
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 등 출력 실패
+                throw e.getCause();
+            }
+            writer.flush();
+        }
+
+        writer.flush();
+        log.info("CSV 내보내기 완료: storeId={}, type={}, from={}, to={}, rows={}, elapsed={}ms",
+                storeId, type, from, to, rowCount[0], System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 쿼리 파라미터 (매장 ID, 이후 하루 구간 [start, end)를 rangeCount번 반복)
+     */
+    private Object[] rangeParams(Long storeId, ExportType type, LocalDate day) {
+        Timestamp start = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        Object[] params = new Object[1 + type.rangeCount * 2];
+        params[0] = storeId;
+        for (int i = 0; i < type.rangeCount; i++) {
+            params[1 + i * 2] = start;
+            params[2 + i * 2] = end;
+        }
+        return params;
+    }
+
+    private void writeResultRow(Writer writer, ResultSet rs, int columnCount) throws SQLException {
+        String[] values = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Object value = rs.getObject(i + 1);
+            if (value instanceof Timestamp) {
+                values[i] = ((Timestamp) value).toLocalDateTime().format(DATE_TIME_FORMATTER);
+            } else if (value instanceof LocalDateTime) {
+                values[i] = ((LocalDateTime) value).format(DATE_TIME_FORMATTER);
+            } else {
+                values[i] = value != null ? value.toString() : "";
+            }
+        }
+        try {
+            writeRow(writer, values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 필드 이스케이프 (수식 주입 방지 포함)
+     */
+    private String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String escaped = value;
+        char first = escaped.charAt(0);
+        if (first == '=' || first == '+' || first == '@' || (first == '-' && !isNumeric(escaped))) {
+            escaped = "'" + escaped;
+        }
+        if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0
+                || escaped.indexOf('\n') >= 0 || escaped.indexOf('\r') >= 0) {
+            escaped = "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+        return escaped;
+    }
+
+    private boolean isNumeric(String value) {
+        try {
+            new BigDecimal(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.DashboardStatsResponse;
+import com.qrcoffee.backend.dto.FranchiseStatsResponse;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.StoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프랜차이즈(다매장) 대시보드 서비스
+ * 소유 매장별 통계를 제한된 동시성으로 병렬 집계하고 시간 예산 내에 응답
+ */
+@Service
+@Slf4j
+public class FranchiseDashboardService {
+
+    private final StoreRepository storeRepository;
+    private final DashboardService dashboardService;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    @Autowired
+    public FranchiseDashboardService(StoreRepository storeRepository, DashboardService dashboardService) {
+        this(storeRepository, dashboardService, createExecutor(), Constants.Dashboard.FRANCHISE_TIMEOUT_MS);
+    }
+
+    FranchiseDashboardService(StoreRepository storeRepository, DashboardService dashboardService,
+                              ExecutorService executor, long timeoutMs) {
+        this.storeRepository = storeRepository;
+        this.dashboardService = dashboardService;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 소유 매장 전체 통계 조회
+     */
+    public FranchiseStatsResponse getFranchiseStats(Long userId, Long storeId) {
+        List<Store> stores = findOwnedStores(userId, storeId);
+        log.info("프랜차이즈 통계 조회: userId={}, storeCount={}", userId, stores.size());
+
+        // 매장별 집계 작업 제출 (풀이 가득 차면 해당 매장은 실패 처리)
+        Map<Store, Future<FranchiseStatsResponse.StoreStats>> futures = new LinkedHashMap<>();
+        for (Store store : stores) {
+            try {
+                futures.put(store, executor.submit(() -> collectStoreStats(store)));
+            } catch (RejectedExecutionException e) {
+                log.warn("프랜차이즈 집계 작업 거부: storeId={}", store.getId());
+                futures.put(store, null);
+            }
+        }
+
+        // 전체 시간 예산 내에서 결과 수집
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<FranchiseStatsResponse.StoreStats> results = new ArrayList<>();
+        for (Map.Entry<Store, Future<FranchiseStatsResponse.StoreStats>> entry : futures.entrySet()) {
+            results.add(awaitStoreStats(entry.getKey(), entry.getValue(), deadline));
+        }
+
+        FranchiseStatsResponse.Totals totals = calculateTotals(results);
+
+        return FranchiseStatsResponse.builder()
+                .stores(results)
+                .totals(totals)
+                .partial(totals.getCompletedStoreCount() < totals.getStoreCount())
+                .build();
+    }
+
+    /**
+     * 사용자가 소유한 매장 목록 (본인 소속 매장 포함)
+     */
+    private List<Store> findOwnedStores(Long userId, Long storeId) {
+        Map<Long, Store> stores = new LinkedHashMap<>();
+        if (storeId != null) {
+            storeRepository.findByIdAndIsActive(storeId, true).ifPresent(store -> stores.put(store.getId(), store));
+        }
+        if (userId != null) {
+            for (Store store : storeRepository.findByOwnerUserIdAndIsActive(userId, true)) {
+                stores.putIfAbsent(store.getId(), store);
+            }
+        }
+        if (stores.isEmpty()) {
+            throw new BusinessException("조회할 매장이 없습니다.", HttpStatus.NOT_FOUND);
+        }
+        return new ArrayList<>(stores.values());
+    }
+
+    /**
+     * 단일 매장 통계 집계 (작업 스레드에서 실행)
+     */
+    private FranchiseStatsResponse.StoreStats collectStoreStats(Store store) {
+        DashboardStatsResponse.BasicStats basicStats = dashboardService.getBasicStats(store.getId());
+        DashboardStatsResponse.SalesStats salesStats = dashboardService.getSalesStats(store.getId());
+
+        return FranchiseStatsResponse.StoreStats.builder()
+                .storeId(store.getId())
+                .storeName(store.getName())
+                .status(FranchiseStatsResponse.StoreStatsStatus.OK)
+                .basicStats(basicStats)
+                .todaySales(salesStats.getTodaySales())
+                .weekSales(salesStats.getWeekSales())
+                .monthSales(salesStats.getMonthSales())
+                .build();
+    }
+
+    /**
+     * 남은 시간 예산 내에서 매장 집계 결과 대기
+     */
+    private FranchiseStatsResponse.StoreStats awaitStoreStats(Store store,
+                                                              Future<FranchiseStatsResponse.StoreStats> future,
+                                                              long deadline) {
+        if (future == null) {
+            return emptyStoreStats(store, FranchiseStatsResponse.StoreStatsStatus.FAILED);
+        }
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("프랜차이즈 집계 시간 초과: storeId={}", store.getId());
+            return emptyStoreStats(store, FranchiseStatsResponse.StoreStatsStatus.TIMEOUT);
+        } catch (ExecutionException e) {
+            log.error("프랜차이즈 집계 실패: storeId={}", store.getId(), e.getCause());
+            return emptyStoreStats(store, FranchiseStatsResponse.StoreStatsStatus.FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return emptyStoreStats(store, FranchiseStatsResponse.StoreStatsStatus.FAILED);
+        }
+    }
+
+    private FranchiseStatsResponse.StoreStats emptyStoreStats(Store store,
+                                                              FranchiseStatsResponse.StoreStatsStatus status) {
+        return FranchiseStatsResponse.StoreStats.builder()
+                .storeId(store.getId())
+                .storeName(store.getName())
+                .status(status)
+                .build();
+    }
+
+    /**
+     * 집계 완료된 매장 기준 합계 계산
+     */
+    private FranchiseStatsResponse.Totals calculateTotals(List<FranchiseStatsResponse.StoreStats> results) {
+        long todayOrderCount = 0;
+        long pendingOrderCount = 0;
+        long totalOrderCount = 0;
+        BigDecimal todaySales = BigDecimal.ZERO;
+        BigDecimal weekSales = BigDecimal.ZERO;
+        BigDecimal monthSales = BigDecimal.ZERO;
+        int completed = 0;
+
+        for (FranchiseStatsResponse.StoreStats stats : results) {
+            if (stats.getStatus() != FranchiseStatsResponse.StoreStatsStatus.OK) {
+                continue;
+            }
+            completed++;
+            DashboardStatsResponse.BasicStats basic = stats.getBasicStats();
+            if (basic != null) {
+                todayOrderCount += nullToZero(basic.getTodayOrderCount());
+                pendingOrderCount += nullToZero(basic.getPendingOrderCount());
+                totalOrderCount += nullToZero(basic.getTotalOrderCount());
+            }
+            todaySales = todaySales.add(nullToZero(stats.getTodaySales()));
+            weekSales = weekSales.add(nullToZero(stats.getWeekSales()));
+            monthSales = monthSales.add(nullToZero(stats.getMonthSales()));
+        }
+
+        return FranchiseStatsResponse.Totals.builder()
+                .storeCount(results.size())
+                .completedStoreCount(completed)
+                .todayOrderCount(todayOrderCount)
+                .pendingOrderCount(pendingOrderCount)
+                .totalOrderCount(totalOrderCount)
+                .todaySales(todaySales)
+                .weekSales(weekSales)
+                .monthSales(monthSales)
+                .build();
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private BigDecimal nullToZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                Constants.Dashboard.FRANCHISE_MAX_CONCURRENCY,
+                Constants.Dashboard.FRANCHISE_MAX_CONCURRENCY,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Constants.Dashboard.FRANCHISE_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "franchise-dashboard-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
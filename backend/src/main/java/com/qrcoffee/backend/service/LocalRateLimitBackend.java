@@ -0,0 +1,50 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.util.RateLimitPolicy;
+import com.qrcoffee.backend.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 메모리 Rate Limit (정책별 TokenBucketRateLimiter)
+ * 여러 서버로 운영하면 한도가 서버 수만큼 늘어나므로 단일 서버/개발 환경용, 또는 공유 저장소 장애 시 대체용
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public LocalRateLimitBackend(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public long tryAcquire(RateLimitPolicy policy, String key, int cost) {
+        long result = limiter(policy).tryAcquire(key, cost);
+        return result == TokenBucketRateLimiter.OVERFLOW ? OVERFLOW : result;
+    }
+
+    @Override
+    @Scheduled(fixedDelay = Constants.RateLimit.EVICT_INTERVAL_MS)
+    public void evictIdle() {
+        limiters.values().forEach(TokenBucketRateLimiter::evictIdle);
+    }
+
+    private TokenBucketRateLimiter limiter(RateLimitPolicy policy) {
+        TokenBucketRateLimiter limiter = limiters.get(policy.name());
+        if (limiter != null) {
+            return limiter;
+        }
+        return limiters.computeIfAbsent(policy.name(), name -> {
+            TokenBucketRateLimiter created = new TokenBucketRateLimiter(
+                    name, policy.burst(), policy.ratePerSecond(), Constants.RateLimit.MAX_KEYS);
+            meterRegistry.gauge("rate.limit.keys", Tags.of("policy", name), created, TokenBucketRateLimiter::size);
+            return created;
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 실패 횟수 제한
+ *
+ * - (계정, IP)별/IP별 실패 횟수를 고정 구간 단위로 집계하고, 한도를 넘으면 비밀번호 해시 전에 거부
+ * - 계정 단위로는 차단하지 않음 (다른 곳에서 실패를 쌓아 특정 계정을 잠글 수 없도록). 계정별 실패는 비밀번호 검증 우선순위만 낮춤
+ * - 실패만 집계하므로 교대 시간에 여러 직원이 동시에 로그인해도 제한되지 않음
+ * - 로그인 성공 시 해당 계정의 실패 기록 삭제
+ */
+@Service
+@Slf4j
+public class LoginAttemptService {
+
+    private final Map<String, Failures> accountFailures = new ConcurrentHashMap<>();
+    private final Map<String, Failures> accountIpFailures = new ConcurrentHashMap<>();
+    private final Map<String, Failures> ipFailures = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    @Autowired
+    public LoginAttemptService() {
+        this(System::currentTimeMillis);
+    }
+
+    LoginAttemptService(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 시도 가능 여부 확인 (한도 초과 시 429)
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = clock.getAsLong();
+        if (count(accountIpFailures, accountIpKey(email, clientIp), now) >= Constants.Auth.LOGIN_MAX_FAILURES_PER_ACCOUNT
+                || count(ipFailures, clientIp, now) >= Constants.Auth.LOGIN_MAX_FAILURES_PER_IP) {
+            log.warn("로그인 시도 제한: email={}, ip={}", email, clientIp);
+            throw new BusinessException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 이전 실패 기록이 있는지 (비밀번호 검증 우선순위 결정용)
+     */
+    public boolean hasRecentFailures(String email, String clientIp) {
+        long now = clock.getAsLong();
+        return count(accountFailures, accountKey(email), now) > 0 || count(ipFailures, clientIp, now) > 0;
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = clock.getAsLong();
+        increment(accountFailures, accountKey(email), now);
+        increment(accountIpFailures, accountIpKey(email, clientIp), now);
+        increment(ipFailures, clientIp, now);
+    }
+
+    public void recordSuccess(String email, String clientIp) {
+        String accountKey = accountKey(email);
+        if (accountKey != null) {
+            accountFailures.remove(accountKey);
+        }
+        String accountIpKey = accountIpKey(email, clientIp);
+        if (accountIpKey != null) {
+            accountIpFailures.remove(accountIpKey);
+        }
+    }
+
+    /**
+     * 구간이 지난 기록 정리
+     */
+    @Scheduled(fixedDelay = Constants.Auth.LOGIN_ATTEMPT_CLEANUP_INTERVAL_MS)
+    public void cleanup() {
+        long now = clock.getAsLong();
+        accountFailures.values().removeIf(failures -> failures.isExpired(now));
+        accountIpFailures.values().removeIf(failures -> failures.isExpired(now));
+        ipFailures.values().removeIf(failures -> failures.isExpired(now));
+    }
+
+    private int count(Map<String, Failures> failures, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Failures current = failures.get(key);
+        return current == null || current.isExpired(now) ? 0 : current.count();
+    }
+
+    private void increment(Map<String, Failures> failures, String key, long now) {
+        if (key == null) {
+            return;
+        }
+        failures.compute(key, (k, current) -> current == null || current.isExpired(now)
+                ? new Failures(now, 1)
+                : new Failures(current.windowStart(), current.count() + 1));
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String accountIpKey(String email, String clientIp) {
+        String accountKey = accountKey(email);
+        return accountKey == null || clientIp == null ? null : accountKey + "|" + clientIp;
+    }
+
+    private record Failures(long windowStart, int count) {
+
+        boolean isExpired(long now) {
+            return now - windowStart >= Constants.Auth.LOGIN_ATTEMPT_WINDOW_MS;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.qrcoffee.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qrcoffee.backend.common.ApiResponse;
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.CategoryResponse;
+import com.qrcoffee.backend.dto.MenuCatalog;
+import com.qrcoffee.backend.dto.MenuResponse;
+import com.qrcoffee.backend.dto.StorefrontResponse;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import com.qrcoffee.backend.util.LruCache;
+import com.qrcoffee.backend.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 고객용 메뉴 카탈로그 서비스
+ *
+ * - 매장별 불변 스냅샷(매장 정보 + 카테고리 + 메뉴)을 메모리에 보관하고, 메뉴/카테고리/매장 변경 커밋 후 무효화
+ * - ETag는 내용 해시라 재빌드되어도 내용이 같으면 동일 (서버 간에도 동일)
+ * - 다른 서버에서 발생한 변경은 MAX_AGE_MS 이내에 반영
+ * - 응답 본문(ApiResponse 포함)은 버전마다 한 번만 직렬화/gzip 압축 (응답 timestamp는 빌드 시각)
+ * - 공개 API라 임의의 storeId로 조회될 수 있으므로 보관 매장 수는 LRU로 제한하고, 없거나 비활성인 매장은 보관하지 않음
+ * - 같은 매장의 동시 재빌드는 하나의 조회 결과를 공유
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class MenuCatalogService {
+    
+    private final MenuRepository menuRepository;
+    private final CategoryRepository categoryRepository;
+    private final StoreRepository storeRepository;
+    private final ObjectMapper objectMapper;
+    
+    private final LruCache<Long, MenuCatalog> catalogs = new LruCache<>(Constants.Catalog.MAX_STORES);
+    private final LruCache<Long, MenuSearchIndex> searchIndexes = new LruCache<>(Constants.Catalog.MAX_STORES);
+    private final Map<Long, Load> loads = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+    
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter notModifiedCounter;
+    private final MeterRegistry meterRegistry;
+    
+    public MenuCatalogService(MenuRepository menuRepository, CategoryRepository categoryRepository,
+                              StoreRepository storeRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.menuRepository = menuRepository;
+        this.categoryRepository = categoryRepository;
+        this.storeRepository = storeRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.hitCounter = Counter.builder("menu.catalog.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("menu.catalog.requests").tag("result", "miss").register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("menu.catalog.not.modified").register(meterRegistry);
+    }
+    
+    /**
+     * 매장 카탈로그 조회 (캐시에 없거나 만료되면 재빌드)
+     */
+    public MenuCatalog getCatalog(Long storeId) {
+        MenuCatalog catalog = catalogs.get(storeId);
+        if (catalog != null && System.currentTimeMillis() - catalog.getBuiltAt() < Constants.Catalog.MAX_AGE_MS) {
+            hitCounter.increment();
+            return catalog;
+        }
+        missCounter.increment();
+        return load(storeId);
+    }
+    
+    /**
+     * If-None-Match 일치로 본문 없이 응답한 횟수 기록
+     */
+    public void recordNotModified() {
+        notModifiedCounter.increment();
+    }
+    
+    /**
+     * 매장 메뉴 검색 (카탈로그 버전마다 해당 매장 인덱스만 새로 생성)
+     */
+    public List<MenuResponse> search(Long storeId, String query, int limit) {
+        MenuCatalog catalog = getCatalog(storeId);
+        MenuSearchIndex index = searchIndexes.get(storeId);
+        if (index == null || index.getVersion() != catalog.getVersion()) {
+            MenuSearchIndex built = new MenuSearchIndex(catalog.getVersion(), catalog.getMenus());
+            if (catalogs.get(storeId) == catalog) {
+                // 보관 중인 카탈로그의 인덱스만 보관
+                index = searchIndexes.compute(storeId, (key, existing) ->
+                        existing != null && existing.getVersion() >= built.getVersion() ? existing : built);
+            } else {
+                index = built;
+            }
+        }
+        return index.search(query, Math.min(limit, Constants.Catalog.SEARCH_MAX_RESULTS));
+    }
+    
+    /**
+     * 매장 카탈로그 무효화 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void invalidate(Long storeId) {
+        TransactionUtils.afterCommit(() -> {
+            // 카운터 증가와 제거를 캐시 잠금 안에서 함께 처리 (빌드 결과 저장과 순서 보장)
+            catalogs.compute(storeId, (key, existing) -> {
+                invalidations.incrementAndGet();
+                return null;
+            });
+            searchIndexes.remove(storeId);
+            log.debug("메뉴 카탈로그 무효화: storeId={}", storeId);
+        });
+    }
+    
+    /**
+     * 변경 알림용 버전 발급 (이후 빌드되는 카탈로그는 항상 이 값보다 큰 버전)
+     */
+    public long reserveVersion() {
+        return versionSequence.incrementAndGet();
+    }
+    
+    /**
+     * 같은 매장을 이미 빌드 중이면 그 결과를 기다려 사용 (빌드 시작 후 무효화가 있었으면 새로 빌드)
+     */
+    private MenuCatalog load(Long storeId) {
+        long invalidation = invalidations.get();
+        Load load = new Load(invalidation, new CompletableFuture<>());
+        Load inFlight = loads.putIfAbsent(storeId, load);
+        if (inFlight != null && inFlight.invalidation() == invalidation) {
+            try {
+                return inFlight.future().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        if (inFlight != null) {
+            return rebuild(storeId, invalidation);
+        }
+        
+        try {
+            MenuCatalog catalog = rebuild(storeId, invalidation);
+            load.future().complete(catalog);
+            return catalog;
+        } catch (RuntimeException e) {
+            load.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(storeId, load);
+        }
+    }
+    
+    private MenuCatalog rebuild(Long storeId, long invalidation) {
+        // 빌드 중 무효화가 일어나면 이전 데이터일 수 있으므로 캐시에 넣지 않음
+        Store storeEntity = storeRepository.findById(storeId).orElse(null);
+        if (storeEntity == null) {
+            // 없는 매장은 조회/보관하지 않음
+            return build(storeId, null, List.of(), List.of());
+        }
+        
+        List<MenuResponse> menus = menuRepository.findActiveMenusForCustomer(storeId).stream()
+                .map(MenuResponse::from)
+                .collect(Collectors.toList());
+        List<CategoryResponse> categories = categoryRepository.findByStoreIdAndIsActiveOrderByDisplayOrderAsc(storeId, true).stream()
+                .map(CategoryResponse::from)
+                .collect(Collectors.toList());
+        MenuCatalog built = build(storeId, toStoreInfo(storeEntity), menus, categories);
+        if (!Boolean.TRUE.equals(storeEntity.getIsActive())) {
+            return built; // 비활성 매장은 보관하지 않음
+        }
+        
+        catalogs.compute(storeId, (key, existing) -> {
+            if (invalidations.get() != invalidation) {
+                return existing;
+            }
+            if (existing != null && existing.getVersion() > built.getVersion()) {
+                return existing;
+            }
+            return built;
+        });
+        
+        log.debug("메뉴 카탈로그 빌드: storeId={}, version={}, menus={}", storeId, built.getVersion(), menus.size());
+        return built;
+    }
+    
+    private MenuCatalog build(Long storeId, StorefrontResponse.StoreInfo store,
+                              List<MenuResponse> menus, List<CategoryResponse> categories) {
+        String storefrontJson = toJson(StorefrontResponse.Catalog.builder()
+                .store(store)
+                .categories(groupByCategory(menus, categories))
+                .build());
+        MenuCatalog.Payload menusPayload = toPayload("menus", ApiResponse.success("메뉴 목록을 조회했습니다.", menus));
+        MenuCatalog.Payload categoriesPayload = toPayload("categories",
+                ApiResponse.success("카테고리 목록을 조회했습니다.", categories));
+        
+        // ETag는 같은 카탈로그로 응답하는 모든 본문을 포함 (활성 카테고리 밖 메뉴만 바뀌어도 변경)
+        String etag = computeEtag(menusPayload.getIdentity(), categoriesPayload.getIdentity(),
+                storefrontJson.getBytes(StandardCharsets.UTF_8));
+        return new MenuCatalog(storeId, versionSequence.incrementAndGet(),
+                etag, menus, categories, store, storefrontJson, menusPayload, categoriesPayload);
+    }
+    
+    /**
+     * 활성 카테고리 순서대로 메뉴 그룹화 (비활성 카테고리의 메뉴는 제외)
+     */
+    private List<StorefrontResponse.CategoryGroup> groupByCategory(List<MenuResponse> menus,
+                                                                   List<CategoryResponse> categories) {
+        Map<Long, List<MenuResponse>> menusByCategory = menus.stream()
+                .collect(Collectors.groupingBy(MenuResponse::getCategoryId));
+        return categories.stream()
+                .map(category -> StorefrontResponse.CategoryGroup.builder()
+                        .id(category.getId())
+                        .name(category.getName())
+                        .displayOrder(category.getDisplayOrder())
+                        .menus(menusByCategory.getOrDefault(category.getId(), List.of()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    private StorefrontResponse.StoreInfo toStoreInfo(Store store) {
+        return StorefrontResponse.StoreInfo.builder()
+                .id(store.getId())
+                .name(store.getName())
+                .address(store.getAddress())
+                .phone(store.getPhone())
+                .businessHours(store.getBusinessHours())
+                .isActive(store.getIsActive())
+                .build();
+    }
+    
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 카탈로그 직렬화 실패", e);
+        }
+    }
+    
+    private MenuCatalog.Payload toPayload(String type, Object body) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(identity);
+            }
+            byte[] compressed = buffer.toByteArray();
+            
+            payloadSize(type, "identity").record(identity.length);
+            payloadSize(type, "gzip").record(compressed.length);
+            return new MenuCatalog.Payload(identity, compressed);
+        } catch (IOException e) {
+            throw new IllegalStateException("메뉴 카탈로그 직렬화 실패", e);
+        }
+    }
+    
+    private DistributionSummary payloadSize(String type, String encoding) {
+        return DistributionSummary.builder("menu.catalog.payload.bytes")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .tag("encoding", encoding)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 진행 중인 빌드 (invalidation: 빌드 시작 시점의 무효화 카운터)
+     */
+    private record Load(long invalidation, CompletableFuture<MenuCatalog> future) {}
+    
+    private String computeEtag(byte[]... contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] content : contents) {
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(content.length).array());
+                digest.update(content);
+            }
+            byte[] hash = digest.digest();
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("메뉴 카탈로그 ETag 생성 실패", e);
+        }
+    }
+}
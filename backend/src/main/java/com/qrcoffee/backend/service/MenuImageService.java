@@ -0,0 +1,290 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.MenuResponse;
+import com.qrcoffee.backend.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메뉴 이미지 변환 서비스
+ *
+ * - 업로드 원본을 한 번만 디코딩하고 큰 변환본부터 차례로 축소해 고정 가로 크기 JPEG 변환본 생성
+ * - 파일명에 원본 내용 해시를 넣어 같은 이미지는 재처리 없이 재사용하고, 정적 경로에서 변경 불가 캐시로 제공
+ * - 디코딩/리사이즈는 메모리를 많이 쓰므로 제한된 작업 풀에서만 실행 (초과 시 503)
+ */
+@Service
+@Slf4j
+public class MenuImageService {
+
+    private static final int HASH_LENGTH = 20;
+
+    private final MenuService menuService;
+    private final Path imageRoot;
+    private final ExecutorService executor;
+
+    @Autowired
+    public MenuImageService(MenuService menuService, @Value("${file.upload-dir:./uploads}") String uploadDir) {
+        this(menuService, Paths.get(uploadDir, "menus"), createExecutor());
+    }
+
+    MenuImageService(MenuService menuService, Path imageRoot, ExecutorService executor) {
+        this.menuService = menuService;
+        this.imageRoot = imageRoot;
+        this.executor = executor;
+    }
+
+    /**
+     * 메뉴 이미지 업로드 (변환 후 가장 큰 변환본을 imageUrl, 가장 작은 변환본을 thumbnailUrl로 설정)
+     */
+    public MenuResponse uploadMenuImage(Long menuId, Long storeId, byte[] data) {
+        menuService.getMenuById(menuId, storeId); // 변환 전에 메뉴 존재 확인
+
+        StoredImage image = storeImage(storeId, data);
+        List<String> urls = image.urls();
+        return menuService.updateMenuImage(menuId, storeId, urls.get(urls.size() - 1), urls.get(0));
+    }
+
+    /**
+     * 변환본 생성 (이미 있으면 재사용). URL은 VARIANT_WIDTHS 순서
+     */
+    StoredImage storeImage(Long storeId, byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new BusinessException("이미지 파일이 비어 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        String hash = contentHash(data);
+        Path dir = imageRoot.resolve(String.valueOf(storeId));
+        StoredImage stored = toStoredImage(storeId, hash);
+        if (variantsExist(dir, hash)) {
+            return stored;
+        }
+
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                process(dir, hash, data);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            future.get(Constants.Image.PROCESS_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BusinessException("이미지 처리 시간이 초과되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException("이미지 처리가 중단되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("메뉴 이미지 변환 실패: storeId={}, hash={}", storeId, hash, e.getCause());
+            throw new BusinessException("이미지 처리에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        log.info("메뉴 이미지 변환 완료: storeId={}, hash={}, bytes={}", storeId, hash, data.length);
+        return stored;
+    }
+
+    private void process(Path dir, String hash, byte[] data) throws IOException {
+        BufferedImage current = toRgb(decode(data));
+        Files.createDirectories(dir);
+
+        // 큰 변환본부터 만들고 다음 변환본은 직전 결과에서 축소 (원본보다 크게 확대하지 않음)
+        int[] widths = Constants.Image.VARIANT_WIDTHS;
+        for (int i = widths.length - 1; i >= 0; i--) {
+            current = resize(current, Math.min(widths[i], current.getWidth()));
+            writeJpeg(current, dir, fileName(hash, widths[i]));
+        }
+    }
+
+    /**
+     * 헤더로 크기를 먼저 확인한 뒤 디코딩 (과도하게 큰 이미지로 메모리를 소진하지 않도록)
+     */
+    private BufferedImage decode(byte[] data) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new BusinessException("지원하지 않는 이미지 형식입니다.", HttpStatus.BAD_REQUEST);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > Constants.Image.MAX_SOURCE_PIXELS) {
+                    throw new BusinessException("이미지 해상도가 너무 큽니다.", HttpStatus.BAD_REQUEST);
+                }
+                return reader.read(0);
+            } catch (IOException e) {
+                throw new BusinessException("이미지를 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG는 알파 채널이 없으므로 흰 배경 RGB로 변환
+     */
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 절반씩 단계적으로 축소 후 목표 크기로 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = scale(current, current.getWidth() / 2);
+        }
+        return current.getWidth() == targetWidth ? current : scale(current, targetWidth);
+    }
+
+    private BufferedImage scale(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체 (같은 이미지를 동시에 올려도 불완전한 파일이 노출되지 않음)
+     */
+    private void writeJpeg(BufferedImage image, Path dir, String fileName) throws IOException {
+        Path temp = Files.createTempFile(dir, fileName, ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (OutputStream out = Files.newOutputStream(temp);
+                 ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(Constants.Image.JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(imageOut);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, dir.resolve(fileName), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean variantsExist(Path dir, String hash) {
+        for (int width : Constants.Image.VARIANT_WIDTHS) {
+            if (!Files.exists(dir.resolve(fileName(hash, width)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private StoredImage toStoredImage(Long storeId, String hash) {
+        List<String> urls = new ArrayList<>(Constants.Image.VARIANT_WIDTHS.length);
+        for (int width : Constants.Image.VARIANT_WIDTHS) {
+            urls.add(Constants.Image.URL_PREFIX + storeId + "/" + fileName(hash, width));
+        }
+        return new StoredImage(hash, urls);
+    }
+
+    private String fileName(String hash, int width) {
+        return hash + "-" + width + ".jpg";
+    }
+
+    private String contentHash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                Constants.Image.WORKER_THREADS,
+                Constants.Image.WORKER_THREADS,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Constants.Image.QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "menu-image-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 변환 결과 (hash: 원본 내용 해시, urls: VARIANT_WIDTHS 순서의 변환본 URL)
+     */
+    record StoredImage(String hash, List<String> urls) {}
+}
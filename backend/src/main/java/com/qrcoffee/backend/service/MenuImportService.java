@@ -0,0 +1,406 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.MenuImportRequest;
+import com.qrcoffee.backend.dto.MenuImportResponse;
+import com.qrcoffee.backend.entity.Category;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메뉴 일괄 등록 서비스
+ *
+ * - 대상 매장들의 카테고리/메뉴명을 한 번에 읽어 메모리에서 검증하고, 통과한 행만 JDBC batch로 등록
+ * - 행 단위 오류는 응답으로 반환 (매장별로 판정하므로 같은 행이 일부 매장에서만 실패할 수 있음)
+ * - 매장당 카탈로그 무효화는 한 번
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MenuImportService {
+    
+    private static final List<String> CSV_COLUMNS = List.of(
+            "categoryname", "name", "description", "price", "imageurl", "isavailable", "displayorder", "stockquantity");
+    
+    private final StoreRepository storeRepository;
+    private final CategoryRepository categoryRepository;
+    private final MenuRepository menuRepository;
+    private final MenuBatchRepository menuBatchRepository;
+    private final MenuCatalogService menuCatalogService;
+    
+    /**
+     * JSON 요청 일괄 등록
+     */
+    @Transactional
+    public MenuImportResponse importMenus(Long userId, Long storeId, MenuImportRequest request) {
+        return importRows(userId, storeId, request, request.getItems(), new ArrayList<>());
+    }
+    
+    /**
+     * CSV 일괄 등록 (헤더: categoryName,name,description,price,imageUrl,isAvailable,displayOrder,stockQuantity)
+     */
+    @Transactional
+    public MenuImportResponse importCsv(Long userId, Long storeId, MenuImportRequest options, Reader csv) {
+        List<MenuImportResponse.RowError> errors = new ArrayList<>();
+        List<MenuImportRequest.Row> rows = parseCsv(csv, errors);
+        return importRows(userId, storeId, options, rows, errors);
+    }
+    
+    private MenuImportResponse importRows(Long userId, Long storeId, MenuImportRequest options,
+                                          List<MenuImportRequest.Row> rows, List<MenuImportResponse.RowError> errors) {
+        if (rows == null || rows.isEmpty()) {
+            throw new BusinessException("등록할 메뉴가 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (rows.size() > Constants.Import.MAX_ROWS) {
+            throw new BusinessException("한 번에 최대 " + Constants.Import.MAX_ROWS + "개까지 등록할 수 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        List<Long> storeIds = resolveStores(userId, storeId, options.getStoreIds());
+        boolean createCategories = !Boolean.FALSE.equals(options.getCreateMissingCategories());
+        boolean dryRun = Boolean.TRUE.equals(options.getDryRun());
+        
+        // 매장과 무관한 행 검증 (필수값, 길이, 배치 내 중복)
+        boolean[] valid = new boolean[rows.size()];
+        Set<String> batchNames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) == null) {
+                continue; // CSV 형식 오류 행 (파싱 단계에서 오류 기록)
+            }
+            String message = validateRow(rows.get(i));
+            if (message == null && !batchNames.add(nameKey(rows.get(i).getName()))) {
+                message = "요청 안에 같은 메뉴명이 있습니다.";
+            }
+            if (message != null) {
+                errors.add(rowError(i + 1, null, message));
+            } else {
+                valid[i] = true;
+            }
+        }
+        
+        // 대상 매장의 기존 카테고리/메뉴명 일괄 조회
+        Map<Long, Map<String, Category>> categoriesByStore = new HashMap<>();
+        Map<Long, Integer> nextCategoryOrder = new HashMap<>();
+        for (Category category : categoryRepository.findByStoreIdIn(storeIds)) {
+            categoriesByStore.computeIfAbsent(category.getStoreId(), id -> new HashMap<>()).put(nameKey(category.getName()), category);
+            int displayOrder = category.getDisplayOrder() != null ? category.getDisplayOrder() : 0;
+            nextCategoryOrder.merge(category.getStoreId(), displayOrder + 1, Math::max);
+        }
+        Map<Long, Set<String>> namesByStore = new HashMap<>();
+        for (Object[] row : menuRepository.findNamesByStoreIdIn(storeIds)) {
+            namesByStore.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add(nameKey((String) row[1]));
+        }
+        
+        // 매장별 판정: 새 카테고리 → 메뉴 순으로 등록 대상 수집
+        List<Category> newCategories = new ArrayList<>();
+        Map<Long, Set<String>> pendingCategoryNames = new HashMap<>();
+        List<PendingMenu> pendingMenus = new ArrayList<>();
+        for (Long targetStoreId : storeIds) {
+            Map<String, Category> categories = categoriesByStore.getOrDefault(targetStoreId, Map.of());
+            Set<String> existingNames = namesByStore.getOrDefault(targetStoreId, Set.of());
+            Set<String> newCategoryNames = pendingCategoryNames.computeIfAbsent(targetStoreId, id -> new LinkedHashSet<>());
+            
+            for (int i = 0; i < rows.size(); i++) {
+                if (!valid[i]) {
+                    continue;
+                }
+                MenuImportRequest.Row row = rows.get(i);
+                String categoryName = row.getCategoryName().trim();
+                String name = row.getName().trim();
+                
+                if (existingNames.contains(nameKey(name))) {
+                    errors.add(rowError(i + 1, targetStoreId, "이미 존재하는 메뉴명입니다: " + name));
+                    continue;
+                }
+                String categoryKey = nameKey(categoryName);
+                if (!categories.containsKey(categoryKey)) {
+                    if (!createCategories) {
+                        errors.add(rowError(i + 1, targetStoreId, "존재하지 않는 카테고리입니다: " + categoryName));
+                        continue;
+                    }
+                    if (newCategoryNames.add(categoryKey)) {
+                        int order = nextCategoryOrder.merge(targetStoreId, 1, Integer::sum) - 1;
+                        newCategories.add(Category.builder()
+                                .storeId(targetStoreId)
+                                .name(categoryName)
+                                .displayOrder(order)
+                                .isActive(true)
+                                .build());
+                    }
+                }
+                pendingMenus.add(new PendingMenu(targetStoreId, categoryKey, row));
+            }
+        }
+        
+        if (!dryRun) {
+            write(storeIds, newCategories, pendingMenus);
+        }
+        
+        log.info("메뉴 일괄 등록{}: stores={}, rows={}, menus={}, categories={}, errors={}",
+                dryRun ? " (검증만)" : "", storeIds.size(), rows.size(), pendingMenus.size(), newCategories.size(), errors.size());
+        
+        return MenuImportResponse.builder()
+                .storeCount(storeIds.size())
+                .rowCount(rows.size())
+                .createdMenus(pendingMenus.size())
+                .createdCategories(newCategories.size())
+                .failedRows(errors.size())
+                .dryRun(dryRun)
+                .errors(errors)
+                .build();
+    }
+    
+    private void write(List<Long> storeIds, List<Category> newCategories, List<PendingMenu> pendingMenus) {
+        if (!newCategories.isEmpty()) {
+            menuBatchRepository.insertCategories(newCategories);
+        }
+        
+        // 새로 생성된 카테고리 ID 포함해서 조회 (JDBC insert와 같은 트랜잭션/커넥션)
+        Map<Long, Map<String, Long>> categoryIds = new HashMap<>();
+        for (Category category : categoryRepository.findByStoreIdIn(storeIds)) {
+            categoryIds.computeIfAbsent(category.getStoreId(), id -> new HashMap<>()).put(nameKey(category.getName()), category.getId());
+        }
+        
+        List<Menu> menus = new ArrayList<>(pendingMenus.size());
+        for (PendingMenu pending : pendingMenus) {
+            MenuImportRequest.Row row = pending.row();
+            menus.add(Menu.builder()
+                    .storeId(pending.storeId())
+                    .categoryId(categoryIds.get(pending.storeId()).get(pending.categoryKey()))
+                    .name(row.getName().trim())
+                    .description(row.getDescription())
+                    .price(row.getPrice())
+                    .imageUrl(row.getImageUrl())
+                    .isAvailable(row.getIsAvailable() == null || row.getIsAvailable())
+                    .displayOrder(row.getDisplayOrder() != null ? row.getDisplayOrder() : 0)
+                    .stockQuantity(row.getStockQuantity())
+                    .build());
+        }
+        if (!menus.isEmpty()) {
+            menuBatchRepository.insertMenus(menus);
+        }
+        
+        storeIds.forEach(menuCatalogService::invalidate);
+    }
+    
+    /**
+     * 메뉴명/카테고리명 비교용 키 (앞뒤 공백, 대소문자 구분 없음)
+     */
+    private String nameKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 대상 매장 확인 (내 매장 또는 내가 소유한 가맹 매장만)
+     */
+    private List<Long> resolveStores(Long userId, Long storeId, List<Long> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return List.of(storeId);
+        }
+        Set<Long> targets = new LinkedHashSet<>(requested);
+        if (targets.size() > Constants.Import.MAX_STORES) {
+            throw new BusinessException("한 번에 최대 " + Constants.Import.MAX_STORES + "개 매장까지 등록할 수 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        Set<Long> allowed = new HashSet<>();
+        allowed.add(storeId);
+        if (userId != null) {
+            for (Store store : storeRepository.findByOwnerUserIdAndIsActive(userId, true)) {
+                allowed.add(store.getId());
+            }
+        }
+        for (Long target : targets) {
+            if (!allowed.contains(target)) {
+                throw new BusinessException("접근 권한이 없는 매장입니다: " + target, HttpStatus.FORBIDDEN);
+            }
+        }
+        return new ArrayList<>(targets);
+    }
+    
+    /**
+     * 매장과 무관한 행 검증 (MenuRequest/CategoryRequest 제약과 동일), 통과하면 null
+     */
+    private String validateRow(MenuImportRequest.Row row) {
+        if (row.getCategoryName() == null || row.getCategoryName().isBlank()) {
+            return "카테고리명은 필수입니다";
+        }
+        if (row.getCategoryName().trim().length() > 50) {
+            return "카테고리명은 50자를 초과할 수 없습니다";
+        }
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "메뉴명은 필수입니다";
+        }
+        if (row.getName().trim().length() > 100) {
+            return "메뉴명은 100자를 초과할 수 없습니다";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 1000) {
+            return "메뉴 설명은 1000자를 초과할 수 없습니다";
+        }
+        if (row.getPrice() == null || row.getPrice().signum() <= 0) {
+            return "가격은 0보다 큰 값이어야 합니다";
+        }
+        if (row.getImageUrl() != null && row.getImageUrl().length() > 500) {
+            return "이미지 URL은 500자를 초과할 수 없습니다";
+        }
+        if (row.getStockQuantity() != null && row.getStockQuantity() < 0) {
+            return "재고는 0 이상이어야 합니다";
+        }
+        return null;
+    }
+    
+    /**
+     * CSV 파싱 (RFC 4180 따옴표 규칙, 첫 줄은 헤더). 형식 오류 행은 errors에 추가하고 행 번호 유지를 위해 null로 남김
+     */
+    List<MenuImportRequest.Row> parseCsv(Reader reader, List<MenuImportResponse.RowError> errors) {
+        List<List<String>> records;
+        try {
+            records = readRecords(reader);
+        } catch (IOException e) {
+            throw new BusinessException("CSV 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<String, Integer> header = new HashMap<>();
+        List<String> headerRecord = records.get(0);
+        for (int i = 0; i < headerRecord.size(); i++) {
+            header.put(headerRecord.get(i).trim().replace("\uFEFF", "").toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("categoryname") || !header.containsKey("price")) {
+            throw new BusinessException("CSV 헤더에 categoryName, name, price 컬럼이 필요합니다. 지원 컬럼: " + CSV_COLUMNS, HttpStatus.BAD_REQUEST);
+        }
+        
+        List<MenuImportRequest.Row> rows = new ArrayList<>(records.size() - 1);
+        for (int r = 1; r < records.size(); r++) {
+            List<String> record = records.get(r);
+            try {
+                rows.add(MenuImportRequest.Row.builder()
+                        .categoryName(column(record, header, "categoryname"))
+                        .name(column(record, header, "name"))
+                        .description(column(record, header, "description"))
+                        .price(parseDecimal(column(record, header, "price")))
+                        .imageUrl(column(record, header, "imageurl"))
+                        .isAvailable(parseBoolean(column(record, header, "isavailable")))
+                        .displayOrder(parseInteger(column(record, header, "displayorder")))
+                        .stockQuantity(parseInteger(column(record, header, "stockquantity")))
+                        .build());
+            } catch (NumberFormatException e) {
+                errors.add(rowError(r, null, "숫자 형식이 올바르지 않습니다."));
+                rows.add(null);
+            }
+        }
+        return rows;
+    }
+    
+    private List<List<String>> readRecords(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean blankLine = true;
+        int c;
+        while ((c = in.read()) != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    field.append(ch);
+                }
+                continue;
+            }
+            if (ch == '"') {
+                quoted = true;
+                blankLine = false;
+            } else if (ch == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                blankLine = false;
+            } else if (ch == '\n') {
+                record.add(field.toString());
+                field.setLength(0);
+                if (!blankLine) {
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+                blankLine = true;
+            } else if (ch != '\r') {
+                field.append(ch);
+                blankLine = false;
+            }
+        }
+        if (!blankLine) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+    
+    private String column(List<String> record, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private BigDecimal parseDecimal(String value) {
+        return value == null ? null : new BigDecimal(value.replace(",", ""));
+    }
+    
+    private Integer parseInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+    
+    private Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.equalsIgnoreCase("true") || value.equals("1") || value.equalsIgnoreCase("y");
+    }
+    
+    private MenuImportResponse.RowError rowError(int row, Long storeId, String message) {
+        return MenuImportResponse.RowError.builder()
+                .row(row)
+                .storeId(storeId)
+                .message(message)
+                .build();
+    }
+    
+    private record PendingMenu(Long storeId, String categoryKey, MenuImportRequest.Row row) {}
+}
@@ -0,0 +1,174 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.MenuResponse;
+import com.qrcoffee.backend.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 매장 메뉴명 검색 인덱스 (불변, 카탈로그 버전마다 생성)
+ *
+ * - 메뉴명의 각 위치를 "첫 글자의 초성" 기준 포스팅 목록에 등록하고, 검색어 첫 글자로 후보 위치만 검증
+ * - 검색어의 초성 글자는 음절의 초성과 일치하면 매칭 (예: "ㅇㅁㄹ" → 아메리카노, "아메ㄹ" → 아메리카노)
+ * - 공백/대소문자 무시. 정확 일치 > 접두 일치 > 단어 시작 일치 > 중간 일치 순으로 정렬
+ */
+public class MenuSearchIndex {
+    
+    private static final int SCORE_EXACT = 100;
+    private static final int SCORE_PREFIX = 80;
+    private static final int SCORE_WORD_START = 60;
+    private static final int SCORE_INFIX = 40;
+    private static final int CHOSEONG_PENALTY = 5; // 초성으로만 일치한 경우 같은 등급 안에서 뒤로
+    
+    private final long version;
+    private final List<Entry> entries;
+    private final Map<Character, int[]> postings;
+    
+    public MenuSearchIndex(long version, List<MenuResponse> menus) {
+        this.version = version;
+        this.entries = new ArrayList<>(menus.size());
+        Map<Character, List<int[]>> building = new HashMap<>();
+        
+        for (MenuResponse menu : menus) {
+            Entry entry = new Entry(menu, menu.getName() == null ? "" : menu.getName());
+            int entryIndex = entries.size();
+            entries.add(entry);
+            for (int position = 0; position < entry.text.length(); position++) {
+                char key = HangulUtils.choseongOf(entry.text.charAt(position));
+                building.computeIfAbsent(key, k -> new ArrayList<>()).add(new int[]{entryIndex, position});
+            }
+        }
+        
+        // (메뉴 인덱스, 위치) 쌍을 long 대신 int 배열 두 칸씩 평탄화해서 보관
+        this.postings = new HashMap<>(building.size() * 2);
+        building.forEach((key, list) -> {
+            int[] flat = new int[list.size() * 2];
+            for (int i = 0; i < list.size(); i++) {
+                flat[i * 2] = list.get(i)[0];
+                flat[i * 2 + 1] = list.get(i)[1];
+            }
+            postings.put(key, flat);
+        });
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * 검색 (점수 높은 순, 같은 점수는 짧은 이름 → 진열 순서)
+     */
+    public List<MenuResponse> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        int[] candidates = postings.get(HangulUtils.choseongOf(normalized.charAt(0)));
+        if (candidates == null) {
+            return List.of();
+        }
+        
+        int[] bestScores = new int[entries.size()];
+        for (int i = 0; i < candidates.length; i += 2) {
+            int entryIndex = candidates[i];
+            int score = score(entries.get(entryIndex), candidates[i + 1], normalized);
+            if (score > bestScores[entryIndex]) {
+                bestScores[entryIndex] = score;
+            }
+        }
+        
+        List<Integer> matched = new ArrayList<>();
+        for (int i = 0; i < bestScores.length; i++) {
+            if (bestScores[i] > 0) {
+                matched.add(i);
+            }
+        }
+        matched.sort(Comparator.<Integer>comparingInt(i -> -bestScores[i])
+                .thenComparingInt(i -> entries.get(i).text.length())
+                .thenComparingInt(i -> displayOrder(entries.get(i).menu)));
+        
+        return matched.stream()
+                .limit(limit)
+                .map(i -> entries.get(i).menu)
+                .toList();
+    }
+    
+    /**
+     * 특정 위치에서 검색어가 일치하면 점수, 아니면 0
+     */
+    private int score(Entry entry, int position, String query) {
+        if (position + query.length() > entry.text.length()) {
+            return 0;
+        }
+        boolean exactChars = true;
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char t = entry.text.charAt(position + i);
+            if (!HangulUtils.matches(q, t)) {
+                return 0;
+            }
+            exactChars &= q == t;
+        }
+        
+        int score;
+        if (position == 0 && query.length() == entry.text.length()) {
+            score = SCORE_EXACT;
+        } else if (position == 0) {
+            score = SCORE_PREFIX;
+        } else if (entry.wordStarts[position]) {
+            score = SCORE_WORD_START;
+        } else {
+            score = SCORE_INFIX;
+        }
+        return exactChars ? score : score - CHOSEONG_PENALTY;
+    }
+    
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+    
+    private static int displayOrder(MenuResponse menu) {
+        return menu.getDisplayOrder() != null ? menu.getDisplayOrder() : Integer.MAX_VALUE;
+    }
+    
+    /**
+     * 공백을 제거한 메뉴명과 단어 시작 위치
+     */
+    private static class Entry {
+        private final MenuResponse menu;
+        private final String text;
+        private final boolean[] wordStarts;
+        
+        Entry(MenuResponse menu, String name) {
+            this.menu = menu;
+            this.text = normalize(name);
+            this.wordStarts = new boolean[text.length()];
+            int position = 0;
+            boolean afterSpace = true;
+            for (int i = 0; i < name.length(); i++) {
+                if (Character.isWhitespace(name.charAt(i))) {
+                    afterSpace = true;
+                    continue;
+                }
+                wordStarts[position++] = afterSpace;
+                afterSpace = false;
+            }
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.qrcoffee.backend.service;
 
+import com.qrcoffee.backend.dto.MenuAvailabilityMessage;
 import com.qrcoffee.backend.dto.MenuRequest;
 import com.qrcoffee.backend.dto.MenuResponse;
 import com.qrcoffee.backend.entity.Category;
 import com.qrcoffee.backend.entity.Menu;
 import com.qrcoffee.backend.exception.BusinessException;
 import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
 import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +32,10 @@ public class MenuService {
     
     private final MenuRepository menuRepository;
     private final CategoryRepository categoryRepository;
+    private final MenuCatalogService menuCatalogService;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final MenuStockService menuStockService;
+    private final MenuBatchRepository menuBatchRepository;
     
     /**
      * 매장별 활성 메뉴 목록 조회
@@ -98,9 +110,11 @@ public class MenuService {
                 .imageUrl(request.getImageUrl())
                 .isAvailable(request.getIsAvailable())
                 .displayOrder(request.getDisplayOrder())
+                .stockQuantity(request.getStockQuantity())
                 .build();
         
         Menu savedMenu = menuRepository.save(menu);
+        menuCatalogService.invalidate(storeId);
         
         log.info("메뉴 생성 완료: storeId={}, menuId={}, name={}", 
                 storeId, savedMenu.getId(), savedMenu.getName());
@@ -125,21 +139,55 @@ public class MenuService {
             throw new BusinessException("이미 존재하는 메뉴명입니다.", HttpStatus.BAD_REQUEST);
         }
         
+        boolean wasAvailable = Boolean.TRUE.equals(menu.getIsAvailable());
+        
         menu.setCategoryId(request.getCategoryId());
         menu.setName(request.getName());
         menu.setDescription(request.getDescription());
         menu.setPrice(request.getPrice());
+        if (!Objects.equals(menu.getImageUrl(), request.getImageUrl())) {
+            menu.setThumbnailUrl(null); // 썸네일은 업로드 이미지에서만 생성
+        }
         menu.setImageUrl(request.getImageUrl());
         menu.setIsAvailable(request.getIsAvailable());
         menu.setDisplayOrder(request.getDisplayOrder());
         
         Menu updatedMenu = menuRepository.save(menu);
         
+        // 재고는 주문 중 차감과 경합하므로 값이 바뀐 경우에만 별도 UPDATE (로컬에 받아둔 재고는 폐기)
+        if (!Objects.equals(menu.getStockQuantity(), request.getStockQuantity())) {
+            menuRepository.updateStockQuantity(menuId, request.getStockQuantity());
+            updatedMenu.setStockQuantity(request.getStockQuantity());
+            TransactionUtils.afterCommit(() -> menuStockService.discardLease(menuId));
+        }
+        menuCatalogService.invalidate(storeId);
+        if (wasAvailable != Boolean.TRUE.equals(updatedMenu.getIsAvailable())) {
+            publishAvailability(storeId, menuId, updatedMenu.getIsAvailable());
+        }
+        
         log.info("메뉴 수정 완료: menuId={}, name={}", menuId, request.getName());
         
         return MenuResponse.from(updatedMenu);
     }
     
+    /**
+     * 업로드 이미지 변환본 URL 반영
+     */
+    @Transactional
+    public MenuResponse updateMenuImage(Long menuId, Long storeId, String imageUrl, String thumbnailUrl) {
+        Menu menu = menuRepository.findByIdAndStoreId(menuId, storeId)
+                .orElseThrow(() -> new BusinessException("메뉴를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        
+        menu.setImageUrl(imageUrl);
+        menu.setThumbnailUrl(thumbnailUrl);
+        Menu updatedMenu = menuRepository.save(menu);
+        menuCatalogService.invalidate(storeId);
+        
+        log.info("메뉴 이미지 변경: menuId={}, imageUrl={}", menuId, imageUrl);
+        
+        return MenuResponse.from(updatedMenu);
+    }
+    
     /**
      * 메뉴 삭제
      */
@@ -149,6 +197,8 @@ public class MenuService {
                 .orElseThrow(() -> new BusinessException("메뉴를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
         
         menuRepository.delete(menu);
+        menuCatalogService.invalidate(storeId);
+        publishAvailability(storeId, menuId, false);
         
         log.info("메뉴 삭제 완료: menuId={}, name={}", menuId, menu.getName());
     }
@@ -163,9 +213,59 @@ public class MenuService {
         
         menu.setIsAvailable(!menu.getIsAvailable());
         Menu updatedMenu = menuRepository.save(menu);
+        menuCatalogService.invalidate(storeId);
+        publishAvailability(storeId, menuId, updatedMenu.getIsAvailable());
         
         log.info("메뉴 상태 변경: menuId={}, isAvailable={}", menuId, updatedMenu.getIsAvailable());
         
         return MenuResponse.from(updatedMenu);
     }
-} 
+    
+    /**
+     * 카테고리 내 메뉴 일괄 정렬 (카테고리의 전체 메뉴 ID를 원하는 순서로 전달)
+     * 순서가 바뀐 메뉴만 한 번의 batch update로 반영하고 카탈로그는 한 번만 무효화
+     */
+    @Transactional
+    public void reorderMenus(Long storeId, Long categoryId, List<Long> menuIds) {
+        categoryRepository.findByIdAndStoreId(categoryId, storeId)
+                .orElseThrow(() -> new BusinessException("카테고리를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        
+        List<Menu> menus = menuRepository.findByStoreIdAndCategoryIdOrderByDisplayOrderAsc(storeId, categoryId);
+        Map<Long, Integer> currentOrders = new LinkedHashMap<>();
+        menus.forEach(menu -> currentOrders.put(menu.getId(), menu.getDisplayOrder()));
+        if (menuIds.size() != currentOrders.size() || !new HashSet<>(menuIds).equals(currentOrders.keySet())) {
+            throw new BusinessException("카테고리의 전체 메뉴 ID를 중복 없이 전달해야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < menuIds.size(); i++) {
+            if (!Objects.equals(currentOrders.get(menuIds.get(i)), i)) {
+                changed.put(menuIds.get(i), i);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        
+        try {
+            menuBatchRepository.updateMenuDisplayOrders(storeId, changed);
+        } catch (JdbcUpdateAffectedIncorrectNumberOfRowsException e) {
+            throw new BusinessException("메뉴 목록이 변경되었습니다. 새로고침 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+        }
+        menuCatalogService.invalidate(storeId);
+        
+        log.info("메뉴 정렬 변경: storeId={}, categoryId={}, changed={}", storeId, categoryId, changed.size());
+    }
+    
+    /**
+     * 판매 상태 변경을 고객 메뉴 화면에 브로드캐스트 (커밋 후)
+     */
+    private void publishAvailability(Long storeId, Long menuId, Boolean available) {
+        TransactionUtils.afterCommit(() -> webSocketNotificationService.sendMenuAvailability(storeId,
+                MenuAvailabilityMessage.builder()
+                        .menuId(menuId)
+                        .available(available)
+                        .catalogVersion(menuCatalogService.reserveVersion())
+                        .build()));
+    }
+}
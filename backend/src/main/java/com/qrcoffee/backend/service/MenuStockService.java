@@ -0,0 +1,227 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.OrderItemRequest;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 재고 예약 서비스
+ *
+ * - 재고 관리 메뉴(stockQuantity != null)만 대상이며, 장바구니 결제 준비 시 예약하고 결제 결과에 따라 확정/반환
+ * - DB 재고는 "아직 어느 서버에도 배정되지 않은 수량". 서버는 조건부 UPDATE로 LEASE_BATCH개씩 받아와
+ *   메뉴별 로컬 카운터(CAS)에서 차감하므로 인기 메뉴 주문이 DB 행 잠금에 줄 서지 않음
+ * - 로컬 잔량은 일정 시간 사용되지 않으면 묶어서 DB로 반환. 서버가 비정상 종료되면 잔량만큼 적게 팔 수는 있어도 초과 판매는 없음
+ * - 결제 만료/취소로 인한 반환은 어느 서버에서 처리될지 모르므로 DB로 직접 반환
+ * - 보충은 별도 트랜잭션으로 커밋하므로 호출 측 트랜잭션 밖에서 예약 (트랜잭션 안에서 호출하면 요청 하나가 커넥션 두 개를 잡아
+ *   동시 보충이 몰릴 때 커넥션 풀이 고갈될 수 있음)
+ */
+@Service
+@Slf4j
+public class MenuStockService {
+    
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate requiresNew;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<Long, LocalPool> pools = new ConcurrentHashMap<>();
+    
+    public MenuStockService(MenuRepository menuRepository, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.menuRepository = menuRepository;
+        this.meterRegistry = meterRegistry;
+        // 로컬 카운터로 옮긴 수량은 호출 트랜잭션이 롤백돼도 DB에 남아 있으면 안 되므로 별도 트랜잭션으로 커밋
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 장바구니 항목의 재고 예약
+     * 하나라도 부족하면 이미 예약한 수량을 되돌리고 예외 발생. 호출 트랜잭션이 롤백되면 자동으로 반환
+     * (트랜잭션 밖에서 호출한 경우 이후 저장이 실패하면 cancel로 반환)
+     *
+     * @return 예약된 수량 (메뉴 ID 문자열 → 수량, 결제 메타데이터 저장용). 재고 관리 메뉴가 없으면 빈 맵
+     */
+    public Map<String, Integer> reserve(Long storeId, List<OrderItemRequest> items) {
+        Map<Long, Integer> requested = items.stream()
+                .filter(item -> item.getMenuId() != null && item.getQuantity() != null && item.getQuantity() > 0)
+                .collect(Collectors.toMap(OrderItemRequest::getMenuId, OrderItemRequest::getQuantity, Integer::sum, LinkedHashMap::new));
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, Menu> stockedMenus = menuRepository.findByStoreIdAndIdIn(storeId, requested.keySet()).stream()
+                .filter(menu -> menu.getStockQuantity() != null)
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            Menu menu = stockedMenus.get(entry.getKey());
+            if (menu == null) {
+                continue;
+            }
+            if (!tryAcquire(menu.getId(), entry.getValue())) {
+                reserved.forEach(this::releaseLocal);
+                meterRegistry.counter("order.item.rejected", "reason", "out_of_stock").increment();
+                throw new BusinessException(menu.getName() + "은(는) 재고가 부족합니다.", HttpStatus.BAD_REQUEST);
+            }
+            reserved.put(menu.getId(), entry.getValue());
+        }
+        
+        if (!reserved.isEmpty()) {
+            TransactionUtils.afterRollback(() -> reserved.forEach(this::releaseLocal));
+        }
+        
+        Map<String, Integer> result = new HashMap<>();
+        reserved.forEach((menuId, quantity) -> result.put(String.valueOf(menuId), quantity));
+        return result;
+    }
+    
+    /**
+     * 같은 요청에서 방금 예약한 수량을 이 서버의 로컬 재고로 되돌림 (예약 후 결제 저장 실패 시)
+     */
+    public void cancel(Map<String, Integer> reservation) {
+        reservation.forEach((menuId, quantity) -> releaseLocal(Long.valueOf(menuId), quantity));
+    }
+    
+    /**
+     * 결제 만료/취소된 예약 반환 (DB로 직접 반환)
+     */
+    public void release(Map<?, ?> reservation) {
+        if (reservation == null) {
+            return;
+        }
+        reservation.forEach((menuId, quantity) -> {
+            int amount = ((Number) quantity).intValue();
+            if (amount > 0) {
+                menuRepository.incrementStock(Long.valueOf(menuId.toString()), amount);
+            }
+        });
+    }
+    
+    /**
+     * 관리자가 재고를 직접 설정한 경우 로컬에 받아둔 수량 폐기 (설정값이 기준)
+     */
+    public void discardLease(Long menuId) {
+        LocalPool pool = pools.remove(menuId);
+        if (pool != null) {
+            log.debug("로컬 재고 폐기: menuId={}, available={}", menuId, pool.available.get());
+        }
+    }
+    
+    /**
+     * 오래 사용되지 않은 로컬 재고를 DB로 반환
+     */
+    @Scheduled(fixedDelay = Constants.Stock.FLUSH_INTERVAL_MS)
+    public void returnIdleLeases() {
+        long threshold = System.currentTimeMillis() - Constants.Stock.IDLE_RETURN_MS;
+        pools.forEach((menuId, pool) -> {
+            if (pool.lastUsedAt.get() < threshold) {
+                returnToDatabase(menuId, pool);
+            }
+        });
+    }
+    
+    /**
+     * 종료 시 로컬 재고 전체 반환
+     */
+    @PreDestroy
+    public void returnAllLeases() {
+        pools.forEach(this::returnToDatabase);
+    }
+    
+    private boolean tryAcquire(Long menuId, int quantity) {
+        LocalPool pool = pools.computeIfAbsent(menuId, id -> new LocalPool());
+        pool.lastUsedAt.set(System.currentTimeMillis());
+        if (pool.tryTake(quantity)) {
+            return true;
+        }
+        
+        // 로컬 잔량 부족: 같은 메뉴의 보충만 직렬화 (다른 메뉴는 영향 없음)
+        synchronized (pool) {
+            if (pool.tryTake(quantity)) {
+                return true;
+            }
+            int shortage = quantity - Math.max(0, pool.available.get());
+            int leased = lease(menuId, shortage + Constants.Stock.LEASE_BATCH);
+            if (leased == 0) {
+                leased = lease(menuId, shortage);
+            }
+            if (leased == 0) {
+                return false;
+            }
+            pool.available.addAndGet(leased);
+            return pool.tryTake(quantity);
+        }
+    }
+    
+    private void releaseLocal(Long menuId, int quantity) {
+        LocalPool pool = pools.get(menuId);
+        // 폐기된 풀이면 관리자가 설정한 재고가 기준이므로 되돌리지 않음
+        if (pool != null) {
+            pool.available.addAndGet(quantity);
+        }
+    }
+    
+    private int lease(Long menuId, int quantity) {
+        Integer updated = requiresNew.execute(status -> menuRepository.decrementStock(menuId, quantity));
+        return updated != null && updated > 0 ? quantity : 0;
+    }
+    
+    private void returnToDatabase(Long menuId, LocalPool pool) {
+        synchronized (pool) {
+            int amount = pool.available.getAndSet(0);
+            if (amount <= 0) {
+                return;
+            }
+            try {
+                requiresNew.executeWithoutResult(status -> menuRepository.incrementStock(menuId, amount));
+                log.debug("로컬 재고 반환: menuId={}, amount={}", menuId, amount);
+            } catch (RuntimeException e) {
+                pool.available.addAndGet(amount);
+                log.warn("로컬 재고 반환 실패: menuId={}, amount={}", menuId, amount, e);
+            }
+        }
+    }
+    
+    /**
+     * 메뉴별 로컬 재고 카운터
+     */
+    private static class LocalPool {
+        private final AtomicInteger available = new AtomicInteger();
+        private final AtomicLong lastUsedAt = new AtomicLong(System.currentTimeMillis());
+        
+        boolean tryTake(int quantity) {
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
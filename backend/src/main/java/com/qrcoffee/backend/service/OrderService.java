@@ -16,6 +16,8 @@ import com.qrcoffee.backend.repository.OrderItemRepository;
 import com.qrcoffee.backend.repository.OrderRepository;
 import com.qrcoffee.backend.repository.SeatRepository;
 import com.qrcoffee.backend.repository.StoreRepository;
+import com.qrcoffee.backend.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -44,6 +47,9 @@ public class OrderService {
     private final StoreRepository storeRepository;
     private final NotificationService notificationService;
     private final WebSocketNotificationService webSocketNotificationService;
+    private final OrderTimingService orderTimingService;
+    private final SeatOccupancyService seatOccupancyService;
+    private final MeterRegistry meterRegistry;
     
     /**
      * 주문 생성
@@ -66,6 +72,9 @@ public class OrderService {
         // 주문 저장
         Order savedOrder = orderRepository.save(order);
         
+        // 좌석 점유 (수령 후 유휴 시간이 지나면 자동 해제)
+        seatOccupancyService.occupy(seat);
+        
         // 주문 접수 알림 전송 (관리자에게)
         try {
             Notification notification = notificationService.sendOrderReceivedNotification(savedOrder.getId());
@@ -138,6 +147,7 @@ public class OrderService {
                     .orElseThrow(() -> new BusinessException("존재하지 않는 메뉴입니다: " + itemRequest.getMenuId(), HttpStatus.NOT_FOUND));
             
             if (!menu.getIsAvailable()) {
+                meterRegistry.counter("order.item.rejected", "reason", "sold_out").increment();
                 throw new BusinessException(menu.getName() + "은(는) 현재 품절입니다.", HttpStatus.BAD_REQUEST);
             }
             
@@ -291,6 +301,14 @@ public class OrderService {
             
             Order updatedOrder = orderRepository.save(order);
             
+            // 처리 시간 히스토그램 기록 (대기 시간/제조 시간, 롤백된 변경은 기록하지 않도록 커밋 후)
+            TransactionUtils.afterCommit(() -> orderTimingService.record(updatedOrder, newStatus));
+            
+            // 수령/취소된 주문의 좌석은 유휴 시간 후 점유 해제
+            if (newStatus == Order.OrderStatus.PICKED_UP || newStatus == Order.OrderStatus.CANCELLED) {
+                seatOccupancyService.scheduleRelease(order.getStoreId(), order.getSeatId());
+            }
+            
             // 주문 상태 변경에 따른 알림 전송
             try {
                 if (newStatus == Order.OrderStatus.COMPLETED) {
@@ -323,6 +341,7 @@ public class OrderService {
     
     /**
      * 주문 상태 안전하게 변경
+     * 상태 전이 메서드에서 단계별 시각(제조 시작/완료/수령/취소)을 함께 기록
      */
     private void updateOrderStatusSafely(Order order, Order.OrderStatus newStatus) {
         switch (newStatus) {
@@ -361,6 +380,7 @@ public class OrderService {
         
         order.cancel();
         Order cancelledOrder = orderRepository.save(order);
+        seatOccupancyService.scheduleRelease(order.getStoreId(), order.getSeatId());
         
         // 주문 취소 알림 전송 (양방향)
         try {
@@ -395,6 +415,7 @@ public class OrderService {
         
         order.cancel();
         Order cancelledOrder = orderRepository.save(order);
+        seatOccupancyService.scheduleRelease(order.getStoreId(), order.getSeatId());
         
         // 주문 취소 알림 전송 (양방향)
         try {
@@ -417,7 +438,8 @@ public class OrderService {
      * 매장별 오늘 주문 통계
      */
     public long getTodayOrderCount(Long storeId) {
-        return orderRepository.countByStoreIdAndDate(storeId, LocalDateTime.now());
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        return orderRepository.countByStoreIdAndDateRange(storeId, startOfToday, startOfToday.plusDays(1));
     }
     
     /**
@@ -0,0 +1,192 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.PrepTimeStatsResponse;
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.util.LatencyHistogram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 처리 시간 통계 서비스
+ *
+ * - 대기 시간: 주문 접수 → 제조 시작, 제조 시간: 제조 시작 → 제조 완료
+ * - 주문 상태 변경 시 매장/시간대(주문 접수 시각 기준)별 히스토그램에 기록하고, 조회 시 히스토그램 병합으로 백분위 계산
+ * - 재시작 후 처음 조회하는 날짜만 주문 타임스탬프로 한 번 복원 (이후 조회는 주문 테이블을 읽지 않음)
+ * - 복원 전 날짜의 변경은 메모리에 기록하지 않음 (커밋 후 기록하므로 복원 시 DB에서 함께 읽힘)
+ *   복원과 기록은 매장/날짜별 잠금으로 순서를 보장하여 복원 쿼리 이후의 기록이 빠지거나 중복되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OrderTimingService {
+
+    private final OrderRepository orderRepository;
+
+    private final Map<HourKey, HourlyHistograms> histograms = new ConcurrentHashMap<>();
+    private final Map<DayKey, DayState> days = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 상태 변경 기록 (커밋 후 호출)
+     */
+    public void record(Order order, Order.OrderStatus newStatus) {
+        if (order.getCreatedAt() == null) {
+            return;
+        }
+        DayState day = dayState(new DayKey(order.getStoreId(), order.getCreatedAt().toLocalDate()));
+        synchronized (day) {
+            if (!day.loaded) {
+                return; // 복원 시 DB에서 읽힘
+            }
+            HourlyHistograms hourly = histograms.computeIfAbsent(
+                    new HourKey(order.getStoreId(), order.getCreatedAt().truncatedTo(ChronoUnit.HOURS)),
+                    key -> new HourlyHistograms());
+
+            if (newStatus == Order.OrderStatus.PREPARING && order.getPreparingStartedAt() != null) {
+                hourly.queueTime.record(secondsBetween(order.getCreatedAt(), order.getPreparingStartedAt()));
+            } else if (newStatus == Order.OrderStatus.COMPLETED
+                    && order.getPreparingStartedAt() != null && order.getCompletedAt() != null) {
+                hourly.prepTime.record(secondsBetween(order.getPreparingStartedAt(), order.getCompletedAt()));
+            }
+        }
+    }
+
+    /**
+     * 매장별 특정 날짜의 대기/제조 시간 백분위 조회
+     */
+    public PrepTimeStatsResponse getPrepTimeStats(Long storeId, LocalDate date) {
+        ensureLoaded(storeId, date);
+
+        LatencyHistogram dayQueue = new LatencyHistogram();
+        LatencyHistogram dayPrep = new LatencyHistogram();
+        List<PrepTimeStatsResponse.HourlyPrepTime> hourlyStats = new ArrayList<>();
+
+        for (int hour = 0; hour < 24; hour++) {
+            HourlyHistograms hourly = histograms.get(new HourKey(storeId, date.atTime(hour, 0)));
+            if (hourly == null) {
+                hourlyStats.add(PrepTimeStatsResponse.HourlyPrepTime.builder()
+                        .hour(hour)
+                        .queueTime(toPercentiles(null))
+                        .prepTime(toPercentiles(null))
+                        .build());
+                continue;
+            }
+            dayQueue.merge(hourly.queueTime);
+            dayPrep.merge(hourly.prepTime);
+            hourlyStats.add(PrepTimeStatsResponse.HourlyPrepTime.builder()
+                    .hour(hour)
+                    .queueTime(toPercentiles(hourly.queueTime))
+                    .prepTime(toPercentiles(hourly.prepTime))
+                    .build());
+        }
+
+        return PrepTimeStatsResponse.builder()
+                .date(date.toString())
+                .queueTime(toPercentiles(dayQueue))
+                .prepTime(toPercentiles(dayPrep))
+                .hourlyStats(hourlyStats)
+                .build();
+    }
+
+    /**
+     * 재시작 후 처음 조회하는 날짜는 주문 타임스탬프로 히스토그램 복원
+     * 복원이 끝날 때까지 같은 날짜의 기록은 대기하고, 복원 전 기록은 DB 조회 결과에 포함됨
+     */
+    private void ensureLoaded(Long storeId, LocalDate date) {
+        DayState day = dayState(new DayKey(storeId, date));
+        synchronized (day) {
+            if (!day.loaded) {
+                load(storeId, date);
+                day.loaded = true;
+            }
+        }
+    }
+
+    private void load(Long storeId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        List<Object[]> rows = orderRepository.findTimingsByStoreIdAndDateRange(storeId, start, start.plusDays(1));
+
+        Map<HourKey, HourlyHistograms> rebuilt = new HashMap<>();
+        for (Object[] row : rows) {
+            LocalDateTime createdAt = (LocalDateTime) row[0];
+            LocalDateTime preparingStartedAt = (LocalDateTime) row[1];
+            LocalDateTime completedAt = (LocalDateTime) row[2];
+            if (createdAt == null || preparingStartedAt == null) {
+                continue;
+            }
+            HourlyHistograms hourly = rebuilt.computeIfAbsent(
+                    new HourKey(storeId, createdAt.truncatedTo(ChronoUnit.HOURS)), key -> new HourlyHistograms());
+            hourly.queueTime.record(secondsBetween(createdAt, preparingStartedAt));
+            if (completedAt != null) {
+                hourly.prepTime.record(secondsBetween(preparingStartedAt, completedAt));
+            }
+        }
+
+        histograms.putAll(rebuilt);
+        log.debug("주문 처리 시간 히스토그램 복원: storeId={}, date={}, orders={}", storeId, date, rows.size());
+    }
+
+    /**
+     * 보관 기간이 지난 히스토그램 정리 (매시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void evictExpired() {
+        LocalDateTime threshold = LocalDate.now().minusDays(Constants.Dashboard.PREP_TIME_RETENTION_DAYS).atStartOfDay();
+        histograms.keySet().removeIf(key -> key.hourStart().isBefore(threshold));
+        days.keySet().removeIf(key -> key.date().atStartOfDay().isBefore(threshold));
+    }
+
+    private DayState dayState(DayKey dayKey) {
+        return days.computeIfAbsent(dayKey, key -> new DayState());
+    }
+
+    private long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).getSeconds();
+    }
+
+    private PrepTimeStatsResponse.Percentiles toPercentiles(LatencyHistogram histogram) {
+        if (histogram == null || histogram.getCount() == 0) {
+            return PrepTimeStatsResponse.Percentiles.builder()
+                    .count(0L).p50(0L).p90(0L).p99(0L).max(0L)
+                    .build();
+        }
+        return PrepTimeStatsResponse.Percentiles.builder()
+                .count(histogram.getCount())
+                .p50(histogram.getPercentile(50))
+                .p90(histogram.getPercentile(90))
+                .p99(histogram.getPercentile(99))
+                .max(histogram.getMax())
+                .build();
+    }
+
+    private record HourKey(Long storeId, LocalDateTime hourStart) {}
+
+    private record DayKey(Long storeId, LocalDate date) {}
+
+    /**
+     * 매장/날짜별 복원 상태 (이 객체로 잠금)
+     */
+    private static class DayState {
+        private boolean loaded;
+    }
+
+    private static class HourlyHistograms {
+        private final LatencyHistogram queueTime = new LatencyHistogram();
+        private final LatencyHistogram prepTime = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,157 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 검증 전용 스레드 풀
+ *
+ * - 비용이 큰 해시 계산을 요청 스레드가 아닌 고정 크기 풀에서 수행해 로그인 폭주가 주문 API의 CPU를 잠식하지 않도록 함
+ * - 대기열이 가득 차면 큐에 넣지 않고 즉시 503으로 거부
+ * - 최근 실패 기록이 있는 요청은 낮은 우선순위로 처리 (무차별 대입 중에도 정상 로그인이 먼저 처리됨)
+ * - 대기 시간이 초과된 요청은 실행 차례가 와도 해시를 계산하지 않음
+ * - 지표: auth.password.queue (대기 수), auth.password.verify (해시 시간), auth.password.rejected (거부 수)
+ */
+@Service
+@Slf4j
+public class PasswordVerificationService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits; // 실행 중 + 대기 중 요청 수 상한
+    private final long timeoutMs;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordVerificationService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this(passwordEncoder, meterRegistry, Constants.Auth.PASSWORD_THREADS,
+                Constants.Auth.PASSWORD_QUEUE_CAPACITY, Constants.Auth.PASSWORD_TIMEOUT_MS);
+    }
+
+    PasswordVerificationService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                                int threads, int queueCapacity, long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.permits = new Semaphore(threads + queueCapacity);
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        // PriorityBlockingQueue는 크기 제한이 없으므로 상한은 permits로 관리
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.verifyTimer = Timer.builder("auth.password.verify")
+                .description("비밀번호 해시 검증 시간")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("auth.password.rejected");
+        meterRegistry.gauge("auth.password.queue", executor, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * 비밀번호 일치 여부 (lowPriority: 최근 실패 기록이 있는 요청)
+     */
+    public boolean matches(String rawPassword, String encodedPassword, boolean lowPriority) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            log.warn("비밀번호 검증 대기열 초과로 거부");
+            throw new BusinessException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        VerifyTask task = new VerifyTask(rawPassword, encodedPassword, lowPriority, sequence.incrementAndGet());
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            permits.release();
+            rejected.increment();
+            throw new BusinessException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return task.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.result.cancel(false);
+            rejected.increment();
+            throw new BusinessException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.result.cancel(false);
+            throw new BusinessException("로그인 처리가 중단되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            log.error("비밀번호 검증 실패", e.getCause());
+            throw new BusinessException("로그인 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 우선순위 작업 (일반 요청 먼저, 같은 우선순위는 도착 순서)
+     */
+    private final class VerifyTask implements Runnable, Comparable<VerifyTask> {
+
+        private final String rawPassword;
+        private final String encodedPassword;
+        private final boolean lowPriority;
+        private final long order;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private VerifyTask(String rawPassword, String encodedPassword, boolean lowPriority, long order) {
+            this.rawPassword = rawPassword;
+            this.encodedPassword = encodedPassword;
+            this.lowPriority = lowPriority;
+            this.order = order;
+        }
+
+        @Override
+        public void run() {
+            try {
+                // 대기 중 시간 초과로 취소된 요청은 해시 계산 생략
+                if (!result.isDone()) {
+                    result.complete(verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        }
+
+        @Override
+        public int compareTo(VerifyTask other) {
+            if (lowPriority != other.lowPriority) {
+                return lowPriority ? 1 : -1;
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+}
@@ -20,11 +20,14 @@ import com.qrcoffee.backend.repository.OrderRepository;
 import com.qrcoffee.backend.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
@@ -51,10 +54,13 @@ public class PaymentService {
     private final ObjectMapper objectMapper;
     private final NotificationService notificationService;
     private final WebSocketNotificationService webSocketNotificationService;
+    private final MenuStockService menuStockService;
     
     /**
      * 장바구니에서 바로 결제 준비 (주문 생성 없이)
+     * 재고 보충은 별도 트랜잭션(커넥션)으로 커밋되므로, 커넥션 두 개를 동시에 잡지 않도록 트랜잭션 없이 예약 후 결제 저장
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse prepareCartPayment(CartPaymentRequest request, User user) {
         log.info("장바구니 결제 준비 시작: amount={}, items={}", request.getTotalAmount(), request.getOrderItems().size());
         
@@ -65,9 +71,21 @@ public class PaymentService {
         
         // 장바구니 정보를 메타데이터로 저장
         Map<String, Object> metadata = buildCartMetadata(request, userId);
+        
+        // 재고 관리 메뉴 예약 (결제 승인 시 확정, 만료/취소 시 반환)
+        Map<String, Integer> stockReservation = menuStockService.reserve(request.getStoreId(), request.getOrderItems());
+        if (!stockReservation.isEmpty()) {
+            metadata.put(Constants.Stock.RESERVATION_METADATA_KEY, stockReservation);
+        }
         payment.setMetadata(metadata);
 
-        Payment savedPayment = paymentRepository.save(payment);
+        Payment savedPayment;
+        try {
+            savedPayment = paymentRepository.save(payment);
+        } catch (RuntimeException e) {
+            menuStockService.cancel(stockReservation);
+            throw e;
+        }
         
         log.info("장바구니 결제 준비 완료: paymentId={}, orderIdToss={}", savedPayment.getId(), orderIdToss);
 
@@ -164,17 +182,29 @@ public class PaymentService {
     }
     
     /**
-     * 결제 정보 조회 및 검증
+     * 결제 정보 조회 및 검증 후 승인 처리 선점 (READY → IN_PROGRESS)
+     * 선점한 요청만 토스페이먼츠를 호출하므로 동시 승인 요청이나 만료 처리와 겹쳐도 재고가 중복 판매되지 않음
+     * (승인 실패로 롤백되면 READY로 돌아감)
      */
     private Payment validateAndGetPayment(PaymentConfirmRequest request) {
         Payment payment = paymentRepository.findByOrderIdToss(request.getOrderId())
                 .orElseThrow(() -> new BusinessException("결제 정보를 찾을 수 없습니다."));
 
+        // 재고 예약이 만료된 결제는 승인 불가
+        if ("EXPIRED".equals(payment.getStatus())) {
+            throw new BusinessException("결제 가능 시간이 만료되었습니다. 다시 주문해주세요.");
+        }
+
         // 결제 금액 검증
         if (payment.getTotalAmount().compareTo(request.getAmount()) != 0) {
             throw new BusinessException("결제 금액이 일치하지 않습니다.");
         }
         
+        if (paymentRepository.updateStatusIfCurrent(payment.getId(), "READY", "IN_PROGRESS") != 1) {
+            throw new BusinessException("이미 처리되었거나 만료된 결제입니다.");
+        }
+        payment.setStatus("IN_PROGRESS");
+        
         return payment;
     }
     
@@ -551,6 +581,35 @@ public class PaymentService {
         return totalAmount.subtract(calculateSuppliedAmount(totalAmount));
     }
     
+    /**
+     * 결제가 완료되지 않은 채 만료된 재고 예약 반환
+     * READY → EXPIRED 조건부 변경에 성공한 서버만 반환하므로 여러 서버에서 실행돼도 한 번만 반영
+     * 승인 처리 중(IN_PROGRESS)인 결제는 건드리지 않고, 오래된 예약도 빠짐없이 ID 순으로 나눠 처리
+     */
+    @Scheduled(fixedDelay = Constants.Stock.EXPIRE_INTERVAL_MS)
+    public void expireStaleReservations() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(Constants.Stock.RESERVATION_TTL_MINUTES);
+        PageRequest batch = PageRequest.of(0, Constants.Stock.EXPIRE_BATCH_SIZE);
+        long lastId = 0L;
+        List<Payment> stalePayments;
+        
+        do {
+            stalePayments = paymentRepository.findByStatusAndRequestedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    "READY", threshold, lastId, batch);
+            for (Payment payment : stalePayments) {
+                lastId = payment.getId();
+                Map<String, Object> metadata = payment.getMetadata();
+                if (metadata == null || !metadata.containsKey(Constants.Stock.RESERVATION_METADATA_KEY)) {
+                    continue;
+                }
+                if (paymentRepository.updateStatusIfCurrent(payment.getId(), "READY", "EXPIRED") == 1) {
+                    menuStockService.release((Map<?, ?>) metadata.get(Constants.Stock.RESERVATION_METADATA_KEY));
+                    log.info("재고 예약 만료: paymentId={}, orderIdToss={}", payment.getId(), payment.getOrderIdToss());
+                }
+            }
+        } while (stalePayments.size() == Constants.Stock.EXPIRE_BATCH_SIZE);
+    }
+    
     /**
      * 결제 조회 (paymentKey로)
      */
@@ -672,6 +731,11 @@ public class PaymentService {
             payment.setBalanceAmount(BigDecimal.ZERO);
             paymentRepository.save(payment);
             
+            // 예약했던 재고 반환
+            if (payment.getMetadata() != null) {
+                menuStockService.release((Map<?, ?>) payment.getMetadata().get(Constants.Stock.RESERVATION_METADATA_KEY));
+            }
+            
             log.info("결제 취소 완료: paymentKey={}, status={}", request.getPaymentKey(), cancelResponse.getStatus());
             
             return convertToPaymentResponse(payment);
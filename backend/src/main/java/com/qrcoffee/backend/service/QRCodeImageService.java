@@ -0,0 +1,242 @@
+package com.qrcoffee.backend.service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.util.LruCache;
+import com.qrcoffee.backend.util.QRCodeUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * QR코드 이미지 렌더링 서비스 (ZXing)
+ *
+ * - 외부 QR 이미지 서비스 대신 서버에서 PNG/SVG 생성
+ * - 결과는 QR코드 값만으로 결정되므로 (qrCode, 형식, 크기) 기준 LRU 캐시에 보관 (재생성된 QR은 새 키가 됨)
+ * - 매장 전체 좌석 인쇄용 ZIP은 제한된 스레드 풀에서 병렬 렌더링하고 좌석번호 순서대로 기록
+ */
+@Service
+@Slf4j
+public class QRCodeImageService {
+
+    private static final String PNG = "png";
+    private static final String SVG = "svg";
+
+    private final SeatRepository seatRepository;
+    private final QRCodeUtil qrCodeUtil;
+    private final ExecutorService executor;
+    private final LruCache<ImageKey, byte[]> images = new LruCache<>(Constants.Seat.QR_IMAGE_CACHE_SIZE);
+
+    @Autowired
+    public QRCodeImageService(SeatRepository seatRepository, QRCodeUtil qrCodeUtil) {
+        this(seatRepository, qrCodeUtil, createExecutor());
+    }
+
+    QRCodeImageService(SeatRepository seatRepository, QRCodeUtil qrCodeUtil, ExecutorService executor) {
+        this.seatRepository = seatRepository;
+        this.qrCodeUtil = qrCodeUtil;
+        this.executor = executor;
+    }
+
+    /**
+     * QR코드 PNG (크기는 허용 범위로 보정)
+     */
+    public byte[] renderPng(String qrCode, int size) {
+        int clamped = Math.max(Constants.Seat.QR_IMAGE_MIN_SIZE, Math.min(Constants.Seat.QR_IMAGE_MAX_SIZE, size));
+        return images.computeIfAbsent(new ImageKey(qrCode, PNG, clamped),
+                key -> toPng(encode(key.qrCode(), key.size()), null));
+    }
+
+    /**
+     * QR코드 SVG (벡터라 크기 무관)
+     */
+    public byte[] renderSvg(String qrCode) {
+        return images.computeIfAbsent(new ImageKey(qrCode, SVG, 0),
+                key -> toSvg(encode(key.qrCode(), 0)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 매장 전체 좌석 QR 인쇄용 ZIP (좌석번호 라벨 포함 PNG)
+     */
+    public void writeStoreZip(Long storeId, OutputStream out) throws IOException {
+        List<SeatResponse> seats = seatRepository.findByStoreIdOrderBySeatNumberAsc(storeId).stream()
+                .map(SeatResponse::from)
+                .toList();
+        writeSeatsZip(seats, out);
+        log.info("QR코드 일괄 인쇄 ZIP 생성: storeId={}, seats={}", storeId, seats.size());
+    }
+
+    /**
+     * 지정한 좌석들의 QR 인쇄용 ZIP (목록 순서대로 번호를 붙임)
+     */
+    public void writeSeatsZip(List<SeatResponse> seats, OutputStream out) throws IOException {
+        List<Future<byte[]>> futures = new ArrayList<>(seats.size());
+        for (SeatResponse seat : seats) {
+            futures.add(executor.submit(() -> toPng(
+                    encode(seat.getQrCode(), Constants.Seat.QR_PRINT_SIZE), seat.getSeatNumber())));
+        }
+
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < seats.size(); i++) {
+                byte[] png = await(futures.get(i));
+                zip.putNextEntry(new ZipEntry(String.format("%03d_%s.png", i + 1, toFileName(seats.get(i).getSeatNumber()))));
+                zip.write(png);
+                zip.closeEntry();
+            }
+            zip.finish();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private BitMatrix encode(String qrCode, int size) {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+        hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
+        hints.put(EncodeHintType.MARGIN, Constants.Seat.QR_IMAGE_MARGIN);
+        try {
+            return new QRCodeWriter().encode(qrCodeUtil.buildOrderUrl(qrCode), BarcodeFormat.QR_CODE, size, size, hints);
+        } catch (WriterException e) {
+            throw new BusinessException("QR코드 이미지를 생성할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * PNG 인코딩 (label이 있으면 아래에 좌석번호 영역 추가)
+     */
+    private byte[] toPng(BitMatrix matrix, String label) {
+        BufferedImage qr = MatrixToImageWriter.toBufferedImage(matrix);
+        BufferedImage image = qr;
+        if (label != null) {
+            image = new BufferedImage(qr.getWidth(), qr.getHeight() + Constants.Seat.QR_PRINT_LABEL_HEIGHT,
+                    BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+                g.drawImage(qr, 0, 0, null);
+                g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                g.setColor(Color.BLACK);
+                g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, Constants.Seat.QR_PRINT_LABEL_HEIGHT / 2));
+                FontMetrics metrics = g.getFontMetrics();
+                int x = Math.max(0, (image.getWidth() - metrics.stringWidth(label)) / 2);
+                int y = qr.getHeight() + (Constants.Seat.QR_PRINT_LABEL_HEIGHT + metrics.getAscent()) / 2 - metrics.getDescent();
+                g.drawString(label, x, y);
+            } finally {
+                g.dispose();
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, PNG, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 검은 모듈을 가로 구간 단위 path 하나로 출력
+     */
+    private String toSvg(BitMatrix matrix) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        StringBuilder path = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < width && matrix.get(x, y)) {
+                    x++;
+                }
+                path.append('M').append(start).append(' ').append(y)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+        return "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 " + width + " " + height
+                + "\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>"
+                + "<path fill=\"#000\" d=\"" + path + "\"/></svg>";
+    }
+
+    private byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("QR코드 렌더링이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("QR코드 렌더링에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private String toFileName(String seatNumber) {
+        return seatNumber.replaceAll("[\\\\/:*?\"<>|\\s]+", "_");
+    }
+
+    /**
+     * 일괄 인쇄 렌더링 풀 (포화 시 요청 스레드에서 직접 렌더링)
+     */
+    private static ExecutorService createExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                Constants.Seat.QR_RENDER_THREADS,
+                Constants.Seat.QR_RENDER_THREADS,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Constants.Seat.QR_RENDER_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "qr-render-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ImageKey(String qrCode, String format, int size) {}
+}
@@ -0,0 +1,94 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.repository.SeatScanStatsRepository;
+import com.qrcoffee.backend.repository.SeatScanStatsRepository.ScanCount;
+import com.qrcoffee.backend.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QR 스캔 이벤트 수집
+ *
+ * - 고객 요청 스레드는 링 버퍼에 이벤트만 넣고 반환 (락/로그/DB I/O 없음). 버퍼가 가득 차면 이벤트를 버리고 카운터만 증가
+ * - 주기 작업이 버퍼를 비우며 (좌석, 시간대)별로 합산하고, 합산 결과를 JDBC batch로 seat_scan_stats에 누적
+ * - 그 사이 삭제된 좌석의 합산은 반영 시 건너뜀 (재시도해도 성공할 수 없는 행이 남지 않도록)
+ * - DB 반영에 실패한 합산은 메모리에 남겨 다음 주기에 다시 반영 (상한 초과 시 버림)
+ */
+@Service
+@Slf4j
+public class QrScanService {
+
+    private final SeatScanStatsRepository seatScanStatsRepository;
+    private final MpscRingBuffer<ScanEvent> events = new MpscRingBuffer<>(Constants.Scan.BUFFER_CAPACITY);
+    private final Map<ScanKey, Long> pending = new HashMap<>(); // flush 스레드 전용
+    private final Counter dropped;
+
+    public QrScanService(SeatScanStatsRepository seatScanStatsRepository, MeterRegistry meterRegistry) {
+        this.seatScanStatsRepository = seatScanStatsRepository;
+        this.dropped = meterRegistry.counter("qr.scan.dropped");
+    }
+
+    /**
+     * 스캔 기록 (논블로킹)
+     */
+    public void record(SeatResponse seat) {
+        if (!events.offer(new ScanEvent(seat.getStoreId(), seat.getId(), System.currentTimeMillis()))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 버퍼의 이벤트를 합산해 DB에 누적
+     */
+    @Scheduled(fixedDelay = Constants.Scan.FLUSH_INTERVAL_MS)
+    public synchronized void flush() {
+        ZoneId zone = ZoneId.systemDefault();
+        int drained = events.drain(event -> pending.merge(new ScanKey(event.storeId(), event.seatId(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(event.scannedAt()), zone).truncatedTo(ChronoUnit.HOURS)),
+                1L, Long::sum));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ScanCount> counts = new ArrayList<>(pending.size());
+        pending.forEach((key, count) -> counts.add(new ScanCount(key.storeId(), key.seatId(), key.scanHour(), count)));
+        try {
+            seatScanStatsRepository.addScanCounts(counts);
+            pending.clear();
+            log.debug("QR 스캔 집계 반영: events={}, rows={}", drained, counts.size());
+        } catch (Exception e) {
+            log.warn("QR 스캔 집계 반영 실패 (다음 주기에 재시도): rows={}", counts.size(), e);
+            if (pending.size() > Constants.Scan.MAX_PENDING_KEYS) {
+                log.error("QR 스캔 집계 보관 한도 초과로 폐기: rows={}", pending.size());
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record ScanEvent(Long storeId, Long seatId, long scannedAt) {}
+
+    private record ScanKey(Long storeId, Long seatId, LocalDateTime scanHour) {}
+}
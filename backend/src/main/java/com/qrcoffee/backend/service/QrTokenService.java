@@ -0,0 +1,165 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 QR코드 발급/검증 서비스
+ *
+ * - 형식: s.{storeId}.{seatId}.{generation}.{mac} (ID/세대는 36진수, mac은 HMAC-SHA256 앞 96비트 base64url)
+ * - 검증은 계산만으로 처리하고 위조/폐기된 코드는 DB를 읽지 않고 거부
+ * - 계산은 잘못된 코드를 걸러낼 뿐이며, 유효한 코드도 좌석 정보(좌석번호, 활성 여부)가 필요하므로 SeatQrCache/DB 조회를 거침
+ * - 폐기 판정은 재생성된 좌석의 알려진 최신 세대만 담은 메모리 테이블로 수행 (기동 시 DB에서 적재, 재생성/삭제/DB 조회 시 갱신)
+ * - 알려진 세대보다 낮은 코드만 거부하고 같거나 높은 코드는 통과 (다른 인스턴스에서 재생성된 새 코드를 거부하지 않도록)
+ * - 최종 판정은 qr_code 컬럼 기준 좌석 조회이므로 이 테이블이 뒤처져도 이전 코드는 조회되지 않음
+ */
+@Service
+@Slf4j
+public class QrTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAX_TOKEN_LENGTH = 36; // seats.qr_code 컬럼 길이
+    private static final int REVOKED = Integer.MAX_VALUE;
+
+    private final SeatRepository seatRepository;
+    private final boolean enabled;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final Map<Long, Integer> generations = new ConcurrentHashMap<>();
+
+    public QrTokenService(SeatRepository seatRepository,
+                          @Value("${qr.signed.enabled:false}") boolean enabled,
+                          @Value("${qr.signed.secret:${jwt.secret}}") String secret) {
+        this.seatRepository = seatRepository;
+        this.enabled = enabled;
+        this.key = new SecretKeySpec(deriveKey(secret), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 재생성 이력이 있는 좌석의 현재 세대 적재
+     */
+    @PostConstruct
+    public void loadGenerations() {
+        for (Object[] row : seatRepository.findQrGenerations()) {
+            generations.put((Long) row[0], (Integer) row[1]);
+        }
+        log.info("서명 QR코드 세대 테이블 적재: enabled={}, seats={}", enabled, generations.size());
+    }
+
+    /**
+     * 서명 QR코드 형식 여부 (검증 전 형식만)
+     */
+    public boolean isSigned(String qrCode) {
+        return qrCode != null && qrCode.startsWith(Constants.Seat.SIGNED_QR_PREFIX) && qrCode.length() <= MAX_TOKEN_LENGTH;
+    }
+
+    /**
+     * 좌석의 현재 세대로 서명 QR코드 발급 (서명 QR코드를 쓰지 않거나 ID가 커서 컬럼에 들어가지 않으면 null)
+     */
+    public String issue(Seat seat) {
+        if (!enabled || seat.getId() == null) {
+            return null;
+        }
+        String payload = Constants.Seat.SIGNED_QR_PREFIX
+                + Long.toString(seat.getStoreId(), 36) + "."
+                + Long.toString(seat.getId(), 36) + "."
+                + Integer.toString(seat.getQrGeneration(), 36);
+        String token = payload + "." + mac(payload);
+        return token.length() <= MAX_TOKEN_LENGTH ? token : null;
+    }
+
+    /**
+     * 서명과 세대 검증 (DB 조회 없음)
+     */
+    public boolean verify(String qrCode) {
+        if (!isSigned(qrCode)) {
+            return false;
+        }
+        int macStart = qrCode.lastIndexOf('.');
+        String payload = qrCode.substring(0, macStart);
+        byte[] expected = mac(payload).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, qrCode.substring(macStart + 1).getBytes(StandardCharsets.US_ASCII))) {
+            return false;
+        }
+
+        String[] parts = payload.substring(Constants.Seat.SIGNED_QR_PREFIX.length()).split("\\.");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            long seatId = Long.parseLong(parts[1], 36);
+            int generation = Integer.parseInt(parts[2], 36);
+            return generation >= generations.getOrDefault(seatId, 0);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * QR코드 재생성 반영 (커밋 후)
+     */
+    public void updateGeneration(Long seatId, int generation) {
+        TransactionUtils.afterCommit(() -> generations.merge(seatId, generation, Math::max));
+    }
+
+    /**
+     * DB에서 조회한 좌석의 세대 반영 (다른 인스턴스에서 재생성된 좌석의 이전 코드를 이후 계산만으로 거부)
+     */
+    public void observeGeneration(Long seatId, int generation) {
+        if (generation > 0) {
+            generations.merge(seatId, generation, Math::max);
+        }
+    }
+    
+    /**
+     * 삭제된 좌석의 서명 QR코드 폐기 (커밋 후)
+     */
+    public void revoke(Long seatId) {
+        TransactionUtils.afterCommit(() -> generations.put(seatId, REVOKED));
+    }
+
+    private String mac(String payload) {
+        byte[] digest = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(digest, Constants.Seat.SIGNED_QR_MAC_BYTES));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("QR코드 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * JWT 비밀키를 함께 쓰는 경우에도 용도별로 다른 키가 되도록 파생
+     */
+    private static byte[] deriveKey(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(("qr-token:" + secret).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
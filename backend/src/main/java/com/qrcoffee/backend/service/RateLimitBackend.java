@@ -0,0 +1,30 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.util.RateLimitPolicy;
+
+/**
+ * Rate Limit 토큰 저장소
+ *
+ * - LocalRateLimitBackend: 서버 메모리 (서버별 한도, 단일 서버/개발용)
+ * - SharedRateLimitBackend: MySQL 공유 버킷 (전체 서버 합산 한도)
+ * - rate-limit.backend 설정으로 선택 (RateLimitConfig)
+ */
+public interface RateLimitBackend {
+
+    /** 허용됨 */
+    long ALLOWED = 0L;
+    /** 추적 상한 초과로 정책별 공유 overflow 버킷에서 허용됨 */
+    long OVERFLOW = -1L;
+
+    /**
+     * 정책 버킷에서 key의 토큰 cost개 사용 시도
+     *
+     * @return ALLOWED 또는 OVERFLOW면 허용, 양수면 거부 (허용될 때까지 대기 시간, ns)
+     */
+    long tryAcquire(RateLimitPolicy policy, String key, int cost);
+
+    /**
+     * 유휴 상태 정리 (주기적으로 호출)
+     */
+    void evictIdle();
+}
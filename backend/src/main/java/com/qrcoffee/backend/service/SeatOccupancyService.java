@@ -0,0 +1,186 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.SeatOccupancyMessage;
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 기반 좌석 점유 자동 관리
+ *
+ * - 주문 생성 시 좌석을 점유 상태로 변경, 주문 수령/취소 후 유휴 시간이 지나면 자동 해제
+ * - 해제 일정은 좌석별 최신 1건만 DelayQueue에 보관하고 전용 스레드가 만료된 것만 꺼내 처리 (주기적 전체 조회 없음)
+ * - 해제 UPDATE는 그 사이 새 주문이 들어왔거나 진행 중인 주문이 있으면 적용되지 않음 (다른 인스턴스의 주문 포함)
+ * - 일정은 메모리에만 있으므로 기동 시 주문으로 점유 중인 좌석의 해제 일정을 다시 등록 (관리자가 직접 점유한 좌석은 제외)
+ * - 변경은 커밋 후 관리자 좌석 현황판(/topic/admin/{storeId}/seats)으로 전송
+ */
+@Service
+@Slf4j
+public class SeatOccupancyService {
+
+    private static final List<Order.OrderStatus> OPEN_STATUSES =
+            List.of(Order.OrderStatus.PENDING, Order.OrderStatus.PREPARING, Order.OrderStatus.COMPLETED);
+
+    private final SeatRepository seatRepository;
+    private final SeatQrCache seatQrCache;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final long idleTimeoutMs;
+
+    private final DelayQueue<Release> releases = new DelayQueue<>();
+    private final Map<Long, Release> pending = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public SeatOccupancyService(SeatRepository seatRepository,
+                                SeatQrCache seatQrCache,
+                                WebSocketNotificationService webSocketNotificationService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${seat.occupancy.idle-timeout-ms:600000}") long idleTimeoutMs) {
+        this.seatRepository = seatRepository;
+        this.seatQrCache = seatQrCache;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * 해제 스레드 시작 및 점유 중인 좌석의 해제 일정 복구
+     */
+    @PostConstruct
+    public void start() {
+        List<Object[]> occupiedSeats = seatRepository.findOrderOccupiedSeatIds();
+        occupiedSeats.forEach(row -> schedule((Long) row[1], (Long) row[0]));
+
+        worker = new Thread(this::runReleases, "seat-occupancy");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("좌석 점유 자동 해제 시작: idleTimeoutMs={}, occupiedSeats={}", idleTimeoutMs, occupiedSeats.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * 주문 생성 시 좌석 점유 (호출 트랜잭션에서 좌석 엔티티 변경, 커밋 후 해제 일정 취소 및 전송)
+     */
+    public void occupy(Seat seat) {
+        boolean changed = !Boolean.TRUE.equals(seat.getIsOccupied());
+        seat.setIsOccupied(true);
+        seat.setOccupiedByOrder(true);
+        seat.setLastUsedAt(LocalDateTime.now());
+        if (changed) {
+            seatQrCache.invalidate(seat.getQrCode());
+        }
+
+        SeatOccupancyMessage message = toMessage(seat);
+        TransactionUtils.afterCommit(() -> {
+            pending.remove(message.getSeatId());
+            if (changed) {
+                webSocketNotificationService.sendSeatOccupancy(seat.getStoreId(), message);
+            }
+        });
+    }
+
+    /**
+     * 주문 수령/취소 시 유휴 시간 후 해제 예약 (커밋 후 등록, 같은 좌석의 이전 예약은 대체)
+     */
+    public void scheduleRelease(Long storeId, Long seatId) {
+        TransactionUtils.afterCommit(() -> schedule(storeId, seatId));
+    }
+
+    /**
+     * 관리자가 점유 상태를 직접 변경한 경우 (예약된 자동 해제 취소 후 전송)
+     */
+    public void onManualChange(Seat seat) {
+        SeatOccupancyMessage message = toMessage(seat);
+        TransactionUtils.afterCommit(() -> {
+            pending.remove(message.getSeatId());
+            webSocketNotificationService.sendSeatOccupancy(seat.getStoreId(), message);
+        });
+    }
+
+    private void schedule(Long storeId, Long seatId) {
+        Release release = new Release(storeId, seatId, LocalDateTime.now(),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs));
+        pending.put(seatId, release);
+        releases.put(release);
+        log.debug("좌석 점유 해제 예약: seatId={}, afterMs={}", seatId, idleTimeoutMs);
+    }
+
+    private void runReleases() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Release release = releases.take();
+                // 이후 다시 예약/점유된 좌석이면 이 예약은 무시 (최신 예약만 처리)
+                if (pending.remove(release.seatId(), release)) {
+                    release(release);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("좌석 점유 자동 해제 실패", e);
+            }
+        }
+    }
+
+    private void release(Release release) {
+        Integer updated = transactionTemplate.execute(status ->
+                seatRepository.releaseIfIdle(release.seatId(), release.idleSince(), OPEN_STATUSES));
+        if (updated == null || updated == 0) {
+            log.debug("좌석 점유 해제 생략 (사용 중이거나 이미 해제): seatId={}", release.seatId());
+            return;
+        }
+
+        seatRepository.findById(release.seatId()).ifPresent(seat -> {
+            seatQrCache.invalidate(seat.getQrCode());
+            webSocketNotificationService.sendSeatOccupancy(release.storeId(), toMessage(seat));
+        });
+        log.info("좌석 점유 자동 해제: storeId={}, seatId={}", release.storeId(), release.seatId());
+    }
+
+    private SeatOccupancyMessage toMessage(Seat seat) {
+        return SeatOccupancyMessage.builder()
+                .seatId(seat.getId())
+                .seatNumber(seat.getSeatNumber())
+                .isOccupied(seat.getIsOccupied())
+                .lastUsedAt(seat.getLastUsedAt())
+                .build();
+    }
+
+    /**
+     * 좌석 해제 예약 (idleSince: 예약 시각. 이후 주문이 들어온 좌석은 해제하지 않음)
+     */
+    private record Release(Long storeId, Long seatId, LocalDateTime idleSince, long deadlineNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((Release) other).deadlineNanos);
+        }
+    }
+}
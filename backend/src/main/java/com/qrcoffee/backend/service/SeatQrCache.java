@@ -0,0 +1,94 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.util.LruCache;
+import com.qrcoffee.backend.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * QR코드 → 활성 좌석 캐시
+ *
+ * - 스캔마다 DB를 읽지 않도록 활성 좌석을 메모리에 보관하고, 없는 QR코드도 짧게 기억 (봇의 무작위 코드 스캔 차단)
+ * - 좌석 변경 시 커밋 후 무효화. 조회 중 무효화가 끼어들면 읽은 값은 저장하지 않음 (이전 값이 다시 캐시되지 않도록)
+ * - 다른 서버 인스턴스의 변경은 TTL 이내에 반영
+ * - 반환하는 SeatResponse는 공유 객체이므로 호출 측에서 수정하지 않음
+ */
+@Component
+@Slf4j
+public class SeatQrCache {
+
+    private final LruCache<String, Entry> seats = new LruCache<>(Constants.Seat.QR_CACHE_SIZE);
+    private final LruCache<String, Long> unknown = new LruCache<>(Constants.Seat.QR_NEGATIVE_CACHE_SIZE);
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongSupplier clock;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public SeatQrCache(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::currentTimeMillis);
+    }
+
+    SeatQrCache(MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.hits = meterRegistry.counter("seat.qr.cache", "result", "hit");
+        this.negativeHits = meterRegistry.counter("seat.qr.cache", "result", "negative_hit");
+        this.misses = meterRegistry.counter("seat.qr.cache", "result", "miss");
+    }
+
+    /**
+     * QR코드의 활성 좌석 조회 (없으면 null). 캐시에 없을 때만 loader 호출
+     */
+    public SeatResponse getActiveSeat(String qrCode, Function<String, SeatResponse> loader) {
+        long now = clock.getAsLong();
+        Entry entry = seats.get(qrCode);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return entry.seat();
+        }
+        Long unknownUntil = unknown.get(qrCode);
+        if (unknownUntil != null && unknownUntil > now) {
+            negativeHits.increment();
+            return null;
+        }
+
+        misses.increment();
+        long generation = invalidations.get();
+        SeatResponse seat = loader.apply(qrCode);
+        if (invalidations.get() == generation) {
+            if (seat != null) {
+                seats.put(qrCode, new Entry(seat, now + Constants.Seat.QR_CACHE_TTL_MS));
+            } else {
+                unknown.put(qrCode, now + Constants.Seat.QR_NEGATIVE_CACHE_TTL_MS);
+            }
+        }
+        return seat;
+    }
+
+    /**
+     * QR코드 캐시 무효화 (트랜잭션 중이면 커밋 후)
+     */
+    public void invalidate(String... qrCodes) {
+        TransactionUtils.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            for (String qrCode : qrCodes) {
+                if (qrCode != null) {
+                    seats.remove(qrCode);
+                    unknown.remove(qrCode);
+                }
+            }
+            log.debug("QR코드 캐시 무효화: qrCodes={}", (Object) qrCodes);
+        });
+    }
+
+    private record Entry(SeatResponse seat, long expiresAt) {}
+}
@@ -1,11 +1,13 @@
 package com.qrcoffee.backend.service;
 
 import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SeatBulkRequest;
 import com.qrcoffee.backend.dto.SeatRequest;
 import com.qrcoffee.backend.dto.SeatResponse;
 import com.qrcoffee.backend.dto.SeatStatsResponse;
 import com.qrcoffee.backend.entity.Seat;
 import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.SeatBatchRepository;
 import com.qrcoffee.backend.repository.SeatRepository;
 import com.qrcoffee.backend.util.QRCodeUtil;
 import com.qrcoffee.backend.util.ValidationUtils;
@@ -16,7 +18,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +32,11 @@ import java.util.stream.Collectors;
 public class SeatService {
     
     private final SeatRepository seatRepository;
+    private final SeatBatchRepository seatBatchRepository;
     private final QRCodeUtil qrCodeUtil;
+    private final SeatQrCache seatQrCache;
+    private final QrTokenService qrTokenService;
+    private final SeatOccupancyService seatOccupancyService;
     
     /**
      * 매장의 모든 좌석 조회
@@ -75,13 +85,13 @@ public class SeatService {
         log.info("QR코드로 활성 좌석 조회: qrCode={}", qrCode);
         
         // QR코드 형식 검증
-        ValidationUtils.validateQRCodeFormat(qrCode, qrCodeUtil::isValidQRCode);
+        ValidationUtils.validateQRCodeFormat(qrCode, this::isValidQRCodeFormat);
         
-        // 활성 좌석 조회 및 검증
-        Seat seat = seatRepository.findByQrCodeAndIsActiveTrue(qrCode).orElse(null);
+        // 활성 좌석 조회 및 검증 (캐시 우선)
+        SeatResponse seat = findActiveSeatByQRCode(qrCode);
         ValidationUtils.validateActiveSeatByQRCode(seat, qrCode);
         
-        return SeatResponse.from(seat);
+        return seat;
     }
     
     /**
@@ -98,6 +108,14 @@ public class SeatService {
         Seat seat = buildNewSeat(storeId, request);
         Seat savedSeat = seatRepository.save(seat);
         
+        // 서명 QR코드는 좌석 ID가 필요하므로 저장 후 교체
+        String signedQrCode = qrTokenService.issue(savedSeat);
+        if (signedQrCode != null) {
+            savedSeat.setQrCode(signedQrCode);
+            savedSeat.setQrCodeImageUrl(qrCodeUtil.generateQRCodeImage(signedQrCode));
+        }
+        seatQrCache.invalidate(savedSeat.getQrCode());
+        
         // QR코드 생성 로그 (저장된 좌석의 ID 사용)
         qrCodeUtil.logQRCodeGeneration(savedSeat.getQrCode(), savedSeat.getId(), savedSeat.getSeatNumber());
         
@@ -105,6 +123,65 @@ public class SeatService {
         return SeatResponse.from(savedSeat);
     }
     
+    /**
+     * 좌석 일괄 생성 (좌석번호 패턴)
+     * 좌석번호/QR코드 중복은 IN 쿼리 한 번씩으로 확인하고 JDBC batch로 등록
+     */
+    @Transactional
+    public List<SeatResponse> createSeatsBulk(Long storeId, SeatBulkRequest request) {
+        List<String> seatNumbers = buildSeatNumbers(request);
+        log.info("좌석 일괄 생성: storeId={}, count={}, first={}, last={}",
+                storeId, seatNumbers.size(), seatNumbers.get(0), seatNumbers.get(seatNumbers.size() - 1));
+        
+        // 좌석번호 중복 검증
+        List<String> duplicates = seatRepository.findExistingSeatNumbers(storeId, seatNumbers);
+        if (!duplicates.isEmpty()) {
+            log.warn("좌석번호 중복 시도: storeId={}, seatNumbers={}", storeId, duplicates);
+            throw new BusinessException("이미 존재하는 좌석번호입니다: " + String.join(", ", duplicates), HttpStatus.BAD_REQUEST);
+        }
+        
+        // 좌석 등록 (JDBC batch라 영속성 컨텍스트에 올리지 않음)
+        List<String> qrCodes = generateUniqueQRCodes(seatNumbers.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<Seat> seats = new ArrayList<>(seatNumbers.size());
+        for (int i = 0; i < seatNumbers.size(); i++) {
+            seats.add(Seat.builder()
+                    .storeId(storeId)
+                    .seatNumber(seatNumbers.get(i))
+                    .description(request.getDescription())
+                    .qrCode(qrCodes.get(i))
+                    .isActive(request.getIsActive() != null ? request.getIsActive() : true)
+                    .isOccupied(false)
+                    .maxCapacity(request.getMaxCapacity() != null ? request.getMaxCapacity() : Constants.Seat.DEFAULT_MAX_CAPACITY)
+                    .qrCodeImageUrl(qrCodeUtil.generateQRCodeImage(qrCodes.get(i)))
+                    .qrGeneratedAt(now)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        seatBatchRepository.insertSeats(seats);
+        
+        // 생성된 ID 반영 후 서명 QR코드 일괄 교체 (좌석 ID가 필요하므로 등록 후)
+        Map<String, Long> seatIds = seatBatchRepository.findSeatIds(storeId, seatNumbers);
+        List<Seat> signedSeats = new ArrayList<>();
+        for (Seat seat : seats) {
+            seat.setId(seatIds.get(seat.getSeatNumber()));
+            String signedQrCode = qrTokenService.issue(seat);
+            if (signedQrCode != null) {
+                seat.setQrCode(signedQrCode);
+                seat.setQrCodeImageUrl(qrCodeUtil.generateQRCodeImage(signedQrCode));
+                signedSeats.add(seat);
+            }
+        }
+        if (!signedSeats.isEmpty()) {
+            seatBatchRepository.updateQrCodes(signedSeats);
+        }
+        
+        seatQrCache.invalidate(seats.stream().map(Seat::getQrCode).toArray(String[]::new));
+        log.info("{}: storeId={}, count={}", Constants.Seat.SEAT_CREATED_MESSAGE, storeId, seats.size());
+        return convertToSeatResponses(seats);
+    }
+    
     /**
      * 좌석 수정
      */
@@ -122,6 +199,7 @@ public class SeatService {
         updateSeatProperties(seat, request);
         
         Seat updatedSeat = seatRepository.save(seat);
+        seatQrCache.invalidate(updatedSeat.getQrCode());
         log.info("{}: seatId={}", Constants.Seat.SEAT_UPDATED_MESSAGE, seatId);
         return SeatResponse.from(updatedSeat);
     }
@@ -137,6 +215,8 @@ public class SeatService {
         Seat seat = findSeatByIdAndValidateOwnership(seatId, storeId);
         
         seatRepository.delete(seat);
+        seatQrCache.invalidate(seat.getQrCode());
+        qrTokenService.revoke(seatId);
         log.info("{}: seatId={}", Constants.Seat.SEAT_DELETED_MESSAGE, seatId);
     }
     
@@ -154,6 +234,7 @@ public class SeatService {
         toggleSeatActivation(seat);
         
         Seat updatedSeat = seatRepository.save(seat);
+        seatQrCache.invalidate(updatedSeat.getQrCode());
         return SeatResponse.from(updatedSeat);
     }
     
@@ -172,6 +253,8 @@ public class SeatService {
         regenerateQRCodeForSeat(seat);
         
         Seat updatedSeat = seatRepository.save(seat);
+        seatQrCache.invalidate(oldQrCode, updatedSeat.getQrCode());
+        qrTokenService.updateGeneration(seatId, updatedSeat.getQrGeneration());
         qrCodeUtil.logQRCodeGeneration(seat.getQrCode(), seat.getId(), seat.getSeatNumber());
         
         log.info("{}: seatId={}, oldQrCode={}, newQrCode={}", 
@@ -203,11 +286,35 @@ public class SeatService {
      * QR코드 유효성 검증
      */
     public boolean validateQRCode(String qrCode) {
-        if (!qrCodeUtil.isValidQRCode(qrCode)) {
+        if (!isValidQRCodeFormat(qrCode)) {
             return false;
         }
         
-        return seatRepository.findByQrCodeAndIsActiveTrue(qrCode).isPresent();
+        return findActiveSeatByQRCode(qrCode) != null;
+    }
+    
+    /**
+     * QR코드 형식 검증 (UUID, 8자리 영숫자, 서명 QR코드)
+     */
+    private boolean isValidQRCodeFormat(String qrCode) {
+        return qrCodeUtil.isValidQRCode(qrCode) || qrTokenService.isSigned(qrCode);
+    }
+    
+    /**
+     * QR코드로 활성 좌석 조회 (캐시에 없을 때만 DB 조회, 없으면 null)
+     */
+    private SeatResponse findActiveSeatByQRCode(String qrCode) {
+        // 서명 QR코드는 위조/폐기 여부를 계산으로 먼저 판정 (실패 시 DB/캐시 접근 없음, 통과한 코드는 아래 조회를 거침)
+        if (qrTokenService.isSigned(qrCode) && !qrTokenService.verify(qrCode)) {
+            return null;
+        }
+        return seatQrCache.getActiveSeat(qrCode,
+                code -> seatRepository.findByQrCodeAndIsActiveTrue(code)
+                        .map(seat -> {
+                            qrTokenService.observeGeneration(seat.getId(), seat.getQrGeneration());
+                            return SeatResponse.from(seat);
+                        })
+                        .orElse(null));
     }
     
     // ============ Private Helper Methods ============
@@ -300,7 +407,12 @@ public class SeatService {
      * 좌석의 QR코드 재생성
      */
     private void regenerateQRCodeForSeat(Seat seat) {
-        String newQrCode = generateUniqueQRCode();
+        // 세대를 올려 이전 서명 QR코드 폐기
+        seat.setQrGeneration(seat.getQrGeneration() + 1);
+        String newQrCode = qrTokenService.issue(seat);
+        if (newQrCode == null) {
+            newQrCode = generateUniqueQRCode();
+        }
         String newQrCodeImageUrl = null;
         
         try {
@@ -328,14 +440,17 @@ public class SeatService {
         
         ValidationUtils.validateSeatStoreOwnership(seat, storeId);
         
-        // 점유 상태 토글
+        // 점유 상태 토글 (관리자가 직접 변경한 좌석은 자동 해제 대상에서 제외)
         seat.setIsOccupied(!seat.getIsOccupied());
+        seat.setOccupiedByOrder(false);
         
         if (seat.getIsOccupied()) {
             seat.setLastUsedAt(LocalDateTime.now());
         }
         
         Seat updatedSeat = seatRepository.save(seat);
+        seatQrCache.invalidate(updatedSeat.getQrCode());
+        seatOccupancyService.onManualChange(updatedSeat);
         log.info("좌석 점유 상태 변경: seatId={}, isOccupied={}", seatId, updatedSeat.getIsOccupied());
         
         return SeatResponse.from(updatedSeat);
@@ -357,6 +472,45 @@ public class SeatService {
         return qrCode;
     }
     
+    /**
+     * 서로 다른 QR코드 여러 개 생성 (기존 좌석과의 중복은 IN 쿼리로 한 번에 확인)
+     */
+    private List<String> generateUniqueQRCodes(int count) {
+        Set<String> qrCodes = new LinkedHashSet<>();
+        int attempts = 0;
+        
+        while (qrCodes.size() < count) {
+            attempts++;
+            ValidationUtils.validateQRCodeGeneration(attempts, Constants.Seat.QR_CODE_GENERATION_MAX_ATTEMPTS);
+            
+            Set<String> candidates = new LinkedHashSet<>();
+            while (candidates.size() < count - qrCodes.size()) {
+                String qrCode = qrCodeUtil.generateQRCode();
+                if (!qrCodes.contains(qrCode)) {
+                    candidates.add(qrCode);
+                }
+            }
+            seatRepository.findExistingQrCodes(candidates).forEach(candidates::remove);
+            qrCodes.addAll(candidates);
+        }
+        
+        return new ArrayList<>(qrCodes);
+    }
+    
+    /**
+     * 일괄 생성 요청의 좌석번호 목록
+     */
+    private List<String> buildSeatNumbers(SeatBulkRequest request) {
+        String prefix = request.getPrefix() != null ? request.getPrefix().trim() : "";
+        String format = "%0" + Math.max(1, request.getPadding() != null ? request.getPadding() : 0) + "d";
+        
+        List<String> seatNumbers = new ArrayList<>(request.getCount());
+        for (int i = 0; i < request.getCount(); i++) {
+            seatNumbers.add(prefix + String.format(format, request.getStartNumber() + i));
+        }
+        return seatNumbers;
+    }
+    
     /**
      * 이용률 계산
      */
@@ -0,0 +1,196 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.repository.RateLimitBucketRepository;
+import com.qrcoffee.backend.util.RateLimitPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 서버 공유 Rate Limit (MySQL rate_limit_buckets)
+ *
+ * - 모든 서버가 같은 버킷을 사용하므로 서버 수와 관계없이 정책 한도가 전체 합산으로 적용
+ * - 요청마다 DB를 거치지 않도록 burst/LEASE_DIVISOR개씩 미리 받아(lease) 서버 메모리에서 차감
+ * - 다시 받을 때는 남은 토큰을 뺀 만큼만 받고, LEASE_TTL_MS 동안 다시 받지 않은 키의 남은 토큰은 정리 시 공유 버킷에 반납
+ * - 거부되면 대기 시간이 끝날 때까지 같은 키는 DB를 거치지 않고 서버 메모리에서 거부 (공유 버킷도 그 전에는 허용하지 않음)
+ * - DB 오류 시 서버 메모리 Rate Limit으로 대체 (복구되면 자동으로 공유 버킷 사용)
+ * - 시각은 각 서버 시계 기준이므로 서버 간 시계 동기화(NTP) 필요
+ */
+@Slf4j
+public class SharedRateLimitBackend implements RateLimitBackend {
+    
+    private static final int MAX_KEY_LENGTH = 64; // rate_limit_buckets.bucket_key 컬럼 길이
+    
+    private final RateLimitBucketRepository repository;
+    private final LocalRateLimitBackend fallback;
+    private final LongSupplier clock;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Counter storeCalls;
+    private final Counter fallbacks;
+    private volatile boolean degraded;
+    
+    public SharedRateLimitBackend(RateLimitBucketRepository repository, MeterRegistry meterRegistry) {
+        this(repository, meterRegistry, System::currentTimeMillis);
+    }
+    
+    SharedRateLimitBackend(RateLimitBucketRepository repository, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.repository = repository;
+        this.fallback = new LocalRateLimitBackend(meterRegistry);
+        this.clock = clock;
+        this.storeCalls = meterRegistry.counter("rate.limit.store.calls");
+        this.fallbacks = meterRegistry.counter("rate.limit.fallback");
+        meterRegistry.gaugeMapSize("rate.limit.leases", Tags.empty(), leases);
+    }
+    
+    @Override
+    public long tryAcquire(RateLimitPolicy policy, String key, int cost) {
+        String leaseKey = policy.name() + ":" + key;
+        long now = clock.getAsLong();
+        
+        Lease lease = leases.get(leaseKey);
+        if (lease != null) {
+            if (lease.denied() && lease.expiresAt() > now) {
+                return TimeUnit.MILLISECONDS.toNanos(lease.expiresAt() - now);
+            }
+            if (!lease.denied() && lease.take(cost)) {
+                return ALLOWED; // 이미 공유 버킷에서 차감된 토큰이므로 만료 여부와 관계없이 사용
+            }
+        }
+        
+        try {
+            long result = lease(policy, leaseKey, key, cost, now, lease);
+            if (degraded) {
+                degraded = false;
+                log.info("공유 Rate Limit 저장소 복구");
+            }
+            return result;
+        } catch (DataAccessException e) {
+            fallbacks.increment();
+            if (!degraded) {
+                degraded = true;
+                log.warn("공유 Rate Limit 저장소 오류로 서버별 Rate Limit 적용: {}", e.getMessage());
+            }
+            return fallback.tryAcquire(policy, key, cost);
+        }
+    }
+    
+    /**
+     * 공유 버킷에서 토큰을 받아 cost만큼 사용하고 나머지는 서버 메모리에 보관
+     * 이전 lease에 남은 토큰(cost 미만)은 이어서 사용하고 부족한 만큼만 받음
+     * 묶음으로 받을 수 없으면 cost만큼만 다시 시도하고, 그래도 거부되면 대기 시간 동안 거부 상태 보관
+     */
+    private long lease(RateLimitPolicy policy, String leaseKey, String key, int cost, long now, Lease previous) {
+        int carried = previous != null ? previous.remaining().getAndSet(0) : 0;
+        boolean trackable = leases.size() < Constants.RateLimit.MAX_KEYS || leases.containsKey(leaseKey);
+        int batch = trackable
+                ? Math.min(policy.burst(), Math.max(cost, policy.burst() / Constants.RateLimit.LEASE_DIVISOR))
+                : cost;
+        batch = Math.max(batch, carried);
+        
+        long waitMicros = acquire(policy, key, batch - carried, now);
+        if (waitMicros > 0 && batch > cost) {
+            batch = Math.max(cost, carried);
+            waitMicros = acquire(policy, key, batch - carried, now);
+        }
+        if (waitMicros > 0) {
+            long waitMs = (waitMicros + TimeUnit.MILLISECONDS.toMicros(1) - 1) / TimeUnit.MILLISECONDS.toMicros(1);
+            if (trackable) {
+                // 남은 토큰은 거부 상태에 보관했다가 다음 lease 또는 정리 시 반납
+                leases.put(leaseKey, new Lease(policy, key, new AtomicInteger(carried), now + waitMs, true));
+            } else if (carried > 0) {
+                release(policy, key, carried);
+            }
+            return TimeUnit.MICROSECONDS.toNanos(waitMicros);
+        }
+        
+        if (batch > cost) {
+            leases.put(leaseKey, new Lease(policy, key, new AtomicInteger(batch - cost),
+                    now + Constants.RateLimit.LEASE_TTL_MS, false));
+        } else {
+            leases.remove(leaseKey);
+        }
+        return ALLOWED;
+    }
+    
+    private long acquire(RateLimitPolicy policy, String key, int tokens, long now) {
+        if (tokens <= 0) {
+            return 0;
+        }
+        storeCalls.increment();
+        return repository.tryAcquire(policy.name(), bucketKey(key),
+                TimeUnit.MILLISECONDS.toMicros(now),
+                toMicros(policy, tokens),
+                toMicros(policy, policy.burst()));
+    }
+    
+    /**
+     * 쓰지 않은 토큰을 공유 버킷에 반납
+     */
+    private void release(RateLimitPolicy policy, String key, int tokens) {
+        storeCalls.increment();
+        repository.release(policy.name(), bucketKey(key), toMicros(policy, tokens));
+    }
+    
+    private static long toMicros(RateLimitPolicy policy, int tokens) {
+        return Math.round(TimeUnit.SECONDS.toMicros(1) / policy.ratePerSecond() * tokens);
+    }
+    
+    private static String bucketKey(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+    
+    /**
+     * 만료된 lease의 남은 토큰 반납과 가득 찬 공유 버킷 정리
+     */
+    @Override
+    @Scheduled(fixedDelay = Constants.RateLimit.SHARED_CLEANUP_INTERVAL_MS)
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        fallback.evictIdle();
+        try {
+            for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+                Lease lease = entry.getValue();
+                if (lease.expiresAt() <= now && leases.remove(entry.getKey(), lease)) {
+                    int unused = lease.remaining().getAndSet(0);
+                    if (unused > 0) {
+                        release(lease.policy(), lease.key(), unused);
+                    }
+                }
+            }
+            int deleted = repository.deleteIdle(TimeUnit.MILLISECONDS.toMicros(now));
+            if (deleted > 0) {
+                log.debug("공유 Rate Limit 버킷 정리: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("공유 Rate Limit 버킷 정리 실패: {}", e.getMessage());
+            leases.values().removeIf(lease -> lease.expiresAt() <= now); // 반납하지 못한 토큰은 버림 (덜 허용하는 쪽)
+        }
+    }
+    
+    /**
+     * 서버에 미리 받아둔 토큰 (expiresAt: 반납 시각, ms / denied: 만료 시각까지 거부)
+     */
+    private record Lease(RateLimitPolicy policy, String key, AtomicInteger remaining, long expiresAt, boolean denied) {
+        
+        boolean take(int cost) {
+            int current;
+            do {
+                current = remaining.get();
+                if (current < cost) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - cost));
+            return true;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 public class StoreService {
     
     private final StoreRepository storeRepository;
+    private final MenuCatalogService menuCatalogService;
     
     /**
      * 매장 ID로 조회
@@ -68,6 +69,7 @@ public class StoreService {
         store.setIsActive(request.getIsActive());
         
         Store updatedStore = storeRepository.save(store);
+        menuCatalogService.invalidate(storeId);
         
         log.info("매장 정보 수정 완료: storeId={}, name={}", storeId, request.getName());
         
@@ -104,6 +106,7 @@ public class StoreService {
         
         store.setIsActive(!store.getIsActive());
         Store updatedStore = storeRepository.save(store);
+        menuCatalogService.invalidate(storeId);
         
         log.info("매장 상태 변경: storeId={}, isActive={}", storeId, updatedStore.getIsActive());
         
@@ -0,0 +1,40 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.MenuCatalog;
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.dto.StorefrontResponse;
+import com.qrcoffee.backend.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 고객 앱 첫 화면 조회 서비스
+ * QR코드 하나로 좌석, 매장 상태, 카테고리별 메뉴를 한 번에 조회 (매장/메뉴는 카탈로그 스냅샷 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StorefrontService {
+    
+    private final SeatService seatService;
+    private final MenuCatalogService menuCatalogService;
+    
+    public StorefrontResponse getStorefront(String qrCode) {
+        SeatResponse seat = seatService.getActiveSeatByQRCode(qrCode);
+        MenuCatalog catalog = menuCatalogService.getCatalog(seat.getStoreId());
+        
+        if (catalog.getStore() == null) {
+            throw new BusinessException("매장을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+        
+        return StorefrontResponse.builder()
+                .seat(seat)
+                .catalogVersion(catalog.getVersion())
+                .catalog(catalog.getStorefrontJson())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.entity.RevokedToken;
+import com.qrcoffee.backend.repository.RevokedTokenRepository;
+import com.qrcoffee.backend.util.BloomFilter;
+import com.qrcoffee.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기 목록
+ *
+ * - 요청마다 확인하므로 Bloom filter로 먼저 거르고, 걸린 경우에만 정확한 집합으로 재확인 (대부분의 요청은 비트 조회만 수행)
+ * - 폐기는 revoked_tokens에 기록하고 커밋 후 로컬에 반영, 다른 서버는 주기적으로 revoked_at 기준 증분 조회
+ * - 만료된 항목은 정확한 집합에서 제거하고 Bloom filter를 다시 생성 (Bloom filter는 삭제 불가)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // tokenId → 만료 시각 (epoch ms)
+    private volatile BloomFilter filter = newFilter();
+    private LocalDateTime syncedAt; // sync() 전용
+
+    /**
+     * 만료되지 않은 폐기 토큰 적재
+     */
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("폐기 토큰 목록 적재: tokens={}", revoked.size());
+    }
+
+    /**
+     * 폐기 여부 (요청마다 호출, DB 조회 없음)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Access Token 폐기 (호출 트랜잭션에서 기록, 커밋 후 로컬 반영)
+     */
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(LocalDateTime.now())) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build());
+        TransactionUtils.afterCommit(() -> add(tokenId, expiresAt));
+    }
+
+    /**
+     * 다른 서버에서 폐기된 토큰 반영 및 만료 항목 정리
+     */
+    @Scheduled(fixedDelay = Constants.Auth.REVOCATION_SYNC_INTERVAL_MS)
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> tokens = syncedAt == null
+                ? revokedTokenRepository.findByExpiresAtAfter(now)
+                : revokedTokenRepository.findByRevokedAtAfter(
+                        syncedAt.minus(Constants.Auth.REVOCATION_SYNC_OVERLAP_MS, ChronoUnit.MILLIS));
+        tokens.forEach(token -> add(token.getTokenId(), token.getExpiresAt()));
+        syncedAt = now;
+
+        long nowMillis = System.currentTimeMillis();
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis)) {
+            rebuildFilter();
+        }
+    }
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     */
+    @Scheduled(fixedDelay = Constants.Auth.TOKEN_CLEANUP_INTERVAL_MS)
+    @Transactional
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 삭제: {}건", deleted);
+        }
+    }
+
+    private synchronized void add(String tokenId, LocalDateTime expiresAt) {
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (expiresAtMillis > System.currentTimeMillis() && revoked.put(tokenId, expiresAtMillis) == null) {
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * 남은 항목으로 새 필터를 만들어 교체 (add와 같은 잠금이므로 교체 중 추가된 항목이 빠지지 않음)
+     */
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = newFilter();
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(Constants.Auth.REVOCATION_BLOOM_BITS, Constants.Auth.REVOCATION_BLOOM_HASHES);
+    }
+}
@@ -10,13 +10,13 @@ import com.qrcoffee.backend.entity.User;
 import com.qrcoffee.backend.exception.BusinessException;
 import com.qrcoffee.backend.repository.StoreRepository;
 import com.qrcoffee.backend.repository.UserRepository;
-import com.qrcoffee.backend.util.JwtUtil;
 import com.qrcoffee.backend.util.ValidationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -31,7 +31,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
+    private final AuthTokenService authTokenService;
+    private final PasswordVerificationService passwordVerificationService;
+    private final LoginAttemptService loginAttemptService;
     
     /**
      * 회원가입
@@ -83,23 +85,36 @@ public class UserService {
     
     /**
      * 로그인
+     * 비밀번호 해시 대기 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (토큰 발급은 별도 트랜잭션)
      */
-    @Transactional
-    public JwtResponse login(LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JwtResponse login(LoginRequest request, String clientIp) {
         log.info("로그인 시도: {}", request.getEmail());
         
-        // 사용자 조회 및 검증
-        User user = findAndValidateUser(request);
-        
-        // 비밀번호 검증
-        validatePassword(request.getPassword(), user);
-        
-        // JWT 토큰 생성
-        JwtResponse jwtResponse = generateJwtResponse(user);
-        
-        log.info("{}: {} (ID: {})", Constants.User.LOGIN_SUCCESS_MESSAGE, user.getEmail(), user.getId());
+        // 실패 횟수 제한 (해시 계산 전)
+        loginAttemptService.checkAllowed(request.getEmail(), clientIp);
         
-        return jwtResponse;
+        try {
+            // 사용자 조회 및 검증
+            User user = findAndValidateUser(request);
+            
+            // 비밀번호 검증
+            validatePassword(request.getPassword(), user,
+                    loginAttemptService.hasRecentFailures(request.getEmail(), clientIp));
+            loginAttemptService.recordSuccess(request.getEmail(), clientIp);
+            
+            // JWT 토큰 발급 (Refresh Token은 서버에 기록)
+            JwtResponse jwtResponse = authTokenService.issue(user);
+            
+            log.info("{}: {} (ID: {})", Constants.User.LOGIN_SUCCESS_MESSAGE, user.getEmail(), user.getId());
+            
+            return jwtResponse;
+        } catch (BusinessException e) {
+            if (e.getStatus() == HttpStatus.UNAUTHORIZED) {
+                loginAttemptService.recordFailure(request.getEmail(), clientIp);
+            }
+            throw e;
+        }
     }
     
     /**
@@ -120,38 +135,15 @@ public class UserService {
     }
     
     /**
-     * 비밀번호 검증
+     * 비밀번호 검증 (전용 스레드 풀에서 해시 계산)
      */
-    private void validatePassword(String rawPassword, User user) {
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+    private void validatePassword(String rawPassword, User user, boolean lowPriority) {
+        if (!passwordVerificationService.matches(rawPassword, user.getPassword(), lowPriority)) {
             log.warn("비밀번호 불일치: {}", user.getEmail());
             throw new BusinessException("잘못된 이메일 또는 비밀번호입니다.", HttpStatus.UNAUTHORIZED);
         }
     }
     
-    /**
-     * JWT 응답 생성
-     */
-    private JwtResponse generateJwtResponse(User user) {
-        String accessToken = jwtUtil.generateAccessToken(
-                user.getEmail(), 
-                user.getId(), 
-                user.getRole().name(), 
-                user.getStoreId()
-        );
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
-        
-        return new JwtResponse(
-                accessToken,
-                refreshToken,
-                user.getId(),
-                user.getEmail(),
-                user.getName(),
-                user.getRole().name(),
-                user.getStoreId()
-        );
-    }
-    
     /**
      * 현재 사용자 정보 조회
      */
@@ -194,6 +186,11 @@ public class UserService {
         user.setIsActive(!user.getIsActive());
         User updatedUser = userRepository.save(user);
         
+        // 비활성화된 계정의 발급 토큰 폐기
+        if (!updatedUser.getIsActive()) {
+            authTokenService.revokeAll(updatedUser.getId());
+        }
+        
         log.info("{}: {} -> {}", Constants.User.USER_STATUS_CHANGE_MESSAGE, user.getEmail(), user.getIsActive() ? "활성화" : "비활성화");
         
         return UserResponse.from(updatedUser);
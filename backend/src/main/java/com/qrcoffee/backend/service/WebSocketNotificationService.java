@@ -1,5 +1,7 @@
 package com.qrcoffee.backend.service;
 
+import com.qrcoffee.backend.dto.MenuAvailabilityMessage;
+import com.qrcoffee.backend.dto.SeatOccupancyMessage;
 import com.qrcoffee.backend.entity.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -68,4 +70,34 @@ public class WebSocketNotificationService {
     public void notifyPaymentCompleted(Long orderId, Notification notification) {
         sendToCustomer(orderId, notification);
     }
+    
+    /**
+     * 메뉴 판매 상태 변경 브로드캐스트 (매장 메뉴를 보고 있는 고객 전체)
+     * 이미 커밋된 변경의 알림이므로 전송 실패는 로그만 남김
+     */
+    public void sendMenuAvailability(Long storeId, MenuAvailabilityMessage message) {
+        String destination = "/topic/public/stores/" + storeId + "/menus";
+        try {
+            messagingTemplate.convertAndSend(destination, message);
+            log.debug("메뉴 상태 브로드캐스트: storeId={}, menuId={}, available={}",
+                    storeId, message.getMenuId(), message.getAvailable());
+        } catch (Exception e) {
+            log.warn("메뉴 상태 브로드캐스트 실패: storeId={}, menuId={}", storeId, message.getMenuId(), e);
+        }
+    }
+    
+    /**
+     * 좌석 점유 상태 변경 전송 (관리자 좌석 현황판)
+     * 이미 커밋된 변경의 알림이므로 전송 실패는 로그만 남김
+     */
+    public void sendSeatOccupancy(Long storeId, SeatOccupancyMessage message) {
+        String destination = "/topic/admin/" + storeId + "/seats";
+        try {
+            messagingTemplate.convertAndSend(destination, message);
+            log.debug("좌석 점유 상태 전송: storeId={}, seatId={}, occupied={}",
+                    storeId, message.getSeatId(), message.getIsOccupied());
+        } catch (Exception e) {
+            log.warn("좌석 점유 상태 전송 실패: storeId={}, seatId={}", storeId, message.getSeatId(), e);
+        }
+    }
 }
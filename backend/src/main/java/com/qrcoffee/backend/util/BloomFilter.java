@@ -0,0 +1,77 @@
+package com.qrcoffee.backend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키 Bloom filter (스레드 안전, 삭제 불가)
+ *
+ * - mightContain이 false면 확실히 없음, true면 있을 수도 있음 (정확한 집합으로 재확인)
+ * - 비트 설정은 CAS로 처리하므로 조회는 잠금 없이 동시에 수행 가능
+ * - 항목 제거가 필요하면 새 필터를 만들어 교체
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitMask;
+    private final int hashCount;
+
+    /**
+     * @param bitCount  비트 수 (2의 거듭제곱)
+     * @param hashCount 키당 설정하는 비트 수
+     */
+    public BloomFilter(int bitCount, int hashCount) {
+        if (bitCount < Long.SIZE || Integer.bitCount(bitCount) != 1) {
+            throw new IllegalArgumentException("bitCount must be a power of two >= 64: " + bitCount);
+        }
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("hashCount must be positive: " + hashCount);
+        }
+        this.bits = new AtomicLongArray(bitCount / Long.SIZE);
+        this.bitMask = bitCount - 1;
+        this.hashCount = hashCount;
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            int index = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64비트 FNV-1a (앞뒤 32비트를 이중 해싱의 두 해시로 사용)
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        // h2가 짝수면 일부 비트만 순회하므로 홀수로 맞춤
+        return hash | (1L << 32);
+    }
+}
@@ -0,0 +1,50 @@
+package com.qrcoffee.backend.util;
+
+/**
+ * 한글 처리 유틸리티 클래스 (초성 추출 등)
+ */
+public final class HangulUtils {
+    
+    private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+    private static final char SYLLABLE_END = 0xD7A3;   // '힣'
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    
+    private HangulUtils() {
+        // 인스턴스화 방지
+    }
+    
+    /**
+     * 완성형 한글 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+    
+    /**
+     * 초성 자음(호환 자모) 여부 (예: 'ㅇ')
+     */
+    public static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+    
+    /**
+     * 음절의 초성 반환 (한글 음절이 아니면 그대로 반환)
+     */
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG);
+    }
+    
+    /**
+     * 검색어 문자와 대상 문자 일치 여부 (검색어가 초성이면 대상 음절의 초성과 비교)
+     */
+    public static boolean matches(char query, char target) {
+        if (query == target) {
+            return true;
+        }
+        return isChoseong(query) && isSyllable(target) && choseongOf(target) == query;
+    }
+}
@@ -0,0 +1,14 @@
+package com.qrcoffee.backend.util;
+
+/**
+ * 검증된 Access Token의 사용자 정보 (불변)
+ *
+ * @param tokenId   토큰 ID (jti, 폐기 확인용. 이전 버전 토큰은 null)
+ * @param expiresAt 토큰 만료 시각 (epoch ms)
+ */
+public record JwtPrincipal(String tokenId, String email, Long userId, String role, Long storeId, long expiresAt) {
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -1,65 +1,102 @@
 package com.qrcoffee.backend.util;
 
 import io.jsonwebtoken.Claims;
+import com.qrcoffee.backend.common.Constants;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 @Component
 @Slf4j
 public class JwtUtil {
     
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final LongSupplier clock;
+    private final JwtParser parser;
+    private final LruCache<String, JwtPrincipal> verifiedTokens = new LruCache<>(Constants.Auth.VERIFIED_TOKEN_CACHE_SIZE);
     
+    @Autowired
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.expiration}") long accessTokenExpiration,
                    @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
+        this(secret, accessTokenExpiration, refreshTokenExpiration, System::currentTimeMillis);
+    }
+    
+    JwtUtil(String secret, long accessTokenExpiration, long refreshTokenExpiration, LongSupplier clock) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.clock = clock;
+        // 파서는 스레드 안전하므로 한 번만 생성
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .clock(() -> new Date(clock.getAsLong()))
+                .build();
     }
     
     /**
-     * Access Token 생성
+     * Access Token 생성 (tokenId: 폐기 처리용 jti)
      */
-    public String generateAccessToken(String email, Long userId, String role, Long storeId) {
+    public String generateAccessToken(String tokenId, String email, Long userId, String role, Long storeId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("role", role);
         claims.put("storeId", storeId);
         
-        return createToken(claims, email, accessTokenExpiration);
+        return createToken(claims, tokenId, email, accessTokenExpiration);
     }
     
     /**
-     * Refresh Token 생성
+     * Refresh Token 생성 (tokenId: refresh_tokens 테이블의 키)
      */
-    public String generateRefreshToken(String email) {
-        return createToken(new HashMap<>(), email, refreshTokenExpiration);
+    public String generateRefreshToken(String tokenId, String email) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        
+        return createToken(claims, tokenId, email, refreshTokenExpiration);
+    }
+    
+    public long getAccessTokenExpiration() {
+        return accessTokenExpiration;
+    }
+    
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
     }
     
     /**
      * 토큰 생성 공통 메서드
      */
-    private String createToken(Map<String, Object> claims, String subject, long expiration) {
-        Date now = new Date();
+    private String createToken(Map<String, Object> claims, String tokenId, String subject, long expiration) {
+        Date now = new Date(clock.getAsLong());
         Date expiryDate = new Date(now.getTime() + expiration);
         
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -68,58 +105,45 @@ public class JwtUtil {
     }
     
     /**
-     * 토큰에서 이메일 추출
-     */
-    public String getEmailFromToken(String token) {
-        return getClaims(token).getSubject();
-    }
-    
-    /**
-     * 토큰에서 사용자 ID 추출
-     */
-    public Long getUserIdFromToken(String token) {
-        return getClaims(token).get("userId", Long.class);
-    }
-    
-    /**
-     * 토큰에서 역할 추출
+     * 토큰 검증 후 사용자 정보 반환 (요청당 1회 파싱)
+     * 검증된 토큰은 해시를 키로 만료 시각까지 캐시하므로 같은 토큰의 반복 요청은 서명 검증을 생략
+     * 검증 실패 시 jjwt 예외를 그대로 던짐 (실패한 토큰은 캐시하지 않음)
      */
-    public String getRoleFromToken(String token) {
-        return getClaims(token).get("role", String.class);
-    }
-    
-    /**
-     * 토큰에서 매장 ID 추출
-     */
-    public Long getStoreIdFromToken(String token) {
-        return getClaims(token).get("storeId", Long.class);
-    }
-    
-    /**
-     * 토큰에서 만료 시간 추출
-     */
-    public Date getExpirationDateFromToken(String token) {
-        return getClaims(token).getExpiration();
-    }
-    
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean isTokenValid(String token, String email) {
-        try {
-            final String tokenEmail = getEmailFromToken(token);
-            return (tokenEmail.equals(email) && !isTokenExpired(token));
-        } catch (Exception e) {
-            log.error("Token validation error: {}", e.getMessage());
-            return false;
+    public JwtPrincipal authenticate(String token) {
+        String key = hash(token);
+        JwtPrincipal cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(clock.getAsLong())) {
+                return cached;
+            }
+            // 만료된 항목은 다시 파싱해 ExpiredJwtException으로 처리
+            verifiedTokens.remove(key);
         }
+        
+        Claims claims = getClaims(token);
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("Refresh token cannot be used for authentication");
+        }
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                claims.get("storeId", Long.class),
+                claims.getExpiration().getTime());
+        verifiedTokens.put(key, principal);
+        return principal;
     }
     
     /**
-     * 토큰 만료 여부 확인
+     * Refresh Token 검증 후 Claims 반환 (캐시하지 않음, Access Token이면 거부)
      */
-    private boolean isTokenExpired(String token) {
-        return getExpirationDateFromToken(token).before(new Date());
+    public Claims parseRefreshToken(String token) {
+        Claims claims = getClaims(token);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("Not a refresh token");
+        }
+        return claims;
     }
     
     /**
@@ -139,11 +163,7 @@ public class JwtUtil {
      */
     private Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
             throw e;
@@ -161,4 +181,16 @@ public class JwtUtil {
             throw e;
         }
     }
+    
+    /**
+     * 캐시 키 (토큰 원문을 메모리에 보관하지 않도록 SHA-256 해시 사용)
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
 } 
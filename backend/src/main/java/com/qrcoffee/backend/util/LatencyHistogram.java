@@ -0,0 +1,99 @@
+package com.qrcoffee.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 병합 가능한 로그-선형 지연시간 히스토그램 (초 단위)
+ *
+ * - 0~31초는 1초 단위, 그 이상은 2의 거듭제곱 구간마다 16개 하위 버킷 (상대 오차 약 6% 이내)
+ * - 고정 크기 배열이라 기록/병합 비용이 일정하고, 같은 구조끼리 버킷 합산으로 병합 가능
+ * - 기록은 스레드 안전 (lock-free)
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 32;           // 1초 단위로 구분하는 구간 [0, 32)
+    private static final int SUB_BUCKETS = 16;            // 2의 거듭제곱 구간당 하위 버킷 수
+    private static final int MIN_EXPONENT = 5;            // 2^5 = 32
+    private static final int MAX_EXPONENT = 20;           // 2^20초 (약 12일) 이상은 마지막 버킷에 누적
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * 값 기록 (초). 음수는 0으로 처리
+     */
+    public void record(long seconds) {
+        long value = Math.max(0, seconds);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * 다른 히스토그램의 값을 이 히스토그램에 합산
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * 백분위 값 (초). 해당 버킷의 상한값을 반환하며 최대값을 넘지 않음. 기록이 없으면 0
+     */
+    public long getPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - 4; // value >> shift 는 [16, 32) 범위
+        int subBucket = (int) (value >> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = MIN_EXPONENT + offset / SUB_BUCKETS;
+        int shift = exponent - 4;
+        long lowerBound = (long) (SUB_BUCKETS + offset % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
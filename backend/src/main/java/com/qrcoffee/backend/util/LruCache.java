@@ -0,0 +1,89 @@
+package com.qrcoffee.backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ *
+ * - 용량을 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 값 계산은 잠금 밖에서 수행 (같은 키를 동시에 계산할 수 있으므로 결과가 같은 순수 계산에만 사용)
+ * - null 값은 저장하지 않음
+ */
+public class LruCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+
+    public LruCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value != null) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 계산 후 저장
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 잠금 안에서 현재 값으로 새 값 계산 (null이면 제거). 다른 호출을 막으므로 가벼운 계산에만 사용
+     */
+    public synchronized V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        V value = remapping.apply(key, entries.get(key));
+        if (value != null) {
+            entries.put(key, value);
+        } else {
+            entries.remove(key);
+        }
+        return value;
+    }
+
+    public synchronized V remove(K key) {
+        return entries.remove(key);
+    }
+
+    public synchronized void removeIf(Predicate<? super K> condition) {
+        entries.keySet().removeIf(condition);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
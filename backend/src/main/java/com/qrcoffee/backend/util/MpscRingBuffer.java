@@ -0,0 +1,85 @@
+package com.qrcoffee.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 다중 생산자/단일 소비자 링 버퍼 (lock-free)
+ *
+ * - 슬롯마다 시퀀스 번호를 두어 생산자는 tail CAS 한 번으로 자리를 잡고, 가득 차면 기다리지 않고 false 반환
+ * - 소비는 한 스레드에서만 해야 함 (drain을 동시에 호출하지 않도록 호출 측에서 보장)
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 소비자 전용
+
+    /**
+     * @param capacity 2의 거듭제곱
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 추가 (가득 차 있으면 false, 블로킹 없음)
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // 한 바퀴 전 원소를 소비자가 아직 꺼내지 않음
+            } else {
+                position = tail.get(); // 다른 생산자가 먼저 차지
+            }
+        }
+    }
+
+    /**
+     * 현재 꺼낼 수 있는 원소를 모두 꺼내 전달 (소비자 스레드 전용)
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<E> consumer) {
+        int drained = 0;
+        while (true) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                return drained; // 비었거나 생산자가 아직 기록 중
+            }
+            E element = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, head + capacity); // 다음 바퀴 생산자에게 반환
+            head++;
+            drained++;
+            consumer.accept(element);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -1,14 +1,25 @@
 package com.qrcoffee.backend.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
 @Slf4j
 public class QRCodeUtil {
     
+    private static final int UUID_LENGTH = 36;
+    private static final int SHORT_CODE_LENGTH = 8;
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern SHORT_CODE_PATTERN = Pattern.compile("[A-Z0-9]{8}");
+    
+    @Value("${qr.order-base-url:http://localhost:3000/order}")
+    private String orderBaseUrl;
+    
     /**
      * 고유한 QR코드 UUID 생성
      */
@@ -17,21 +28,18 @@ public class QRCodeUtil {
     }
     
     /**
-     * QR코드 유효성 검증
+     * QR코드 유효성 검증 (UUID 또는 8자리 영숫자)
+     * 스캔마다 호출되므로 미리 컴파일한 패턴으로 검사 (예외/정규식 재컴파일 없음)
      */
     public boolean isValidQRCode(String qrCode) {
-        if (qrCode == null || qrCode.trim().isEmpty()) {
+        if (qrCode == null) {
             return false;
         }
-        
-        // UUID 형태인지 확인
-        try {
-            UUID.fromString(qrCode);
-            return true;
-        } catch (IllegalArgumentException e) {
-            // 짧은 형태 QR코드인지 확인 (8자리 영숫자)
-            return qrCode.matches("^[A-Z0-9]{8}$");
+        int length = qrCode.length();
+        if (length == UUID_LENGTH) {
+            return UUID_PATTERN.matcher(qrCode).matches();
         }
+        return length == SHORT_CODE_LENGTH && SHORT_CODE_PATTERN.matcher(qrCode).matches();
     }
     
     /**
@@ -67,19 +75,16 @@ public class QRCodeUtil {
     }
     
     /**
-     * QR코드 스캔 로그
+     * QR코드에 담을 고객 주문 페이지 URL
      */
-    public void logQRCodeScan(String qrCode, String userAgent, String ipAddress) {
-        log.info("QR코드 스캔 - QR코드: {}, UserAgent: {}, IP: {}", qrCode, userAgent, ipAddress);
+    public String buildOrderUrl(String qrCode) {
+        return orderBaseUrl + (orderBaseUrl.contains("?") ? "&" : "?") + "seat=" + qrCode;
     }
     
     /**
-     * QR코드 이미지 URL 생성 (실제 구현은 추후 추가)
-     * 현재는 플레이스홀더 URL 반환
+     * QR코드 이미지 URL (서버에서 직접 렌더링하는 공개 경로)
      */
     public String generateQRCodeImage(String qrCode) {
-        // TODO: 실제 QR코드 이미지 생성 및 저장 로직 구현
-        // 현재는 플레이스홀더 URL 반환
-        return String.format("https://api.qrserver.com/v1/create-qr-code/?size=200x200&data=%s", qrCode);
+        return "/api/public/seats/qr/" + qrCode + "/image.png";
     }
-} 
+}
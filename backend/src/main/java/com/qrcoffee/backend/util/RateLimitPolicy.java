@@ -0,0 +1,15 @@
+package com.qrcoffee.backend.util;
+
+/**
+ * Rate Limit 정책 (토큰 버킷: burst개까지 즉시 허용, 이후 초당 ratePerSecond개 보충)
+ *
+ * @param name 정책 이름 (버킷 구분 및 지표 태그)
+ */
+public record RateLimitPolicy(String name, int burst, double ratePerSecond) {
+
+    public RateLimitPolicy {
+        if (burst <= 0 || ratePerSecond <= 0) {
+            throw new IllegalArgumentException("burst and ratePerSecond must be positive: " + name);
+        }
+    }
+}
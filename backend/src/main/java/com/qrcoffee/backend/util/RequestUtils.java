@@ -4,6 +4,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * HTTP 요청 관련 유틸리티 클래스
  */
@@ -45,6 +51,28 @@ public class RequestUtils {
         return null;
     }
     
+    /**
+     * HttpServletRequest에서 Access Token ID(jti) 추출
+     */
+    public static String getTokenId(HttpServletRequest request) {
+        Object tokenId = request.getAttribute("tokenId");
+        if (tokenId instanceof String) {
+            return (String) tokenId;
+        }
+        return null;
+    }
+    
+    /**
+     * HttpServletRequest에서 Access Token 만료 시각 추출
+     */
+    public static LocalDateTime getTokenExpiresAt(HttpServletRequest request) {
+        Object expiresAt = request.getAttribute("tokenExpiresAt");
+        if (expiresAt instanceof Long) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) expiresAt), ZoneId.systemDefault());
+        }
+        return null;
+    }
+    
     /**
      * HttpServletRequest에서 userRole 추출
      */
@@ -73,4 +101,49 @@ public class RequestUtils {
         
         return request.getRemoteAddr();
     }
+    
+    /**
+     * 위조 불가능한 클라이언트 IP 주소 추출 (로그인 차단 등 보안 판단용)
+     * 직접 연결한 주소가 내부망 프록시(루프백/사설망)일 때만 X-Forwarded-For를 신뢰하며,
+     * 오른쪽부터 내부망이 아닌 첫 번째 주소를 사용한다. 클라이언트가 붙인 왼쪽 값은 무시된다.
+     */
+    public static String getTrustedClientIpAddress(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isInternalAddress(remoteAddr)) {
+            return remoteAddr;
+        }
+        
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor == null || xForwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        
+        String[] hops = xForwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty() || "unknown".equalsIgnoreCase(hop)) {
+                break;
+            }
+            if (!isInternalAddress(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+    
+    /**
+     * 루프백/사설망 주소 여부 (IP 리터럴만 판별, DNS 조회 없음)
+     */
+    private static boolean isInternalAddress(String address) {
+        if (address == null || address.isEmpty()
+                || !(address.indexOf(':') >= 0 || address.chars().allMatch(c -> c == '.' || Character.isDigit(c)))) {
+            return false;
+        }
+        try {
+            InetAddress inet = InetAddress.getByName(address);
+            return inet.isLoopbackAddress() || inet.isSiteLocalAddress() || inet.isLinkLocalAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.qrcoffee.backend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 Rate Limiter (lock-free)
+ *
+ * - GCRA 방식: 버킷 상태를 "이론적 도착 시각"(TAT) long 하나로 표현하고 CAS로 갱신 (요청당 할당/잠금 없음)
+ * - burst개까지 한 번에 허용하고 이후 초당 ratePerSecond개씩 보충되는 토큰 버킷과 동일하게 동작
+ * - TAT가 현재 시각 이전인 키는 버킷이 가득 찬 상태와 같으므로 삭제해도 동작이 바뀌지 않음 (유휴 키 정리)
+ * - 키 수가 maxKeys에 도달하면 유휴 키를 정리하고, 그래도 가득 차면 새 키는 공유 overflow 버킷 하나로 제한 (메모리 상한 유지)
+ */
+public class TokenBucketRateLimiter {
+
+    /** 허용됨 (tryAcquire 반환값) */
+    public static final long ALLOWED = 0L;
+    /** 키 수 상한 초과로 공유 overflow 버킷에서 허용됨 (tryAcquire 반환값) */
+    public static final long OVERFLOW = -1L;
+
+    private final String name;
+    private final long emissionIntervalNanos; // 토큰 1개 보충 시간
+    private final long toleranceNanos;        // burst 허용 폭
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TokenBucketRateLimiter(String name, int burst, double ratePerSecond, int maxKeys) {
+        this(name, burst, ratePerSecond, maxKeys, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(String name, int burst, double ratePerSecond, int maxKeys, LongSupplier nanoClock) {
+        if (burst <= 0 || ratePerSecond <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("burst, ratePerSecond and maxKeys must be positive");
+        }
+        this.name = name;
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.overflow = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * cost개 토큰 사용 시도
+     *
+     * @return ALLOWED(0) 또는 OVERFLOW(-1)면 허용, 양수면 거부 (허용될 때까지 대기 시간, ns)
+     */
+    public long tryAcquire(String key, int cost) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key);
+            if (bucket == null) {
+                long wait = acquire(overflow, cost);
+                return wait > 0 ? wait : OVERFLOW;
+            }
+        }
+        return acquire(bucket, cost);
+    }
+
+    private long acquire(AtomicLong bucket, int cost) {
+        long increment = emissionIntervalNanos * cost;
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + increment;
+            long wait = newTat - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 유휴 키 (버킷이 가득 찬 키) 삭제 (overflow 버킷은 대상 아님)
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private AtomicLong newBucket(String key) {
+        if (buckets.size() >= maxKeys) {
+            // 한 스레드만 정리 (나머지는 기다리지 않고 현재 상태로 판단)
+            if (evicting.compareAndSet(false, true)) {
+                try {
+                    evictIdle();
+                } finally {
+                    evicting.set(false);
+                }
+            }
+            if (buckets.size() >= maxKeys) {
+                return null;
+            }
+        }
+        // 새 버킷은 가득 찬 상태 (TAT = 현재 시각)
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(nanoClock.getAsLong()));
+    }
+}
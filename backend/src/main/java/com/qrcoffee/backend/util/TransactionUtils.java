@@ -0,0 +1,47 @@
+package com.qrcoffee.backend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티 클래스
+ */
+public final class TransactionUtils {
+    
+    private TransactionUtils() {
+        // 인스턴스화 방지
+    }
+    
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     * 캐시 무효화/이벤트 발행이 커밋 전 데이터를 기준으로 일어나지 않도록 사용
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * 현재 트랜잭션 롤백 후 실행 (트랜잭션 밖이면 실행하지 않음)
+     */
+    public static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.qrcoffee.backend.util;
 
+import com.qrcoffee.backend.dto.SeatResponse;
 import com.qrcoffee.backend.entity.Seat;
 import com.qrcoffee.backend.entity.Store;
 import com.qrcoffee.backend.entity.User;
@@ -209,7 +210,7 @@ public class ValidationUtils {
     /**
      * 활성 좌석 QR코드 검증
      */
-    public static void validateActiveSeatByQRCode(Seat seat, String qrCode) {
+    public static void validateActiveSeatByQRCode(SeatResponse seat, String qrCode) {
         if (seat == null) {
             log.warn("활성화되지 않은 좌석 QR코드 접근: {}", qrCode);
             throw new BusinessException("사용할 수 없는 좌석입니다.", HttpStatus.BAD_REQUEST);
@@ -0,0 +1,88 @@
+package com.qrcoffee.backend.config;
+
+import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.service.RateLimitBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketChannelInterceptor 테스트")
+class WebSocketChannelInterceptorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RateLimitBackend rateLimitBackend;
+
+    private WebSocketChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new WebSocketChannelInterceptor(orderRepository, rateLimitBackend);
+    }
+
+    @Test
+    @DisplayName("매장 메뉴 채널은 인증 없이 구독 허용")
+    void testPublicMenuTopicIsAllowed() {
+        for (String destination : List.of("/topic/public/stores/1/menus", "/topic/public/stores/123456789012345678/menus")) {
+            // given
+            Message<?> message = subscribe(destination);
+
+            // when
+            Message<?> result = interceptor.preSend(message, mock(MessageChannel.class));
+
+            // then
+            assertThat(result).as(destination).isSameAs(message);
+        }
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("매장 메뉴 채널 형식이 아니면 구독 거부")
+    void testOtherPublicTopicsAreRejected() {
+        List<String> destinations = List.of(
+                "/topic/public/stores/1/menus/extra",
+                "/topic/public/stores/1/menus/",
+                "/topic/public/stores/abc/menus",
+                "/topic/public/stores//menus",
+                "/topic/public/stores/-1/menus",
+                "/topic/public/stores/1234567890123456789/menus",
+                "/topic/public/stores/1/orders",
+                "/topic/public/stores/1",
+                "/topic/public/stores/1/menus?x=1");
+
+        for (String destination : destinations) {
+            // when
+            Message<?> result = interceptor.preSend(subscribe(destination), mock(MessageChannel.class));
+
+            // then
+            assertThat(result).as(destination).isNull();
+        }
+    }
+
+    private Message<?> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
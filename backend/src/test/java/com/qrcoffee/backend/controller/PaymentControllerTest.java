@@ -7,13 +7,17 @@ import com.qrcoffee.backend.dto.OrderItemRequest;
 import com.qrcoffee.backend.dto.PaymentConfirmRequest;
 import com.qrcoffee.backend.dto.PaymentResponse;
 import com.qrcoffee.backend.service.PaymentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import com.qrcoffee.backend.config.TestSecurityConfig;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -49,6 +53,18 @@ class PaymentControllerTest {
     
     @MockBean
     private com.qrcoffee.backend.config.JwtAuthenticationFilter jwtAuthenticationFilter;
+    
+    @MockBean
+    private com.qrcoffee.backend.service.RateLimitBackend rateLimitBackend;
+    
+    @TestConfiguration
+    static class MeterRegistryConfig {
+        
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -0,0 +1,209 @@
+package com.qrcoffee.backend.integration;
+
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.repository.OrderItemRepository;
+import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 쿼리 실행 계획 검증
+ * 리포지토리 메서드를 실제로 호출해 실행된 SQL과 바인딩 값을 가로채고, 같은 SQL을 EXPLAIN하여
+ * 날짜/매장 조건이 인덱스를 사용하는지(풀 스캔이 없는지) 확인합니다.
+ * MySQL(DB_URL) 환경에서만 실행되며, 실제 운영과 비슷한 데이터가 적재된 DB에서 실행해야 의미가 있습니다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:mysql:.*")
+@DisplayName("대시보드 쿼리 실행 계획 테스트")
+class DashboardQueryPlanTest {
+
+    private static final long STORE_ID = 1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Test
+    @DisplayName("오늘 주문 수 조회는 풀 스캔하지 않음")
+    void testCountTodayOrdersPlan() {
+        assertNoFullScan(capture(() -> orderRepository.countByStoreIdAndDateRange(STORE_ID, startOfToday(), startOfTomorrow())));
+    }
+
+    @Test
+    @DisplayName("시간대별 통계 조회는 풀 스캔하지 않음")
+    void testHourlyStatsPlan() {
+        assertNoFullScan(capture(() -> orderRepository.findHourlyStatsByStoreId(STORE_ID, startOfToday(), startOfTomorrow())));
+    }
+
+    @Test
+    @DisplayName("기본 통계 조회는 풀 스캔하지 않음")
+    void testBasicStatsPlan() {
+        assertNoFullScan(capture(() -> orderRepository.findBasicStatsByStoreId(STORE_ID, startOfToday(), startOfTomorrow())));
+    }
+
+    @Test
+    @DisplayName("주문 현황 조회는 풀 스캔하지 않음")
+    void testOrderStatsPlan() {
+        assertNoFullScan(capture(() -> orderRepository.findOrderStatsByStoreId(STORE_ID)));
+    }
+
+    @Test
+    @DisplayName("인기 메뉴 조회는 풀 스캔하지 않음")
+    void testPopularMenusPlan() {
+        assertNoFullScan(capture(() -> orderItemRepository.findPopularMenusByStoreId(
+                STORE_ID, Order.OrderStatus.CANCELLED, PageRequest.of(0, 5))));
+    }
+
+    @Test
+    @DisplayName("기간 매출 조회는 풀 스캔하지 않음")
+    void testSalesStatsPlan() {
+        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        assertNoFullScan(capture(() -> paymentRepository.findByStoreIdAndDateRange(STORE_ID, startOfMonth, startOfTomorrow())));
+    }
+
+    @Test
+    @DisplayName("일별 매출 조회는 풀 스캔하지 않음")
+    void testDailySalesPlan() {
+        LocalDateTime weekAgo = LocalDate.now().minusDays(6).atStartOfDay();
+        assertNoFullScan(capture(() -> paymentRepository.findDailySalesByStoreId(STORE_ID, weekAgo, startOfTomorrow())));
+    }
+
+    private void assertNoFullScan(CapturedQuery query) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.params().toArray());
+
+        assertThat(plan).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            assertThat(row.get("type"))
+                    .as("테이블 %s 풀 스캔: %s (SQL: %s)", row.get("table"), row, query.sql())
+                    .isNotEqualTo("ALL");
+        }
+    }
+
+    /**
+     * 호출 중 마지막으로 실행된 쿼리 반환
+     */
+    private CapturedQuery capture(Runnable call) {
+        List<CapturedQuery> queries = new ArrayList<>();
+        CAPTURED.set(queries);
+        try {
+            call.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        assertThat(queries).as("실행된 쿼리 없음").isNotEmpty();
+        return queries.get(queries.size() - 1);
+    }
+
+    private LocalDateTime startOfToday() {
+        return LocalDate.now().atStartOfDay();
+    }
+
+    private LocalDateTime startOfTomorrow() {
+        return LocalDate.now().plusDays(1).atStartOfDay();
+    }
+
+    private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+    private record CapturedQuery(String sql, List<Object> params) {}
+
+    /**
+     * 기본 DataSource를 감싸 PreparedStatement의 SQL과 바인딩 값을 기록 (capture 호출 중에만)
+     */
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                            Object result = method.invoke(target, args);
+                            return result instanceof Connection connection ? capturingConnection(connection) : result;
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection capturingConnection(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return capturingStatement(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturingStatement(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    params.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    params.clear();
+                } else if (name.startsWith("execute")) {
+                    List<CapturedQuery> queries = CAPTURED.get();
+                    if (queries != null) {
+                        queries.add(new CapturedQuery(sql, new ArrayList<>(params.values())));
+                    }
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Interceptor<T> interceptor) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    return interceptor.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        @FunctionalInterface
+        private interface Interceptor<T> {
+            Object invoke(T target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
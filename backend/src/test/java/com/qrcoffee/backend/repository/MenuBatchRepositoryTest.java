@@ -0,0 +1,101 @@
+package com.qrcoffee.backend.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 표시 순서 일괄 변경 검증 (H2 인메모리 DB, 서비스와 같은 트랜잭션 경계)
+ */
+@DisplayName("MenuBatchRepository 테스트")
+class MenuBatchRepositoryTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OTHER_STORE_ID = 2L;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private MenuBatchRepository menuBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        menuBatchRepository = new MenuBatchRepository(jdbcTemplate);
+
+        for (String table : List.of("menus", "categories")) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY, store_id BIGINT NOT NULL, "
+                    + "display_order INT NOT NULL, updated_at TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO " + table + " (id, store_id, display_order) VALUES "
+                    + "(1, ?, 0), (2, ?, 1), (3, ?, 0)", STORE_ID, STORE_ID, OTHER_STORE_ID);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("메뉴 표시 순서를 한 번에 변경")
+    void testUpdateMenuDisplayOrders() {
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                menuBatchRepository.updateMenuDisplayOrders(STORE_ID, orders(1L, 1, 2L, 0)));
+
+        // then
+        assertThat(displayOrders("menus")).containsExactly(1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("다른 매장 메뉴가 섞이면 예외를 던지고 같은 트랜잭션의 변경은 모두 롤백")
+    void testForeignMenuRollsBackWholeBatch() {
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                menuBatchRepository.updateMenuDisplayOrders(STORE_ID, orders(1L, 1, 2L, 2, 3L, 0))))
+                .isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+        assertThat(displayOrders("menus")).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("없는 카테고리가 섞이면 예외를 던지고 같은 트랜잭션의 변경은 모두 롤백")
+    void testMissingCategoryRollsBackWholeBatch() {
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                menuBatchRepository.updateCategoryDisplayOrders(STORE_ID, orders(2L, 0, 1L, 1, 99L, 2))))
+                .isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+        assertThat(displayOrders("categories")).containsExactly(0, 1, 0);
+    }
+
+    private Map<Long, Integer> orders(Object... idAndOrder) {
+        Map<Long, Integer> orders = new LinkedHashMap<>();
+        for (int i = 0; i < idAndOrder.length; i += 2) {
+            orders.put((Long) idAndOrder[i], (Integer) idAndOrder[i + 1]);
+        }
+        return orders;
+    }
+
+    private List<Integer> displayOrders(String table) {
+        return jdbcTemplate.queryForList("SELECT display_order FROM " + table + " ORDER BY id", Integer.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.qrcoffee.backend.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitBucketRepository 테스트")
+class RateLimitBucketRepositoryTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RateLimitBucketRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RateLimitBucketRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("버킷이 꽉 차 있으면 저장된 tat 기준 대기 시간 반환")
+    void testRejectReturnsWait() {
+        // given
+        when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(NOW + 500));
+
+        // when
+        long wait = repository.tryAcquire("api", "1.1.1.1", NOW, 100, 300);
+
+        // then
+        assertThat(wait).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 판정하지 못하면 허용하지 않고 예외")
+    void testUnresolvedBucketDoesNotFailOpen() {
+        // given (갱신/조회/생성 모두 경합으로 0건)
+        when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> repository.tryAcquire("api", "1.1.1.1", NOW, 100, 300))
+                .isInstanceOf(ConcurrencyFailureException.class);
+    }
+
+    @Test
+    @DisplayName("반납은 tat를 토큰 수만큼 되돌림")
+    void testReleaseMovesTatBack() {
+        // when
+        repository.release("api", "1.1.1.1", 900);
+
+        // then
+        verify(jdbcTemplate).update(startsWith("UPDATE rate_limit_buckets SET tat = tat - ?"), eq(900L), eq("api"), eq("1.1.1.1"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.qrcoffee.backend.repository;
+
+import com.qrcoffee.backend.entity.Seat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 일괄 등록/ID 조회/QR코드 교체 검증 (H2 인메모리 DB)
+ */
+@DisplayName("SeatBatchRepository 테스트")
+class SeatBatchRepositoryTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OTHER_STORE_ID = 2L;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SeatBatchRepository seatBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        seatBatchRepository = new SeatBatchRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE seats (id BIGINT AUTO_INCREMENT PRIMARY KEY, store_id BIGINT NOT NULL, "
+                + "seat_number VARCHAR(100) NOT NULL, description VARCHAR(255), qr_code VARCHAR(36) NOT NULL UNIQUE, "
+                + "is_active BOOLEAN NOT NULL, is_occupied BOOLEAN NOT NULL, max_capacity INT NOT NULL, "
+                + "qr_code_image_url VARCHAR(500), qr_generated_at TIMESTAMP, qr_generation INT NOT NULL, "
+                + "created_at TIMESTAMP, updated_at TIMESTAMP, UNIQUE (store_id, seat_number))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 등록한 좌석을 매장과 좌석번호로 다시 읽어 생성된 ID 확인")
+    void testInsertSeatsAndReadBackIds() {
+        // given
+        seatBatchRepository.insertSeats(List.of(seat(OTHER_STORE_ID, "A1", "QR-OTHER")));
+
+        // when
+        seatBatchRepository.insertSeats(List.of(seat(STORE_ID, "A1", "QR-A1"), seat(STORE_ID, "A2", "QR-A2")));
+        Map<String, Long> ids = seatBatchRepository.findSeatIds(STORE_ID, List.of("A1", "A2", "A3"));
+
+        // then
+        assertThat(ids).containsOnlyKeys("A1", "A2");
+        assertThat(ids.get("A1")).isEqualTo(idOf("QR-A1"));
+        assertThat(ids.get("A2")).isEqualTo(idOf("QR-A2"));
+        assertThat(jdbcTemplate.queryForObject("SELECT qr_generation FROM seats WHERE qr_code = 'QR-A1'", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("읽어 온 ID로 QR코드와 이미지 URL을 한 번에 교체")
+    void testUpdateQrCodes() {
+        // given
+        Seat first = seat(STORE_ID, "B1", "QR-B1");
+        Seat second = seat(STORE_ID, "B2", "QR-B2");
+        seatBatchRepository.insertSeats(List.of(first, second));
+        Map<String, Long> ids = seatBatchRepository.findSeatIds(STORE_ID, List.of("B1", "B2"));
+        first.setId(ids.get("B1"));
+        second.setId(ids.get("B2"));
+        first.setQrCode("s.signed-b1");
+        first.setQrCodeImageUrl("/api/public/seats/qr/s.signed-b1/image.png");
+        second.setQrCode("s.signed-b2");
+        second.setQrCodeImageUrl("/api/public/seats/qr/s.signed-b2/image.png");
+
+        // when
+        seatBatchRepository.updateQrCodes(List.of(first, second));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT qr_code FROM seats ORDER BY id", String.class))
+                .containsExactly("s.signed-b1", "s.signed-b2");
+        assertThat(jdbcTemplate.queryForObject("SELECT qr_code_image_url FROM seats WHERE id = ?", String.class,
+                ids.get("B2"))).isEqualTo("/api/public/seats/qr/s.signed-b2/image.png");
+    }
+
+    @Test
+    @DisplayName("다른 매장 좌석의 QR코드는 교체하지 않음")
+    void testUpdateQrCodesIgnoresOtherStore() {
+        // given
+        seatBatchRepository.insertSeats(List.of(seat(OTHER_STORE_ID, "C1", "QR-C1")));
+        Seat forged = seat(STORE_ID, "C1", "s.forged");
+        forged.setId(idOf("QR-C1"));
+
+        // when
+        seatBatchRepository.updateQrCodes(List.of(forged));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT qr_code FROM seats", String.class)).containsExactly("QR-C1");
+    }
+
+    private Seat seat(Long storeId, String seatNumber, String qrCode) {
+        LocalDateTime now = LocalDateTime.now();
+        return Seat.builder()
+                .storeId(storeId)
+                .seatNumber(seatNumber)
+                .qrCode(qrCode)
+                .isActive(true)
+                .isOccupied(false)
+                .maxCapacity(4)
+                .qrCodeImageUrl("/api/public/seats/qr/" + qrCode + "/image.png")
+                .qrGeneratedAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Long idOf(String qrCode) {
+        return jdbcTemplate.queryForObject("SELECT id FROM seats WHERE qr_code = ?", Long.class, qrCode);
+    }
+}
@@ -0,0 +1,142 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.JwtResponse;
+import com.qrcoffee.backend.entity.RefreshToken;
+import com.qrcoffee.backend.entity.User;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.RefreshTokenRepository;
+import com.qrcoffee.backend.repository.UserRepository;
+import com.qrcoffee.backend.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AuthTokenService 테스트")
+class AuthTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private AuthTokenService authTokenService;
+
+    private User user;
+
+    private JwtResponse lastResponse;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = new JwtUtil("testSecretKeyForAuthTokenServiceTestLongEnough2024", 1800000, 604800000);
+        authTokenService = new AuthTokenService(refreshTokenRepository, userRepository, tokenRevocationService, jwtUtil);
+
+        user = User.builder()
+                .id(1L)
+                .email("admin@test.com")
+                .name("관리자")
+                .role(User.Role.MASTER)
+                .storeId(10L)
+                .isActive(true)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 사용 시 같은 계열의 새 토큰으로 교체")
+    void testRefreshRotatesToken() {
+        // given
+        RefreshToken issued = issueAndCapture();
+        when(refreshTokenRepository.findById(issued.getTokenId())).thenReturn(Optional.of(issued));
+        when(refreshTokenRepository.markUsed(eq(issued.getTokenId()), anyString(), any())).thenReturn(1);
+
+        // when
+        JwtResponse response = authTokenService.refresh(lastResponse.getRefreshToken());
+
+        // then
+        assertThat(response.getRefreshToken()).isNotEqualTo(lastResponse.getRefreshToken());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(captor.capture());
+        RefreshToken rotated = captor.getAllValues().get(1);
+        assertThat(rotated.getFamilyId()).isEqualTo(issued.getFamilyId());
+        verify(refreshTokenRepository).markUsed(eq(issued.getTokenId()), eq(rotated.getTokenId()), any());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 Refresh Token이 다시 오면 계열 전체 폐기")
+    void testReuseRevokesFamily() {
+        // given
+        RefreshToken issued = issueAndCapture();
+        when(refreshTokenRepository.findById(issued.getTokenId())).thenReturn(Optional.of(issued));
+        when(refreshTokenRepository.markUsed(eq(issued.getTokenId()), anyString(), any())).thenReturn(0);
+        when(refreshTokenRepository.findByFamilyIdAndAccessExpiresAtAfter(eq(issued.getFamilyId()), any()))
+                .thenReturn(List.of(issued));
+
+        // when & then
+        assertThatThrownBy(() -> authTokenService.refresh(lastResponse.getRefreshToken()))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        verify(refreshTokenRepository).revokeFamily(eq(issued.getFamilyId()), any());
+        verify(tokenRevocationService).revoke(issued.getAccessTokenId(), issued.getAccessExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Access Token으로는 갱신할 수 없음")
+    void testRefreshRejectsAccessToken() {
+        issueAndCapture();
+
+        assertThatThrownBy(() -> authTokenService.refresh(lastResponse.getAccessToken()))
+                .isInstanceOf(BusinessException.class);
+        verify(refreshTokenRepository, never()).markUsed(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 Access Token과 같은 계열 토큰 폐기")
+    void testLogout() {
+        // given
+        RefreshToken issued = issueAndCapture();
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30);
+        when(refreshTokenRepository.findByAccessTokenId(issued.getAccessTokenId())).thenReturn(Optional.of(issued));
+
+        // when
+        authTokenService.logout(issued.getAccessTokenId(), expiresAt);
+
+        // then
+        verify(tokenRevocationService).revoke(issued.getAccessTokenId(), expiresAt);
+        verify(refreshTokenRepository).revokeFamily(eq(issued.getFamilyId()), any());
+    }
+
+    private RefreshToken issueAndCapture() {
+        lastResponse = authTokenService.issue(user);
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
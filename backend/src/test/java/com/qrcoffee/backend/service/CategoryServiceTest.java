@@ -0,0 +1,125 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.entity.Category;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryService 테스트")
+class CategoryServiceTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuCatalogService menuCatalogService;
+
+    @Mock
+    private MenuBatchRepository menuBatchRepository;
+
+    @InjectMocks
+    private CategoryService categoryService;
+
+    @Test
+    @DisplayName("카테고리 정렬: 순서가 바뀐 카테고리만 한 번에 반영하고 카탈로그는 한 번만 무효화")
+    void testReorderCategoriesUpdatesChangedOnly() {
+        // given
+        stubCategories(category(1L, 0), category(2L, 1), category(3L, 2));
+
+        // when
+        categoryService.reorderCategories(STORE_ID, List.of(3L, 1L, 2L));
+
+        // then
+        verify(menuBatchRepository).updateCategoryDisplayOrders(STORE_ID, Map.of(3L, 0, 1L, 1, 2L, 2));
+        verify(menuCatalogService, times(1)).invalidate(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("카테고리 정렬: 다른 매장 카테고리, 일부 누락, 중복 ID는 거부")
+    void testReorderCategoriesRejectsForeignOrPartialIds() {
+        // given
+        stubCategories(category(1L, 0), category(2L, 1));
+
+        // when & then
+        for (List<Long> categoryIds : List.of(List.of(1L, 99L), List.of(2L), List.of(1L, 1L), List.of(1L, 2L, 99L))) {
+            assertThatThrownBy(() -> categoryService.reorderCategories(STORE_ID, categoryIds))
+                    .as(categoryIds.toString())
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        verifyNoInteractions(menuBatchRepository);
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 정렬: 변경이 없으면 쓰지 않고 무효화도 하지 않음")
+    void testReorderCategoriesNoChange() {
+        // given
+        stubCategories(category(1L, 0), category(2L, 1));
+
+        // when
+        categoryService.reorderCategories(STORE_ID, List.of(1L, 2L));
+
+        // then
+        verifyNoInteractions(menuBatchRepository);
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 정렬: 일괄 변경 중 대상 행이 사라지면 409로 실패하고 무효화하지 않음")
+    void testReorderCategoriesConflict() {
+        // given
+        stubCategories(category(1L, 0), category(2L, 1));
+        doThrow(new JdbcUpdateAffectedIncorrectNumberOfRowsException("UPDATE categories", 1, 0))
+                .when(menuBatchRepository).updateCategoryDisplayOrders(eq(STORE_ID), any());
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.reorderCategories(STORE_ID, List.of(2L, 1L)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    private void stubCategories(Category... categories) {
+        when(categoryRepository.findByStoreIdOrderByDisplayOrderAsc(STORE_ID)).thenReturn(List.of(categories));
+    }
+
+    private Category category(Long id, int displayOrder) {
+        return Category.builder()
+                .id(id)
+                .storeId(STORE_ID)
+                .name("카테고리" + id)
+                .displayOrder(displayOrder)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.SalesReportResponse;
+import com.qrcoffee.backend.entity.DailySalesSnapshot;
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.repository.DailySalesSnapshotRepository;
+import com.qrcoffee.backend.repository.OrderItemRepository;
+import com.qrcoffee.backend.repository.OrderRepository;
+import com.qrcoffee.backend.repository.PaymentRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCloseService 테스트")
+class DailyCloseServiceTest {
+
+    @Mock
+    private DailySalesSnapshotRepository snapshotRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private DailyCloseService dailyCloseService;
+
+    private final Long storeId = 1L;
+
+    @Test
+    @DisplayName("기간 리포트는 과거일은 스냅샷, 오늘만 실시간 집계")
+    void testSalesReportUsesSnapshotsAndLiveToday() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        DailySalesSnapshot snapshot = DailySalesSnapshot.builder()
+                .storeId(storeId)
+                .businessDate(yesterday)
+                .orderCount(10L)
+                .cancelledCount(1L)
+                .paymentCount(10L)
+                .totalSales(BigDecimal.valueOf(55000))
+                .suppliedAmount(BigDecimal.valueOf(50000))
+                .vat(BigDecimal.valueOf(5000))
+                .methodAmounts(Map.of("카드", 55000L))
+                .methodCounts(Map.of("카드", 10L))
+                .menuQuantities(Map.of("아메리카노", 12L))
+                .hourlyOrderCounts(Collections.nCopies(24, 0L))
+                .hourlySales(Collections.nCopies(24, 0L))
+                .build();
+        when(snapshotRepository.findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(storeId, yesterday, today))
+                .thenReturn(List.of(snapshot));
+
+        when(orderRepository.findOrderCountsByStoreIdAndDateRange(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new Object[]{3L, 0L});
+        when(paymentRepository.findSalesSummaryByStoreId(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new Object[]{3L, BigDecimal.valueOf(16500), BigDecimal.valueOf(15000), BigDecimal.valueOf(1500)});
+        when(paymentRepository.findMethodBreakdownByStoreId(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{"카드", 3L, BigDecimal.valueOf(16500)}));
+        when(orderItemRepository.findMenuQuantitiesByStoreIdAndDateRange(
+                eq(storeId), eq(Order.OrderStatus.CANCELLED), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{"아메리카노", 4L}));
+        when(orderRepository.findHourlyStatsByStoreIdExcludingStatus(
+                eq(storeId), eq(Order.OrderStatus.CANCELLED), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{9, 3L, BigDecimal.valueOf(16500)}));
+
+        // when
+        SalesReportResponse report = dailyCloseService.getSalesReport(storeId, yesterday, today);
+
+        // then
+        assertThat(report.getDays()).hasSize(2);
+        assertThat(report.getDays().get(0).getClosed()).isTrue();
+        assertThat(report.getDays().get(1).getClosed()).isFalse();
+        assertThat(report.getTotals().getOrderCount()).isEqualTo(13L);
+        assertThat(report.getTotals().getTotalSales()).isEqualByComparingTo(BigDecimal.valueOf(71500));
+        assertThat(report.getTotals().getVat()).isEqualByComparingTo(BigDecimal.valueOf(6500));
+        assertThat(report.getTotals().getMethodAmounts()).containsEntry("카드", 71500L);
+        assertThat(report.getTotals().getMenuQuantities()).containsEntry("아메리카노", 16L);
+        assertThat(report.getTotals().getHourlyOrderCounts().get(9)).isEqualTo(3L);
+
+        // 오늘 하루만 실시간 집계
+        verify(paymentRepository, times(1))
+                .findSalesSummaryByStoreId(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(snapshotRepository, never()).save(any(DailySalesSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("마감 누락일은 즉석 집계만 하고 저장하지 않으며, 매장 등록 전 날짜는 조회하지 않음")
+    void testSalesReportDoesNotPersistMissingDays() {
+        // given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate from = yesterday.minusDays(2);
+        Store store = Store.builder().id(storeId).createdAt(yesterday.atTime(10, 0)).build();
+        when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+        when(snapshotRepository.findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(storeId, from, yesterday))
+                .thenReturn(List.of());
+        when(paymentRepository.findSalesSummaryByStoreId(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new Object[]{2L, BigDecimal.valueOf(11000), BigDecimal.valueOf(10000), BigDecimal.valueOf(1000)});
+
+        // when
+        SalesReportResponse report = dailyCloseService.getSalesReport(storeId, from, yesterday);
+
+        // then
+        assertThat(report.getDays()).hasSize(3);
+        assertThat(report.getDays()).allSatisfy(day -> assertThat(day.getClosed()).isFalse());
+        assertThat(report.getDays().get(0).getFigures().getTotalSales()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(report.getTotals().getTotalSales()).isEqualByComparingTo(BigDecimal.valueOf(11000));
+
+        // 등록일(어제) 하루만 집계
+        verify(paymentRepository, times(1))
+                .findSalesSummaryByStoreId(eq(storeId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(snapshotRepository, never()).save(any(DailySalesSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("일 마감은 최근 누락일을 함께 마감하되 매장 등록 전과 이미 마감된 날은 건너뜀")
+    void testClosePreviousDayCatchesUpMissingDays() {
+        // given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate openingDate = yesterday.minusDays(2);
+        Store store = Store.builder().id(storeId).isActive(true).createdAt(openingDate.atTime(9, 0)).build();
+        when(storeRepository.findByIsActive(true)).thenReturn(List.of(store));
+        DailySalesSnapshot closed = DailySalesSnapshot.builder().storeId(storeId).businessDate(yesterday.minusDays(1)).build();
+        when(snapshotRepository.findByStoreIdAndBusinessDateBetweenOrderByBusinessDateAsc(storeId, openingDate, yesterday))
+                .thenReturn(List.of(closed));
+        when(snapshotRepository.findByStoreIdAndBusinessDate(eq(storeId), any(LocalDate.class))).thenReturn(Optional.empty());
+
+        // when
+        dailyCloseService.closePreviousDay();
+
+        // then
+        verify(snapshotRepository).findByStoreIdAndBusinessDate(storeId, openingDate);
+        verify(snapshotRepository).findByStoreIdAndBusinessDate(storeId, yesterday);
+        verify(snapshotRepository, times(2)).save(any(DailySalesSnapshot.class));
+    }
+}
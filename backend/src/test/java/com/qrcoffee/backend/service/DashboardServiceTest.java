@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -60,7 +62,7 @@ class DashboardServiceTest {
             50000L, // todaySalesAmount
             100L   // totalOrderCount
         };
-        when(orderRepository.findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class)))
+        when(orderRepository.findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(mockResult);
         
         // when
@@ -73,7 +75,25 @@ class DashboardServiceTest {
         assertThat(stats.getTodaySalesAmount()).isEqualTo(50000L);
         assertThat(stats.getTotalOrderCount()).isEqualTo(100L);
         
-        verify(orderRepository, times(1)).findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class));
+        verify(orderRepository, times(1)).findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+    
+    @Test
+    @DisplayName("기본 통계는 오늘 하루 반개구간 [00:00, 다음날 00:00)으로 조회")
+    void testGetBasicStatsUsesHalfOpenDayRange() {
+        // given
+        when(orderRepository.findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new Object[]{0L, 0L, 0L, 0L});
+        ArgumentCaptor<LocalDateTime> startCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> endCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        
+        // when
+        dashboardService.getBasicStats(testStoreId);
+        
+        // then
+        verify(orderRepository).findBasicStatsByStoreId(eq(testStoreId), startCaptor.capture(), endCaptor.capture());
+        assertThat(startCaptor.getValue()).isEqualTo(LocalDate.now().atStartOfDay());
+        assertThat(endCaptor.getValue()).isEqualTo(startCaptor.getValue().plusDays(1));
     }
     
     @Test
@@ -153,7 +173,7 @@ class DashboardServiceTest {
     @DisplayName("시간대별 통계 조회")
     void testGetHourlyStats() {
         // given
-        when(orderRepository.findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class)))
+        when(orderRepository.findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
         
         // when
@@ -162,7 +182,7 @@ class DashboardServiceTest {
         // then
         assertThat(hourlyStats).isNotNull();
         
-        verify(orderRepository, times(1)).findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class));
+        verify(orderRepository, times(1)).findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class));
     }
     
     @Test
@@ -170,7 +190,7 @@ class DashboardServiceTest {
     void testGetDashboardStats() {
         // given - 수정된 메서드 시그니처에 맞게 수정
         Object[] basicStatsResult = new Object[]{10L, 3L, 50000L, 100L};
-        when(orderRepository.findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class)))
+        when(orderRepository.findBasicStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(basicStatsResult);
         
         Object[] orderStatsResult = new Object[]{5L, 3L, 10L, 20L, 2L};
@@ -182,7 +202,7 @@ class DashboardServiceTest {
         when(orderItemRepository.findPopularMenusByStoreId(
                 eq(testStoreId), eq(Order.OrderStatus.CANCELLED), any(Pageable.class)))
                 .thenReturn(Collections.emptyList());
-        when(orderRepository.findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class)))
+        when(orderRepository.findHourlyStatsByStoreId(eq(testStoreId), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
         
         // when
@@ -0,0 +1,185 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService 테스트")
+class ExportServiceTest {
+
+    private static final String ORDERS_HEADER = "order_id,order_number,seat_id,status,payment_status,"
+            + "total_amount,customer_request,created_at,updated_at\r\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ExportService exportService;
+
+    private final List<Object[]> queryParams = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM과 헤더를 먼저 기록")
+    void testWritesBomAndHeader() throws Exception {
+        // given
+        stubRows();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.writeCsv(1L, ExportService.ExportType.ORDERS, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), out);
+
+        // then
+        byte[] bytes = out.toByteArray();
+        assertThat(Arrays.copyOf(bytes, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+        assertThat(new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8)).isEqualTo(ORDERS_HEADER);
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 작은따옴표를 붙이고, 음수와 날짜는 그대로 기록")
+    void testFormulaGuardAndFormatting() throws Exception {
+        // given
+        ResultSet rs = resultSet(1L, "20240101-001", null, "PENDING", "PAID", new BigDecimal("-5000"),
+                "=SUM(A1,A2)", Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 10, 0)),
+                LocalDateTime.of(2024, 1, 1, 10, 5, 30));
+        stubRows(rs);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.writeCsv(1L, ExportService.ExportType.ORDERS, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8).substring(1); // BOM 제외
+        assertThat(csv).isEqualTo(ORDERS_HEADER
+                + "1,20240101-001,,PENDING,PAID,-5000,\"'=SUM(A1,A2)\",2024-01-01 10:00:00,2024-01-01 10:05:30\r\n");
+    }
+
+    @Test
+    @DisplayName("@, +, 숫자가 아닌 - 로 시작하는 값도 수식 방지 처리")
+    void testFormulaGuardPrefixes() throws Exception {
+        // given
+        ResultSet rs = resultSet(1L, "@cmd", null, "+1", "-x", "-1.5", "\"quoted\"", null, null);
+        stubRows(rs);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.writeCsv(1L, ExportService.ExportType.ORDERS, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8).substring(1);
+        assertThat(csv).endsWith("1,'@cmd,,'+1,'-x,-1.5,\"\"\"quoted\"\"\",,\r\n");
+    }
+
+    @Test
+    @DisplayName("기간을 하루 단위 쿼리로 나눠 실행")
+    void testDaySlicing() throws Exception {
+        // given
+        stubRows();
+
+        // when
+        exportService.writeCsv(7L, ExportService.ExportType.ORDERS, LocalDate.of(2024, 1, 30), LocalDate.of(2024, 2, 1),
+                new ByteArrayOutputStream());
+
+        // then
+        assertThat(queryParams).hasSize(3);
+        assertThat(queryParams.get(0)).containsExactly(7L, day(2024, 1, 30), day(2024, 1, 31));
+        assertThat(queryParams.get(1)).containsExactly(7L, day(2024, 1, 31), day(2024, 2, 1));
+        assertThat(queryParams.get(2)).containsExactly(7L, day(2024, 2, 1), day(2024, 2, 2));
+    }
+
+    @Test
+    @DisplayName("결제는 승인일(미승인은 요청일) 구간으로 조회")
+    void testPaymentsUsePaymentDates() throws Exception {
+        // given
+        stubRows();
+
+        // when
+        exportService.writeCsv(7L, ExportService.ExportType.PAYMENTS, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1),
+                new ByteArrayOutputStream());
+
+        // then
+        assertThat(queryParams).hasSize(1);
+        assertThat(queryParams.get(0)).containsExactly(7L,
+                day(2024, 1, 1), day(2024, 1, 2), day(2024, 1, 1), day(2024, 1, 2));
+    }
+
+    @Test
+    @DisplayName("내보내기 대상은 대소문자 구분 없이 조회하고, 알 수 없는 대상은 400")
+    void testExportTypeValidation() {
+        assertThat(ExportService.ExportType.fromPath("Order-Items")).isEqualTo(ExportService.ExportType.ORDER_ITEMS);
+        assertThat(ExportService.ExportType.fromPath("payments")).isEqualTo(ExportService.ExportType.PAYMENTS);
+        assertThatThrownBy(() -> ExportService.ExportType.fromPath("users"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    @DisplayName("조회 기간은 시작일 ≤ 종료일, 최대 366일")
+    void testValidateRange() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+
+        exportService.validateRange(from, from.plusDays(365));
+        assertThatThrownBy(() -> exportService.validateRange(from, from.plusDays(366)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> exportService.validateRange(from, from.minusDays(1)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> exportService.validateRange(null, from))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * 쿼리마다 주어진 행을 전달하고 파라미터 기록
+     */
+    private void stubRows(ResultSet... rows) throws Exception {
+        doAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            queryParams.add(Arrays.copyOfRange(args, 2, args.length));
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private ResultSet resultSet(Object... values) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(anyInt())).thenAnswer(invocation -> values[(int) invocation.getArgument(0) - 1]);
+        return rs;
+    }
+
+    private Timestamp day(int year, int month, int dayOfMonth) {
+        return Timestamp.valueOf(LocalDate.of(year, month, dayOfMonth).atStartOfDay());
+    }
+}
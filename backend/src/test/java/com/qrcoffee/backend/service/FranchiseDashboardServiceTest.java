@@ -0,0 +1,141 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.DashboardStatsResponse;
+import com.qrcoffee.backend.dto.FranchiseStatsResponse;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.repository.StoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FranchiseDashboardService 테스트")
+class FranchiseDashboardServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private ExecutorService executor;
+
+    private FranchiseDashboardService franchiseDashboardService;
+
+    private final Long userId = 1L;
+    private final Store ownStore = Store.builder().id(1L).name("본점").isActive(true).build();
+    private final Store branchStore = Store.builder().id(2L).name("2호점").isActive(true).ownerUserId(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        franchiseDashboardService = new FranchiseDashboardService(storeRepository, dashboardService, executor, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("소유 매장 통계를 병렬 집계하여 합계 계산")
+    void testGetFranchiseStats() {
+        // given
+        when(storeRepository.findByIdAndIsActive(1L, true)).thenReturn(Optional.of(ownStore));
+        when(storeRepository.findByOwnerUserIdAndIsActive(userId, true))
+                .thenReturn(Arrays.asList(ownStore, branchStore));
+        when(dashboardService.getBasicStats(1L)).thenReturn(basicStats(10L, 2L, 100L));
+        when(dashboardService.getBasicStats(2L)).thenReturn(basicStats(5L, 1L, 40L));
+        when(dashboardService.getSalesStats(1L)).thenReturn(salesStats(50000, 200000, 800000));
+        when(dashboardService.getSalesStats(2L)).thenReturn(salesStats(20000, 90000, 300000));
+
+        // when
+        FranchiseStatsResponse response = franchiseDashboardService.getFranchiseStats(userId, 1L);
+
+        // then
+        assertThat(response.getStores()).hasSize(2);
+        assertThat(response.getPartial()).isFalse();
+        assertThat(response.getTotals().getStoreCount()).isEqualTo(2);
+        assertThat(response.getTotals().getTodayOrderCount()).isEqualTo(15L);
+        assertThat(response.getTotals().getPendingOrderCount()).isEqualTo(3L);
+        assertThat(response.getTotals().getTotalOrderCount()).isEqualTo(140L);
+        assertThat(response.getTotals().getTodaySales()).isEqualByComparingTo(BigDecimal.valueOf(70000));
+        assertThat(response.getTotals().getMonthSales()).isEqualByComparingTo(BigDecimal.valueOf(1100000));
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘긴 매장은 TIMEOUT으로 표시하고 합계에서 제외")
+    void testGetFranchiseStatsWithSlowStore() {
+        // given
+        when(storeRepository.findByIdAndIsActive(1L, true)).thenReturn(Optional.of(ownStore));
+        when(storeRepository.findByOwnerUserIdAndIsActive(userId, true))
+                .thenReturn(Collections.singletonList(branchStore));
+        when(dashboardService.getBasicStats(1L)).thenReturn(basicStats(10L, 2L, 100L));
+        when(dashboardService.getSalesStats(1L)).thenReturn(salesStats(50000, 200000, 800000));
+        when(dashboardService.getBasicStats(2L)).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return basicStats(5L, 1L, 40L);
+        });
+
+        // when
+        FranchiseStatsResponse response = franchiseDashboardService.getFranchiseStats(userId, 1L);
+
+        // then
+        assertThat(response.getPartial()).isTrue();
+        assertThat(response.getStores().get(1).getStatus())
+                .isEqualTo(FranchiseStatsResponse.StoreStatsStatus.TIMEOUT);
+        assertThat(response.getTotals().getCompletedStoreCount()).isEqualTo(1);
+        assertThat(response.getTotals().getTodayOrderCount()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("비활성화된 소속 매장은 집계에서 제외")
+    void testGetFranchiseStatsExcludesInactiveOwnStore() {
+        // given
+        when(storeRepository.findByIdAndIsActive(1L, true)).thenReturn(Optional.empty());
+        when(storeRepository.findByOwnerUserIdAndIsActive(userId, true))
+                .thenReturn(Collections.singletonList(branchStore));
+        when(dashboardService.getBasicStats(2L)).thenReturn(basicStats(5L, 1L, 40L));
+        when(dashboardService.getSalesStats(2L)).thenReturn(salesStats(20000, 90000, 300000));
+
+        // when
+        FranchiseStatsResponse response = franchiseDashboardService.getFranchiseStats(userId, 1L);
+
+        // then
+        assertThat(response.getStores()).hasSize(1);
+        assertThat(response.getTotals().getStoreCount()).isEqualTo(1);
+        assertThat(response.getTotals().getTodayOrderCount()).isEqualTo(5L);
+    }
+
+    private DashboardStatsResponse.BasicStats basicStats(Long today, Long pending, Long total) {
+        return DashboardStatsResponse.BasicStats.builder()
+                .todayOrderCount(today)
+                .pendingOrderCount(pending)
+                .todaySalesAmount(0L)
+                .totalOrderCount(total)
+                .build();
+    }
+
+    private DashboardStatsResponse.SalesStats salesStats(long today, long week, long month) {
+        return DashboardStatsResponse.SalesStats.builder()
+                .todaySales(BigDecimal.valueOf(today))
+                .weekSales(BigDecimal.valueOf(week))
+                .monthSales(BigDecimal.valueOf(month))
+                .dailySales(Collections.emptyList())
+                .build();
+    }
+}
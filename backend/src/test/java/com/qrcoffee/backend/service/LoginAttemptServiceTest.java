@@ -0,0 +1,88 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginAttemptService 테스트")
+class LoginAttemptServiceTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptService(now::get);
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 계정 실패 한도를 넘으면 429로 거부")
+    void testAccountLimit() {
+        for (int i = 0; i < Constants.Auth.LOGIN_MAX_FAILURES_PER_ACCOUNT; i++) {
+            loginAttemptService.checkAllowed("admin@test.com", "10.0.0.1");
+            loginAttemptService.recordFailure("admin@test.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginAttemptService.checkAllowed("ADMIN@test.com", "10.0.0.1"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThatCode(() -> loginAttemptService.checkAllowed("staff@test.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("여러 IP에서 쌓인 계정 실패로는 다른 IP의 로그인을 막지 않고 우선순위만 낮춤")
+    void testAccountFailuresFromOtherIpsDoNotLockOut() {
+        for (int i = 0; i < Constants.Auth.LOGIN_MAX_FAILURES_PER_ACCOUNT * 2; i++) {
+            loginAttemptService.recordFailure("admin@test.com", "10.0.0." + i);
+        }
+
+        assertThatCode(() -> loginAttemptService.checkAllowed("admin@test.com", "10.0.1.1")).doesNotThrowAnyException();
+        assertThat(loginAttemptService.hasRecentFailures("admin@test.com", "10.0.1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("IP별 실패 한도를 넘으면 다른 계정도 거부")
+    void testIpLimit() {
+        for (int i = 0; i < Constants.Auth.LOGIN_MAX_FAILURES_PER_IP; i++) {
+            loginAttemptService.recordFailure("user" + i + "@test.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginAttemptService.checkAllowed("new@test.com", "10.0.0.1"))
+                .isInstanceOf(BusinessException.class);
+        assertThatCode(() -> loginAttemptService.checkAllowed("new@test.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("집계 구간이 지나면 다시 허용")
+    void testWindowExpires() {
+        for (int i = 0; i < Constants.Auth.LOGIN_MAX_FAILURES_PER_ACCOUNT; i++) {
+            loginAttemptService.recordFailure("admin@test.com", "10.0.0.1");
+        }
+
+        now.addAndGet(Constants.Auth.LOGIN_ATTEMPT_WINDOW_MS);
+        loginAttemptService.cleanup();
+
+        assertThatCode(() -> loginAttemptService.checkAllowed("admin@test.com", "10.0.0.1")).doesNotThrowAnyException();
+        assertThat(loginAttemptService.hasRecentFailures("admin@test.com", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 계정 실패 기록 삭제")
+    void testSuccessClearsAccountFailures() {
+        loginAttemptService.recordFailure("admin@test.com", "10.0.0.1");
+        assertThat(loginAttemptService.hasRecentFailures("admin@test.com", "10.0.0.2")).isTrue();
+
+        loginAttemptService.recordSuccess("admin@test.com", "10.0.0.1");
+
+        assertThat(loginAttemptService.hasRecentFailures("admin@test.com", "10.0.0.2")).isFalse();
+    }
+}
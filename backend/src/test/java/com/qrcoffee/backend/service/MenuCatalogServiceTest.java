@@ -0,0 +1,215 @@
+package com.qrcoffee.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qrcoffee.backend.dto.MenuCatalog;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCatalogService 테스트")
+class MenuCatalogServiceTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MenuCatalogService menuCatalogService;
+
+    private final Long storeId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalogService = new MenuCatalogService(menuRepository, categoryRepository, storeRepository,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        lenient().when(categoryRepository.findByStoreIdAndIsActiveOrderByDisplayOrderAsc(storeId, true))
+                .thenReturn(Collections.emptyList());
+        lenient().when(storeRepository.findById(storeId)).thenReturn(Optional.of(store(true)));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 DB를 다시 조회하지 않음")
+    void testCatalogIsCached() {
+        // given
+        when(menuRepository.findActiveMenusForCustomer(storeId)).thenReturn(List.of(menu("아메리카노", 4500)));
+
+        // when
+        MenuCatalog first = menuCatalogService.getCatalog(storeId);
+        MenuCatalog second = menuCatalogService.getCatalog(storeId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.matches(first.getEtag())).isTrue();
+        assertThat(first.matches("W/" + first.getEtag())).isTrue();
+        assertThat(first.matches("\"other\"")).isFalse();
+        verify(menuRepository, times(1)).findActiveMenusForCustomer(storeId);
+        assertThat(meterRegistry.get("menu.catalog.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("menu.catalog.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("응답 본문은 빌드 시 원본/gzip으로 미리 직렬화")
+    void testPayloadsArePrecomputed() throws Exception {
+        // given
+        when(menuRepository.findActiveMenusForCustomer(storeId)).thenReturn(List.of(menu("아메리카노", 4500)));
+
+        // when
+        MenuCatalog catalog = menuCatalogService.getCatalog(storeId);
+
+        // then
+        byte[] identity = catalog.getMenusPayload().body(false);
+        byte[] gzip = catalog.getMenusPayload().body(true);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity);
+        }
+        assertThat(new String(identity, StandardCharsets.UTF_8)).contains("아메리카노");
+        assertThat(catalog.getEtag(true)).isNotEqualTo(catalog.getEtag(false));
+        assertThat(catalog.matches(catalog.getEtag(true))).isTrue();
+        assertThat(MenuCatalog.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(MenuCatalog.acceptsGzip("gzip;q=0, deflate")).isFalse();
+        assertThat(MenuCatalog.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 후 재빌드되며 내용이 바뀌면 ETag도 변경")
+    void testInvalidateRebuildsCatalog() {
+        // given
+        when(menuRepository.findActiveMenusForCustomer(storeId))
+                .thenReturn(List.of(menu("아메리카노", 4500)))
+                .thenReturn(List.of(menu("아메리카노", 4500)))
+                .thenReturn(List.of(menu("아메리카노", 5000)));
+
+        // when
+        MenuCatalog original = menuCatalogService.getCatalog(storeId);
+        menuCatalogService.invalidate(storeId);
+        MenuCatalog unchanged = menuCatalogService.getCatalog(storeId);
+        menuCatalogService.invalidate(storeId);
+        MenuCatalog changed = menuCatalogService.getCatalog(storeId);
+
+        // then
+        assertThat(unchanged.getVersion()).isGreaterThan(original.getVersion());
+        assertThat(unchanged.getEtag()).isEqualTo(original.getEtag());
+        assertThat(changed.getEtag()).isNotEqualTo(original.getEtag());
+        verify(menuRepository, times(3)).findActiveMenusForCustomer(storeId);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 매장은 메뉴를 조회하지 않고 보관하지도 않음")
+    void testMissingStoreIsNotCached() {
+        // given
+        Long unknownStoreId = 999L;
+        when(storeRepository.findById(unknownStoreId)).thenReturn(Optional.empty());
+
+        // when
+        MenuCatalog first = menuCatalogService.getCatalog(unknownStoreId);
+        MenuCatalog second = menuCatalogService.getCatalog(unknownStoreId);
+
+        // then
+        assertThat(first.getStore()).isNull();
+        assertThat(first.getMenus()).isEmpty();
+        assertThat(second).isNotSameAs(first);
+        verify(storeRepository, times(2)).findById(unknownStoreId);
+        verify(menuRepository, never()).findActiveMenusForCustomer(unknownStoreId);
+    }
+
+    @Test
+    @DisplayName("비활성 매장은 보관하지 않고 매번 새로 조회")
+    void testInactiveStoreIsNotCached() {
+        // given
+        when(storeRepository.findById(storeId)).thenReturn(Optional.of(store(false)));
+        when(menuRepository.findActiveMenusForCustomer(storeId)).thenReturn(List.of(menu("아메리카노", 4500)));
+
+        // when
+        MenuCatalog first = menuCatalogService.getCatalog(storeId);
+        menuCatalogService.getCatalog(storeId);
+
+        // then
+        assertThat(first.getStore().getIsActive()).isFalse();
+        verify(menuRepository, times(2)).findActiveMenusForCustomer(storeId);
+    }
+
+    @Test
+    @DisplayName("같은 매장의 동시 재빌드는 하나의 조회 결과를 공유")
+    void testConcurrentRebuildsShareOneLoad() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(menuRepository.findActiveMenusForCustomer(storeId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(menu("아메리카노", 4500));
+        });
+
+        // when
+        CompletableFuture<MenuCatalog> leader = CompletableFuture.supplyAsync(() -> menuCatalogService.getCatalog(storeId));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MenuCatalog> follower = new CompletableFuture<>();
+        Thread followerThread = new Thread(() -> follower.complete(menuCatalogService.getCatalog(storeId)));
+        followerThread.start();
+        // 후행 호출이 선행 빌드를 기다리는 상태가 될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        verify(menuRepository, times(1)).findActiveMenusForCustomer(storeId);
+        verify(storeRepository, times(1)).findById(storeId);
+    }
+
+    private Store store(boolean active) {
+        return Store.builder()
+                .id(storeId)
+                .name("테스트 매장")
+                .isActive(active)
+                .build();
+    }
+
+    private Menu menu(String name, int price) {
+        return Menu.builder()
+                .id(10L)
+                .storeId(storeId)
+                .categoryId(1L)
+                .name(name)
+                .price(BigDecimal.valueOf(price))
+                .isAvailable(true)
+                .displayOrder(1)
+                .build();
+    }
+}
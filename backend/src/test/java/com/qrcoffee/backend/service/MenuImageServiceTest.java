@@ -0,0 +1,150 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuImageService 테스트")
+class MenuImageServiceTest {
+
+    @Mock
+    private MenuService menuService;
+
+    @TempDir
+    Path imageRoot;
+
+    private ExecutorService workers;
+    private MenuImageService menuImageService;
+
+    private final Long storeId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(2);
+        menuImageService = new MenuImageService(menuService, imageRoot, workers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 업로드: 변환본이 모두 생성되고 같은 이미지는 같은 URL")
+    void testConcurrentUploads() throws Exception {
+        // given - 서로 다른 이미지 4개를 각각 두 번씩, 8개 요청을 동시에 시작
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            images.add(png(1200 + i * 100, 900, new Color(40 * i, 100, 200)));
+        }
+        ExecutorService uploaders = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MenuImageService.StoredImage>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            byte[] data = images.get(i % 4);
+            futures.add(uploaders.submit(() -> {
+                start.await();
+                return menuImageService.storeImage(storeId, data);
+            }));
+        }
+
+        // when
+        start.countDown();
+        List<MenuImageService.StoredImage> results = new ArrayList<>();
+        for (Future<MenuImageService.StoredImage> future : futures) {
+            results.add(future.get());
+        }
+        uploaders.shutdown();
+
+        // then
+        Set<String> hashes = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            hashes.add(results.get(i).hash());
+            assertThat(results.get(i)).isEqualTo(results.get((i + 4) % 8));
+        }
+        assertThat(hashes).hasSize(4);
+
+        for (MenuImageService.StoredImage result : results) {
+            assertThat(result.urls()).hasSize(Constants.Image.VARIANT_WIDTHS.length);
+            for (int v = 0; v < Constants.Image.VARIANT_WIDTHS.length; v++) {
+                BufferedImage variant = ImageIO.read(toPath(result.urls().get(v)).toFile());
+                assertThat(variant).isNotNull();
+                assertThat(variant.getWidth()).isEqualTo(Constants.Image.VARIANT_WIDTHS[v]);
+            }
+        }
+        try (Stream<Path> files = Files.list(imageRoot.resolve(String.valueOf(storeId)))) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .hasSize(4 * Constants.Image.VARIANT_WIDTHS.length)
+                    .allMatch(name -> name.endsWith(".jpg"));
+        }
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 변환본은 확대하지 않음")
+    void testDoesNotUpscale() throws Exception {
+        // given
+        byte[] small = png(300, 200, Color.ORANGE);
+
+        // when
+        MenuImageService.StoredImage result = menuImageService.storeImage(storeId, small);
+
+        // then
+        List<String> urls = result.urls();
+        assertThat(ImageIO.read(toPath(urls.get(0)).toFile()).getWidth()).isEqualTo(160);
+        assertThat(ImageIO.read(toPath(urls.get(urls.size() - 1)).toFile()).getWidth()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 거부")
+    void testRejectsNonImage() {
+        assertThatThrownBy(() -> menuImageService.storeImage(storeId, "not an image".getBytes()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("지원하지 않는 이미지 형식");
+    }
+
+    private Path toPath(String url) {
+        return imageRoot.resolve(url.substring(Constants.Image.URL_PREFIX.length()));
+    }
+
+    private byte[] png(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.drawLine(0, 0, width - 1, height - 1);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
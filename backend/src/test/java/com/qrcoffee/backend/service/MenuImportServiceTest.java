@@ -0,0 +1,214 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.MenuImportRequest;
+import com.qrcoffee.backend.dto.MenuImportResponse;
+import com.qrcoffee.backend.entity.Category;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.entity.Store;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import com.qrcoffee.backend.repository.StoreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuImportService 테스트")
+class MenuImportServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuBatchRepository menuBatchRepository;
+
+    @Mock
+    private MenuCatalogService menuCatalogService;
+
+    @InjectMocks
+    private MenuImportService menuImportService;
+
+    private final Long userId = 1L;
+    private final Long storeId = 1L;
+    private final Long franchiseStoreId = 2L;
+
+    @Test
+    @DisplayName("여러 매장 일괄 등록: 행 오류는 매장별로 보고하고 나머지는 batch로 등록")
+    void testImportAcrossStores() {
+        // given
+        when(storeRepository.findByOwnerUserIdAndIsActive(userId, true))
+                .thenReturn(List.of(Store.builder().id(franchiseStoreId).build()));
+        Category coffee = Category.builder().id(10L).storeId(storeId).name("커피").displayOrder(1).build();
+        Category franchiseCoffee = Category.builder().id(20L).storeId(franchiseStoreId).name("커피").displayOrder(1).build();
+        Category franchiseSeason = Category.builder().id(21L).storeId(franchiseStoreId).name("시즌").displayOrder(2).build();
+        Category season = Category.builder().id(11L).storeId(storeId).name("시즌").displayOrder(2).build();
+        when(categoryRepository.findByStoreIdIn(List.of(storeId, franchiseStoreId)))
+                .thenReturn(List.of(coffee, franchiseCoffee))
+                .thenReturn(List.of(coffee, season, franchiseCoffee, franchiseSeason));
+        when(menuRepository.findNamesByStoreIdIn(List.of(storeId, franchiseStoreId)))
+                .thenReturn(List.<Object[]>of(new Object[]{franchiseStoreId, "아메리카노"}));
+
+        MenuImportRequest request = MenuImportRequest.builder()
+                .storeIds(List.of(storeId, franchiseStoreId))
+                .items(List.of(
+                        row("커피", "아메리카노", 4500),
+                        row("시즌", "딸기 라떼", 6500),
+                        row("시즌", "", 6000),
+                        row("커피", "딸기 라떼", 5000)))
+                .build();
+
+        // when
+        MenuImportResponse response = menuImportService.importMenus(userId, storeId, request);
+
+        // then
+        assertThat(response.getCreatedMenus()).isEqualTo(3); // 아메리카노(1번 매장), 딸기 라떼(두 매장)
+        assertThat(response.getCreatedCategories()).isEqualTo(2); // 두 매장의 "시즌"
+        assertThat(response.getErrors()).extracting(MenuImportResponse.RowError::getRow)
+                .containsExactlyInAnyOrder(3, 4, 1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Menu>> menus = ArgumentCaptor.forClass(List.class);
+        verify(menuBatchRepository).insertMenus(menus.capture());
+        assertThat(menus.getValue()).extracting(Menu::getCategoryId).containsExactly(10L, 11L, 21L);
+        verify(menuBatchRepository, times(1)).insertCategories(anyList());
+        verify(menuCatalogService, times(1)).invalidate(storeId);
+        verify(menuCatalogService, times(1)).invalidate(franchiseStoreId);
+    }
+
+    @Test
+    @DisplayName("메뉴명 중복은 대소문자 구분 없이 판정하고, 순서 없는 카테고리 다음에 새 카테고리 추가")
+    void testCaseInsensitiveNamesAndNullCategoryOrder() {
+        // given
+        Category coffee = Category.builder().id(10L).storeId(storeId).name("커피").displayOrder(null).build();
+        Category season = Category.builder().id(11L).storeId(storeId).name("시즌").displayOrder(1).build();
+        when(categoryRepository.findByStoreIdIn(List.of(storeId)))
+                .thenReturn(List.of(coffee))
+                .thenReturn(List.of(coffee, season));
+        when(menuRepository.findNamesByStoreIdIn(List.of(storeId)))
+                .thenReturn(List.<Object[]>of(new Object[]{storeId, "Americano"}));
+
+        MenuImportRequest request = MenuImportRequest.builder()
+                .items(List.of(
+                        row("커피", "AMERICANO", 4500),
+                        row("시즌", "Latte", 5000),
+                        row("시즌", " latte ", 5000)))
+                .build();
+
+        // when
+        MenuImportResponse response = menuImportService.importMenus(userId, storeId, request);
+
+        // then
+        assertThat(response.getCreatedMenus()).isEqualTo(1);
+        assertThat(response.getCreatedCategories()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(MenuImportResponse.RowError::getRow)
+                .containsExactlyInAnyOrder(1, 3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Category>> categories = ArgumentCaptor.forClass(List.class);
+        verify(menuBatchRepository).insertCategories(categories.capture());
+        assertThat(categories.getValue()).extracting(Category::getDisplayOrder).containsExactly(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Menu>> menus = ArgumentCaptor.forClass(List.class);
+        verify(menuBatchRepository).insertMenus(menus.capture());
+        assertThat(menus.getValue()).extracting(Menu::getName).containsExactly("Latte");
+    }
+
+    @Test
+    @DisplayName("카테고리명도 대소문자/앞뒤 공백 구분 없이 기존 카테고리에 연결")
+    void testCaseInsensitiveCategoryNames() {
+        // given
+        Category coffee = Category.builder().id(10L).storeId(storeId).name("Coffee").displayOrder(0).build();
+        when(categoryRepository.findByStoreIdIn(List.of(storeId))).thenReturn(List.of(coffee));
+        when(menuRepository.findNamesByStoreIdIn(List.of(storeId))).thenReturn(List.of());
+
+        MenuImportRequest request = MenuImportRequest.builder()
+                .items(List.of(
+                        row("coffee", "Americano", 4500),
+                        row(" COFFEE ", "Latte", 5000)))
+                .build();
+
+        // when
+        MenuImportResponse response = menuImportService.importMenus(userId, storeId, request);
+
+        // then
+        assertThat(response.getCreatedCategories()).isZero();
+        assertThat(response.getCreatedMenus()).isEqualTo(2);
+        verify(menuBatchRepository, never()).insertCategories(anyList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Menu>> menus = ArgumentCaptor.forClass(List.class);
+        verify(menuBatchRepository).insertMenus(menus.capture());
+        assertThat(menus.getValue()).extracting(Menu::getCategoryId).containsExactly(10L, 10L);
+    }
+
+    @Test
+    @DisplayName("권한 없는 매장은 거부")
+    void testRejectsForeignStore() {
+        // given
+        when(storeRepository.findByOwnerUserIdAndIsActive(userId, true)).thenReturn(List.of());
+        MenuImportRequest request = MenuImportRequest.builder()
+                .storeIds(List.of(99L))
+                .items(List.of(row("커피", "아메리카노", 4500)))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> menuImportService.importMenus(userId, storeId, request))
+                .isInstanceOf(BusinessException.class);
+        verify(menuBatchRepository, never()).insertMenus(any());
+    }
+
+    @Test
+    @DisplayName("CSV 파싱: 따옴표/쉼표/숫자 오류 처리")
+    void testParseCsv() {
+        // given
+        String csv = "\uFEFFcategoryName,name,description,price,stockQuantity\r\n"
+                + "커피,아메리카노,\"진한 \"\"에스프레소\"\", 물\",\"4,500\",\n"
+                + "\n"
+                + "시즌,딸기 라떼,,abc,3\n";
+        List<MenuImportResponse.RowError> errors = new ArrayList<>();
+
+        // when
+        List<MenuImportRequest.Row> rows = menuImportService.parseCsv(new StringReader(csv), errors);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getDescription()).isEqualTo("진한 \"에스프레소\", 물");
+        assertThat(rows.get(0).getPrice()).isEqualByComparingTo(BigDecimal.valueOf(4500));
+        assertThat(rows.get(0).getStockQuantity()).isNull();
+        assertThat(rows.get(1)).isNull();
+        assertThat(errors).extracting(MenuImportResponse.RowError::getRow).containsExactly(2);
+    }
+
+    private MenuImportRequest.Row row(String categoryName, String name, int price) {
+        return MenuImportRequest.Row.builder()
+                .categoryName(categoryName)
+                .name(name)
+                .price(BigDecimal.valueOf(price))
+                .build();
+    }
+}
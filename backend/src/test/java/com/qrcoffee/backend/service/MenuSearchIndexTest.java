@@ -0,0 +1,58 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.MenuResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MenuSearchIndex 테스트")
+class MenuSearchIndexTest {
+
+    private final MenuSearchIndex index = new MenuSearchIndex(1L, List.of(
+            menu(1L, "아메리카노", 1),
+            menu(2L, "아이스 아메리카노", 2),
+            menu(3L, "카페 라떼", 3),
+            menu(4L, "바닐라 라떼", 4),
+            menu(5L, "Cold Brew", 5)
+    ));
+
+    @Test
+    @DisplayName("초성만으로 검색")
+    void testChoseongSearch() {
+        assertThat(names(index.search("ㅇㅁㄹ", 10))).containsExactly("아메리카노", "아이스 아메리카노");
+        assertThat(names(index.search("ㄹㄸ", 10))).containsExactly("카페 라떼", "바닐라 라떼");
+    }
+
+    @Test
+    @DisplayName("음절과 초성이 섞인 검색어, 공백 무시")
+    void testMixedQuery() {
+        assertThat(names(index.search("아메ㄹ", 10))).containsExactly("아메리카노", "아이스 아메리카노");
+        assertThat(names(index.search("아이스아메", 10))).containsExactly("아이스 아메리카노");
+    }
+
+    @Test
+    @DisplayName("접두 일치가 중간 일치보다 먼저, 영문은 대소문자 무시")
+    void testRankingAndCaseInsensitive() {
+        assertThat(names(index.search("아메리카노", 10)).get(0)).isEqualTo("아메리카노");
+        assertThat(names(index.search("brew", 10))).containsExactly("Cold Brew");
+        assertThat(index.search("xyz", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    void testLimit() {
+        assertThat(index.search("ㅇ", 1)).hasSize(1);
+    }
+
+    private static MenuResponse menu(Long id, String name, int displayOrder) {
+        return MenuResponse.builder().id(id).name(name).displayOrder(displayOrder).build();
+    }
+
+    private static List<String> names(List<MenuResponse> menus) {
+        return menus.stream().map(MenuResponse::getName).toList();
+    }
+}
@@ -0,0 +1,268 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.MenuAvailabilityMessage;
+import com.qrcoffee.backend.dto.MenuRequest;
+import com.qrcoffee.backend.entity.Category;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.CategoryRepository;
+import com.qrcoffee.backend.repository.MenuBatchRepository;
+import com.qrcoffee.backend.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuService 테스트")
+class MenuServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long CATEGORY_ID = 3L;
+    private static final Long MENU_ID = 10L;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MenuCatalogService menuCatalogService;
+
+    @Mock
+    private WebSocketNotificationService webSocketNotificationService;
+
+    @Mock
+    private MenuStockService menuStockService;
+
+    @Mock
+    private MenuBatchRepository menuBatchRepository;
+
+    @InjectMocks
+    private MenuService menuService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("판매 상태 변경은 커밋 후에 새 카탈로그 버전과 함께 브로드캐스트")
+    void testToggleAvailabilityPublishesAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(menuRepository.findByIdAndStoreId(MENU_ID, STORE_ID)).thenReturn(Optional.of(menu(true)));
+        when(menuRepository.save(any(Menu.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(menuCatalogService.reserveVersion()).thenReturn(42L);
+
+        // when
+        menuService.toggleMenuAvailability(MENU_ID, STORE_ID);
+
+        // then
+        verify(webSocketNotificationService, never()).sendMenuAvailability(any(), any());
+        commit();
+        ArgumentCaptor<MenuAvailabilityMessage> captor = ArgumentCaptor.forClass(MenuAvailabilityMessage.class);
+        verify(webSocketNotificationService).sendMenuAvailability(eq(STORE_ID), captor.capture());
+        assertThat(captor.getValue().getMenuId()).isEqualTo(MENU_ID);
+        assertThat(captor.getValue().getAvailable()).isFalse();
+        assertThat(captor.getValue().getCatalogVersion()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 판매 상태를 브로드캐스트하지 않음")
+    void testToggleAvailabilityNotPublishedOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(menuRepository.findByIdAndStoreId(MENU_ID, STORE_ID)).thenReturn(Optional.of(menu(false)));
+        when(menuRepository.save(any(Menu.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        menuService.toggleMenuAvailability(MENU_ID, STORE_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(webSocketNotificationService, never()).sendMenuAvailability(any(), any());
+        verify(menuCatalogService, never()).reserveVersion();
+    }
+
+    @Test
+    @DisplayName("메뉴 수정 시 판매 상태가 바뀐 경우에만 브로드캐스트")
+    void testUpdateMenuPublishesOnlyWhenAvailabilityChanges() {
+        // given
+        when(menuRepository.findByIdAndStoreId(MENU_ID, STORE_ID)).thenReturn(Optional.of(menu(true)));
+        when(categoryRepository.findByIdAndStoreId(CATEGORY_ID, STORE_ID))
+                .thenReturn(Optional.of(Category.builder().id(CATEGORY_ID).storeId(STORE_ID).name("커피").build()));
+        when(menuRepository.save(any(Menu.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when (판매 상태 유지)
+        menuService.updateMenu(MENU_ID, STORE_ID, request(true));
+
+        // then
+        verify(webSocketNotificationService, never()).sendMenuAvailability(any(), any());
+
+        // when (품절로 변경, 트랜잭션 밖이면 즉시 전송)
+        menuService.updateMenu(MENU_ID, STORE_ID, request(false));
+
+        // then
+        ArgumentCaptor<MenuAvailabilityMessage> captor = ArgumentCaptor.forClass(MenuAvailabilityMessage.class);
+        verify(webSocketNotificationService).sendMenuAvailability(eq(STORE_ID), captor.capture());
+        assertThat(captor.getValue().getAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("메뉴 삭제는 판매 중지로 브로드캐스트")
+    void testDeleteMenuPublishesUnavailable() {
+        // given
+        when(menuRepository.findByIdAndStoreId(MENU_ID, STORE_ID)).thenReturn(Optional.of(menu(true)));
+
+        // when
+        menuService.deleteMenu(MENU_ID, STORE_ID);
+
+        // then
+        ArgumentCaptor<MenuAvailabilityMessage> captor = ArgumentCaptor.forClass(MenuAvailabilityMessage.class);
+        verify(webSocketNotificationService).sendMenuAvailability(eq(STORE_ID), captor.capture());
+        assertThat(captor.getValue().getMenuId()).isEqualTo(MENU_ID);
+        assertThat(captor.getValue().getAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("메뉴 정렬: 순서가 바뀐 메뉴만 한 번에 반영하고 카탈로그는 한 번만 무효화")
+    void testReorderMenusUpdatesChangedOnly() {
+        // given
+        stubCategoryMenus(menuWithOrder(10L, 0), menuWithOrder(11L, 1), menuWithOrder(12L, 2));
+
+        // when
+        menuService.reorderMenus(STORE_ID, CATEGORY_ID, List.of(10L, 12L, 11L));
+
+        // then
+        verify(menuBatchRepository).updateMenuDisplayOrders(STORE_ID, Map.of(12L, 1, 11L, 2));
+        verify(menuCatalogService, times(1)).invalidate(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("메뉴 정렬: 다른 카테고리/매장 메뉴, 일부 누락, 중복 ID는 거부")
+    void testReorderMenusRejectsForeignOrPartialIds() {
+        // given
+        stubCategoryMenus(menuWithOrder(10L, 0), menuWithOrder(11L, 1));
+
+        // when & then
+        for (List<Long> menuIds : List.of(List.of(10L, 99L), List.of(10L), List.of(10L, 10L), List.of(10L, 11L, 99L))) {
+            assertThatThrownBy(() -> menuService.reorderMenus(STORE_ID, CATEGORY_ID, menuIds))
+                    .as(menuIds.toString())
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        verifyNoInteractions(menuBatchRepository);
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 정렬: 변경이 없으면 쓰지 않고 무효화도 하지 않음")
+    void testReorderMenusNoChange() {
+        // given
+        stubCategoryMenus(menuWithOrder(10L, 0), menuWithOrder(11L, 1));
+
+        // when
+        menuService.reorderMenus(STORE_ID, CATEGORY_ID, List.of(10L, 11L));
+
+        // then
+        verifyNoInteractions(menuBatchRepository);
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 정렬: 일괄 변경 중 대상 행이 사라지면 409로 실패하고 무효화하지 않음")
+    void testReorderMenusConflict() {
+        // given
+        stubCategoryMenus(menuWithOrder(10L, 0), menuWithOrder(11L, 1));
+        doThrow(new JdbcUpdateAffectedIncorrectNumberOfRowsException("UPDATE menus", 1, 0))
+                .when(menuBatchRepository).updateMenuDisplayOrders(eq(STORE_ID), any());
+
+        // when & then
+        assertThatThrownBy(() -> menuService.reorderMenus(STORE_ID, CATEGORY_ID, List.of(11L, 10L)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        verify(menuCatalogService, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 정렬: 다른 매장의 카테고리는 404")
+    void testReorderMenusForeignCategory() {
+        // given
+        when(categoryRepository.findByIdAndStoreId(CATEGORY_ID, STORE_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> menuService.reorderMenus(STORE_ID, CATEGORY_ID, List.of(10L)))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+        verifyNoInteractions(menuBatchRepository);
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private Menu menu(boolean available) {
+        return Menu.builder()
+                .id(MENU_ID)
+                .storeId(STORE_ID)
+                .categoryId(CATEGORY_ID)
+                .name("아메리카노")
+                .price(BigDecimal.valueOf(4500))
+                .isAvailable(available)
+                .displayOrder(0)
+                .build();
+    }
+
+    private void stubCategoryMenus(Menu... menus) {
+        when(categoryRepository.findByIdAndStoreId(CATEGORY_ID, STORE_ID))
+                .thenReturn(Optional.of(Category.builder().id(CATEGORY_ID).storeId(STORE_ID).name("커피").build()));
+        when(menuRepository.findByStoreIdAndCategoryIdOrderByDisplayOrderAsc(STORE_ID, CATEGORY_ID))
+                .thenReturn(List.of(menus));
+    }
+
+    private Menu menuWithOrder(Long id, int displayOrder) {
+        Menu menu = menu(true);
+        menu.setId(id);
+        menu.setDisplayOrder(displayOrder);
+        return menu;
+    }
+
+    private MenuRequest request(boolean available) {
+        MenuRequest request = new MenuRequest();
+        request.setCategoryId(CATEGORY_ID);
+        request.setName("아메리카노");
+        request.setPrice(BigDecimal.valueOf(4500));
+        request.setIsAvailable(available);
+        request.setDisplayOrder(0);
+        return request;
+    }
+}
@@ -0,0 +1,162 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.OrderItemRequest;
+import com.qrcoffee.backend.entity.Menu;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.MenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MenuStockService 테스트")
+class MenuStockServiceTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MenuStockService menuStockService;
+
+    private final Long storeId = 1L;
+    private final Long menuId = 10L;
+    private final AtomicInteger databaseStock = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        menuStockService = new MenuStockService(menuRepository, transactionManager, new SimpleMeterRegistry());
+
+        Menu menu = Menu.builder().id(menuId).storeId(storeId).name("한정 크루아상").stockQuantity(12).build();
+        when(menuRepository.findByStoreIdAndIdIn(eq(storeId), anyCollection())).thenReturn(List.of(menu));
+
+        // 조건부 UPDATE 동작 재현: 재고가 충분할 때만 차감
+        when(menuRepository.decrementStock(eq(menuId), anyInt())).thenAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            while (true) {
+                int current = databaseStock.get();
+                if (current < quantity) {
+                    return 0;
+                }
+                if (databaseStock.compareAndSet(current, current - quantity)) {
+                    return 1;
+                }
+            }
+        });
+        when(menuRepository.incrementStock(eq(menuId), anyInt())).thenAnswer(invocation -> {
+            databaseStock.addAndGet(invocation.getArgument(1));
+            return 1;
+        });
+    }
+
+    @Test
+    @DisplayName("동시 예약에서도 재고 이상으로 판매하지 않음")
+    void testConcurrentReservationsNeverOversell() throws Exception {
+        // given
+        databaseStock.set(12);
+        int customers = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < customers; i++) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    menuStockService.reserve(storeId, List.of(item(1)));
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 재고 부족
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(12);
+        assertThat(databaseStock.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬로 받아온 재고 잔량은 DB로 반환")
+    void testUnusedLeaseReturnedToDatabase() {
+        // given
+        databaseStock.set(12);
+
+        // when
+        Map<String, Integer> reservation = menuStockService.reserve(storeId, List.of(item(2)));
+        menuStockService.returnAllLeases();
+
+        // then
+        assertThat(reservation).containsEntry(String.valueOf(menuId), 2);
+        assertThat(databaseStock.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 로컬 재고로 돌아가 반환 시 DB에 모두 복구")
+    void testCancelReturnsToLocalPool() {
+        // given
+        databaseStock.set(12);
+        Map<String, Integer> reservation = menuStockService.reserve(storeId, List.of(item(2)));
+
+        // when
+        menuStockService.cancel(reservation);
+        menuStockService.returnAllLeases();
+
+        // then
+        assertThat(databaseStock.get()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예외 발생, 만료된 예약은 DB로 반환")
+    void testInsufficientStockAndRelease() {
+        // given
+        databaseStock.set(3);
+
+        // when & then
+        assertThatThrownBy(() -> menuStockService.reserve(storeId, List.of(item(4))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        Map<String, Integer> reservation = menuStockService.reserve(storeId, List.of(item(3)));
+        assertThat(databaseStock.get()).isZero();
+
+        menuStockService.release(reservation);
+        assertThat(databaseStock.get()).isEqualTo(3);
+    }
+
+    private OrderItemRequest item(int quantity) {
+        OrderItemRequest item = new OrderItemRequest();
+        item.setMenuId(menuId);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
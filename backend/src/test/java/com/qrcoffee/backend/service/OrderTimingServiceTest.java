@@ -0,0 +1,107 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.PrepTimeStatsResponse;
+import com.qrcoffee.backend.entity.Order;
+import com.qrcoffee.backend.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTimingService 테스트")
+class OrderTimingServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderTimingService orderTimingService;
+
+    @BeforeEach
+    void setUp() {
+        orderTimingService = new OrderTimingService(orderRepository);
+    }
+
+    @Test
+    @DisplayName("처음 조회 시 주문 타임스탬프로 복원하고 이후에는 DB를 읽지 않음")
+    void testRestoreFromOrders() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{DATE.atTime(9, 0), DATE.atTime(9, 2), DATE.atTime(9, 7)});
+        rows.add(new Object[]{DATE.atTime(9, 30), DATE.atTime(9, 31), null});
+        when(orderRepository.findTimingsByStoreIdAndDateRange(eq(STORE_ID), any(), any())).thenReturn(rows);
+
+        // when
+        orderTimingService.getPrepTimeStats(STORE_ID, DATE);
+        PrepTimeStatsResponse response = orderTimingService.getPrepTimeStats(STORE_ID, DATE);
+
+        // then
+        assertThat(response.getQueueTime().getCount()).isEqualTo(2L);
+        assertThat(response.getPrepTime().getCount()).isEqualTo(1L);
+        assertThat(response.getPrepTime().getMax()).isEqualTo(300L);
+        assertThat(response.getHourlyStats().get(9).getQueueTime().getCount()).isEqualTo(2L);
+        verify(orderRepository, times(1)).findTimingsByStoreIdAndDateRange(eq(STORE_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("복원 전 기록은 DB 조회 결과에 포함되므로 중복 기록하지 않음")
+    void testRecordBeforeRestoreIsNotDoubleCounted() {
+        // given
+        Order order = order(DATE.atTime(10, 0), DATE.atTime(10, 3), null);
+        orderTimingService.record(order, Order.OrderStatus.PREPARING);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{order.getCreatedAt(), order.getPreparingStartedAt(), null});
+        when(orderRepository.findTimingsByStoreIdAndDateRange(eq(STORE_ID), any(), any())).thenReturn(rows);
+
+        // when
+        PrepTimeStatsResponse response = orderTimingService.getPrepTimeStats(STORE_ID, DATE);
+
+        // then
+        assertThat(response.getQueueTime().getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("복원 후 기록은 기존 히스토그램에 누적")
+    void testRecordAfterRestoreIsKept() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{DATE.atTime(11, 0), DATE.atTime(11, 1), DATE.atTime(11, 4)});
+        when(orderRepository.findTimingsByStoreIdAndDateRange(eq(STORE_ID), any(), any())).thenReturn(rows);
+        orderTimingService.getPrepTimeStats(STORE_ID, DATE);
+
+        // when
+        orderTimingService.record(order(DATE.atTime(11, 10), DATE.atTime(11, 12), DATE.atTime(11, 20)),
+                Order.OrderStatus.COMPLETED);
+        PrepTimeStatsResponse response = orderTimingService.getPrepTimeStats(STORE_ID, DATE);
+
+        // then
+        assertThat(response.getQueueTime().getCount()).isEqualTo(1L);
+        assertThat(response.getPrepTime().getCount()).isEqualTo(2L);
+        assertThat(response.getHourlyStats().get(11).getPrepTime().getMax()).isEqualTo(480L);
+    }
+
+    private Order order(LocalDateTime createdAt, LocalDateTime preparingStartedAt, LocalDateTime completedAt) {
+        Order order = Order.builder().id(1L).storeId(STORE_ID).build();
+        order.setCreatedAt(createdAt);
+        order.setPreparingStartedAt(preparingStartedAt);
+        order.setCompletedAt(completedAt);
+        return order;
+    }
+}
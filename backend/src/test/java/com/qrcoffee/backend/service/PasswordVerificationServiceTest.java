@@ -0,0 +1,132 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordVerificationService 테스트")
+class PasswordVerificationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final List<String> verified = new CopyOnWriteArrayList<>();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    /**
+     * "block" 비밀번호는 release 전까지 대기, 나머지는 원문 비교
+     */
+    private final PasswordEncoder encoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            verified.add(rawPassword.toString());
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    private PasswordVerificationService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 검증하고 처리 시간 기록")
+    void testMatches() {
+        service = new PasswordVerificationService(encoder, meterRegistry, 1, 4, 2000);
+
+        assertThat(service.matches("secret", "secret", false)).isTrue();
+        assertThat(service.matches("wrong", "secret", false)).isFalse();
+        assertThat(meterRegistry.timer("auth.password.verify").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 503으로 거부")
+    void testRejectsWhenFull() throws Exception {
+        // given - 스레드 1개 실행 중 + 대기 1개
+        service = new PasswordVerificationService(encoder, meterRegistry, 1, 1, 5000);
+        callers.submit(() -> service.matches("block", "block", false));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> service.matches("queued", "queued", false));
+        Thread.sleep(100);
+
+        // when & then
+        assertThatThrownBy(() -> service.matches("rejected", "rejected", false))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.password.queue").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최근 실패 기록이 있는 요청은 나중에 처리")
+    void testLowPriorityRunsLast() throws Exception {
+        // given
+        service = new PasswordVerificationService(encoder, meterRegistry, 1, 8, 5000);
+        callers.submit(() -> service.matches("block", "block", false));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        Future<?> suspicious = callers.submit(() -> service.matches("suspicious", "x", true));
+        Thread.sleep(50);
+        Future<?> normal = callers.submit(() -> service.matches("normal", "normal", false));
+        Thread.sleep(50);
+
+        // when
+        release.countDown();
+        suspicious.get(2, TimeUnit.SECONDS);
+        normal.get(2, TimeUnit.SECONDS);
+
+        // then
+        assertThat(verified).containsExactly("block", "normal", "suspicious");
+    }
+
+    @Test
+    @DisplayName("시간 초과된 요청은 해시를 계산하지 않음")
+    void testTimedOutRequestIsSkipped() throws Exception {
+        // given
+        service = new PasswordVerificationService(encoder, meterRegistry, 1, 4, 100);
+        callers.submit(() -> service.matches("block", "block", false));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        assertThatThrownBy(() -> service.matches("late", "late", false)).isInstanceOf(BusinessException.class);
+        release.countDown();
+
+        // then
+        assertThat(service.matches("next", "next", false)).isTrue();
+        assertThat(verified).doesNotContain("late");
+    }
+}
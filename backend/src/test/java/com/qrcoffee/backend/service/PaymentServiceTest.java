@@ -1,6 +1,7 @@
 package com.qrcoffee.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qrcoffee.backend.common.Constants;
 import com.qrcoffee.backend.config.TossPaymentsConfig;
 import com.qrcoffee.backend.dto.CartPaymentRequest;
 import com.qrcoffee.backend.dto.OrderItemRequest;
@@ -22,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -60,6 +62,9 @@ class PaymentServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private MenuStockService menuStockService;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
@@ -159,6 +164,20 @@ class PaymentServiceTest {
         verify(paymentRepository, times(1)).save(any(Payment.class));
     }
 
+    @Test
+    @DisplayName("결제 준비 - 결제 저장 실패 시 예약한 재고 반환")
+    void prepareCartPayment_SaveFails_CancelsReservation() {
+        // given
+        Map<String, Integer> reservation = Map.of("1", 2);
+        when(menuStockService.reserve(any(), anyList())).thenReturn(reservation);
+        when(paymentRepository.save(any(Payment.class))).thenThrow(new IllegalStateException("connection lost"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.prepareCartPayment(cartPaymentRequest, null))
+                .isInstanceOf(IllegalStateException.class);
+        verify(menuStockService).cancel(reservation);
+    }
+
     @Test
     @DisplayName("결제 승인 - 성공")
     void confirmPayment_Success() throws Exception {
@@ -194,6 +213,7 @@ class PaymentServiceTest {
 
         when(paymentRepository.findByOrderIdToss("order_1234567890_0"))
                 .thenReturn(Optional.of(savedPayment));
+        when(paymentRepository.updateStatusIfCurrent(1L, "READY", "IN_PROGRESS")).thenReturn(1);
 
         // 토스페이먼츠 API 응답 Mock
         String tossResponseBody = "{\"paymentKey\":\"payment_key_123\",\"orderId\":\"order_1234567890_0\"," +
@@ -319,6 +339,7 @@ class PaymentServiceTest {
 
         when(paymentRepository.findByOrderIdToss("order_1234567890_0"))
                 .thenReturn(Optional.of(savedPayment));
+        when(paymentRepository.updateStatusIfCurrent(1L, "READY", "IN_PROGRESS")).thenReturn(1);
 
         // 토스페이먼츠 API 호출 실패 시뮬레이션
         when(restTemplate.exchange(anyString(), any(), any(), eq(String.class)))
@@ -368,6 +389,7 @@ class PaymentServiceTest {
 
         when(paymentRepository.findByOrderIdToss("order_1234567890_0"))
                 .thenReturn(Optional.of(savedPayment));
+        when(paymentRepository.updateStatusIfCurrent(1L, "READY", "IN_PROGRESS")).thenReturn(1);
 
         // 토스페이먼츠 API 응답 Mock
         String tossResponseBody = "{\"paymentKey\":\"payment_key_123\",\"orderId\":\"order_1234567890_0\"," +
@@ -390,6 +412,69 @@ class PaymentServiceTest {
         verify(orderService, times(1)).createOrder(any(com.qrcoffee.backend.dto.OrderRequest.class));
     }
 
+    @Test
+    @DisplayName("결제 승인 - 이미 처리 중이거나 만료된 결제는 토스페이먼츠를 호출하지 않음")
+    void confirmPayment_ClaimFails_DoesNotCallToss() {
+        // given
+        PaymentConfirmRequest confirmRequest = PaymentConfirmRequest.builder()
+                .paymentKey("payment_key_123")
+                .orderId("order_1234567890_0")
+                .amount(new BigDecimal("10000"))
+                .build();
+
+        Payment savedPayment = Payment.builder()
+                .id(1L)
+                .orderIdToss("order_1234567890_0")
+                .totalAmount(new BigDecimal("10000"))
+                .status("READY")
+                .build();
+
+        when(paymentRepository.findByOrderIdToss("order_1234567890_0"))
+                .thenReturn(Optional.of(savedPayment));
+        when(paymentRepository.updateStatusIfCurrent(1L, "READY", "IN_PROGRESS")).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("이미 처리되었거나 만료된 결제입니다");
+
+        verify(restTemplate, never()).exchange(anyString(), any(), any(), eq(String.class));
+        verify(orderService, never()).createOrder(any(com.qrcoffee.backend.dto.OrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("예약 만료 - 기간 하한 없이 ID 순으로 나눠 조회하고 READY 결제만 만료")
+    void expireStaleReservations_PagesThroughAllReadyPayments() {
+        // given
+        Map<String, Object> reservation = Map.of("1", 2);
+        List<Payment> firstPage = new java.util.ArrayList<>();
+        for (long id = 1; id <= Constants.Stock.EXPIRE_BATCH_SIZE; id++) {
+            firstPage.add(stalePayment(id, id == 1 ? null : reservation));
+        }
+        long lastIdOfFirstPage = Constants.Stock.EXPIRE_BATCH_SIZE;
+        List<Payment> secondPage = List.of(stalePayment(lastIdOfFirstPage + 1, reservation));
+
+        when(paymentRepository.findByStatusAndRequestedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("READY"), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(firstPage);
+        when(paymentRepository.findByStatusAndRequestedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("READY"), any(LocalDateTime.class), eq(lastIdOfFirstPage), any(Pageable.class)))
+                .thenReturn(secondPage);
+        // 2번 결제는 그 사이 승인 처리가 선점함
+        when(paymentRepository.updateStatusIfCurrent(anyLong(), eq("READY"), eq("EXPIRED")))
+                .thenAnswer(invocation -> (Long) invocation.getArgument(0) == 2L ? 0 : 1);
+
+        // when
+        paymentService.expireStaleReservations();
+
+        // then
+        verify(paymentRepository, times(2)).findByStatusAndRequestedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq("READY"), any(LocalDateTime.class), anyLong(), any(Pageable.class));
+        verify(paymentRepository, never()).updateStatusIfCurrent(1L, "READY", "EXPIRED");
+        verify(paymentRepository, never()).updateStatusIfCurrent(anyLong(), eq("IN_PROGRESS"), anyString());
+        verify(menuStockService, times(Constants.Stock.EXPIRE_BATCH_SIZE - 1)).release(reservation);
+    }
+
     @Test
     @DisplayName("결제 조회 - paymentKey로 조회 성공")
     void getPaymentByKey_Success() {
@@ -600,5 +685,18 @@ class PaymentServiceTest {
         assertThat(result.getOrderIdToss()).isEqualTo(orderIdToss);
         verify(paymentRepository, times(1)).findByOrderIdToss(orderIdToss);
     }
-}
 
+    private Payment stalePayment(long id, Map<String, Object> reservation) {
+        Payment stale = Payment.builder()
+                .id(id)
+                .orderIdToss("order_" + id)
+                .totalAmount(new BigDecimal("10000"))
+                .status("READY")
+                .requestedAt(LocalDateTime.now().minusHours(2))
+                .build();
+        if (reservation != null) {
+            stale.setMetadata(new java.util.HashMap<>(Map.of(Constants.Stock.RESERVATION_METADATA_KEY, reservation)));
+        }
+        return stale;
+    }
+}
@@ -0,0 +1,125 @@
+package com.qrcoffee.backend.service;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.util.QRCodeUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QRCodeImageService 테스트")
+class QRCodeImageServiceTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private ExecutorService executor;
+    private QRCodeImageService qrCodeImageService;
+
+    private final String qrCode = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @BeforeEach
+    void setUp() {
+        QRCodeUtil qrCodeUtil = new QRCodeUtil();
+        ReflectionTestUtils.setField(qrCodeUtil, "orderBaseUrl", "https://order.example.com/order");
+        executor = Executors.newFixedThreadPool(2);
+        qrCodeImageService = new QRCodeImageService(seatRepository, qrCodeUtil, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("PNG는 주문 페이지 URL로 디코딩되고 같은 요청은 캐시된 결과 반환")
+    void testRenderPng() throws Exception {
+        // when
+        byte[] png = qrCodeImageService.renderPng(qrCode, 300);
+
+        // then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image.getWidth()).isEqualTo(300);
+        assertThat(decode(image)).isEqualTo("https://order.example.com/order?seat=" + qrCode);
+        assertThat(qrCodeImageService.renderPng(qrCode, 300)).isSameAs(png);
+    }
+
+    @Test
+    @DisplayName("크기는 허용 범위로 보정")
+    void testRenderPngClampsSize() throws Exception {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(qrCodeImageService.renderPng(qrCode, 5000)));
+
+        assertThat(image.getWidth()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("SVG는 단일 path로 출력")
+    void testRenderSvg() {
+        String svg = new String(qrCodeImageService.renderSvg(qrCode), StandardCharsets.UTF_8);
+
+        assertThat(svg).startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\"");
+        assertThat(svg).contains("<path fill=\"#000\" d=\"M");
+        assertThat(svg).endsWith("</svg>");
+    }
+
+    @Test
+    @DisplayName("일괄 인쇄 ZIP은 좌석번호 순서로 좌석별 PNG 포함")
+    void testWriteStoreZip() throws Exception {
+        // given
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            seats.add(Seat.builder().id((long) i).storeId(1L).seatNumber("A" + i).qrCode("qr-" + i).build());
+        }
+        seats.add(Seat.builder().id(6L).storeId(1L).seatNumber("창가/2").qrCode("qr-6").build());
+        when(seatRepository.findByStoreIdOrderBySeatNumberAsc(1L)).thenReturn(seats);
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        qrCodeImageService.writeStoreZip(1L, out);
+
+        // then
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(zip.readAllBytes()));
+                String expectedQr = "qr-" + names.size();
+                assertThat(decode(image)).isEqualTo("https://order.example.com/order?seat=" + expectedQr);
+            }
+        }
+        assertThat(names).containsExactly(
+                "001_A1.png", "002_A2.png", "003_A3.png", "004_A4.png", "005_A5.png", "006_창가_2.png");
+    }
+
+    private String decode(BufferedImage image) throws Exception {
+        return new MultiFormatReader()
+                .decode(new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image))))
+                .getText();
+    }
+}
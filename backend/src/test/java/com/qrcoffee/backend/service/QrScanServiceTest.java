@@ -0,0 +1,134 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.repository.SeatScanStatsRepository;
+import com.qrcoffee.backend.repository.SeatScanStatsRepository.ScanCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QrScanService 테스트")
+class QrScanServiceTest {
+
+    @Mock
+    private SeatScanStatsRepository seatScanStatsRepository;
+
+    private QrScanService qrScanService;
+
+    private final SeatResponse seat1 = SeatResponse.builder().id(1L).storeId(10L).build();
+    private final SeatResponse seat2 = SeatResponse.builder().id(2L).storeId(10L).build();
+
+    @BeforeEach
+    void setUp() {
+        qrScanService = new QrScanService(seatScanStatsRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("좌석/시간대별로 합산해 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void testFlushAggregatesPerSeatAndHour() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            qrScanService.record(seat1);
+        }
+        qrScanService.record(seat2);
+
+        // when
+        qrScanService.flush();
+
+        // then
+        ArgumentCaptor<List<ScanCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(seatScanStatsRepository).addScanCounts(captor.capture());
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        assertThat(captor.getValue())
+                .extracting(ScanCount::seatId, ScanCount::count)
+                .containsExactlyInAnyOrder(
+                        org.assertj.core.groups.Tuple.tuple(1L, 5L),
+                        org.assertj.core.groups.Tuple.tuple(2L, 1L));
+        assertThat(captor.getValue()).allSatisfy(count -> {
+            assertThat(count.storeId()).isEqualTo(10L);
+            // 테스트가 정시를 넘기는 경우를 허용
+            assertThat(count.scanHour()).isIn(hour, hour.minusHours(1));
+        });
+    }
+
+    @Test
+    @DisplayName("스캔이 없으면 DB에 쓰지 않음")
+    void testFlushWithoutScans() {
+        qrScanService.flush();
+
+        verify(seatScanStatsRepository, never()).addScanCounts(anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 합산을 보관했다가 다음 주기에 함께 반영")
+    @SuppressWarnings("unchecked")
+    void testFailedFlushIsRetried() {
+        // given
+        qrScanService.record(seat1);
+        doThrow(new RuntimeException("DB down")).doNothing().when(seatScanStatsRepository).addScanCounts(anyList());
+        qrScanService.flush();
+
+        // when
+        qrScanService.record(seat1);
+        qrScanService.flush();
+
+        // then
+        ArgumentCaptor<List<ScanCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(seatScanStatsRepository, times(2)).addScanCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1)).singleElement()
+                .satisfies(count -> assertThat(count.count()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("동시 스캔도 유실 없이 합산")
+    @SuppressWarnings("unchecked")
+    void testConcurrentRecords() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    qrScanService.record(seat1);
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        qrScanService.flush();
+
+        // then
+        ArgumentCaptor<List<ScanCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(seatScanStatsRepository).addScanCounts(captor.capture());
+        assertThat(captor.getValue().stream().mapToLong(ScanCount::count).sum()).isEqualTo((long) threads * perThread);
+    }
+}
@@ -0,0 +1,105 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QrTokenService 테스트")
+class QrTokenServiceTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private QrTokenService qrTokenService;
+
+    @BeforeEach
+    void setUp() {
+        when(seatRepository.findQrGenerations()).thenReturn(List.<Object[]>of(new Object[]{7L, 2}));
+        qrTokenService = new QrTokenService(seatRepository, true, "test-secret");
+        qrTokenService.loadGenerations();
+    }
+
+    @Test
+    @DisplayName("발급한 QR코드는 DB 조회 없이 검증")
+    void testIssueAndVerify() {
+        String token = qrTokenService.issue(seat(1L, 3L, 0));
+
+        assertThat(token).startsWith("s.1.3.0.");
+        assertThat(token.length()).isLessThanOrEqualTo(36);
+        assertThat(qrTokenService.isSigned(token)).isTrue();
+        assertThat(qrTokenService.verify(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("내용이나 서명을 바꾼 QR코드는 거부")
+    void testRejectsTamperedToken() {
+        String token = qrTokenService.issue(seat(1L, 3L, 0));
+        String mac = token.substring(token.lastIndexOf('.') + 1);
+
+        assertThat(qrTokenService.verify("s.1.4.0." + mac)).isFalse();
+        assertThat(qrTokenService.verify(token.substring(0, token.length() - 1) + (token.endsWith("A") ? "B" : "A"))).isFalse();
+        assertThat(qrTokenService.verify("s.garbage")).isFalse();
+        assertThat(new QrTokenService(seatRepository, true, "other-secret").verify(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재생성 이전 세대와 삭제된 좌석의 QR코드는 거부")
+    void testRejectsRevokedGenerations() {
+        // 기동 시 적재된 세대 (seatId=7 → 2)
+        assertThat(qrTokenService.verify(qrTokenService.issue(seat(1L, 7L, 1)))).isFalse();
+        assertThat(qrTokenService.verify(qrTokenService.issue(seat(1L, 7L, 2)))).isTrue();
+
+        // 재생성 (트랜잭션 밖이므로 즉시 반영)
+        String before = qrTokenService.issue(seat(1L, 3L, 0));
+        qrTokenService.updateGeneration(3L, 1);
+        assertThat(qrTokenService.verify(before)).isFalse();
+        assertThat(qrTokenService.verify(qrTokenService.issue(seat(1L, 3L, 1)))).isTrue();
+
+        // 삭제
+        String deleted = qrTokenService.issue(seat(1L, 9L, 0));
+        qrTokenService.revoke(9L);
+        assertThat(qrTokenService.verify(deleted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 재생성된 새 세대 코드는 통과하고, DB에서 확인한 세대 이전 코드는 거부")
+    void testAcceptsNewerGenerationFromOtherInstance() {
+        // 이 인스턴스는 seatId=3의 재생성을 모름 (세대 0)
+        String current = qrTokenService.issue(seat(1L, 3L, 2));
+        assertThat(qrTokenService.verify(current)).isTrue();
+
+        // 좌석 조회로 현재 세대를 알게 되면 이전 세대는 계산만으로 거부
+        qrTokenService.observeGeneration(3L, 2);
+        assertThat(qrTokenService.verify(qrTokenService.issue(seat(1L, 3L, 1)))).isFalse();
+        assertThat(qrTokenService.verify(current)).isTrue();
+
+        // 폐기된 좌석은 세대와 관계없이 거부
+        qrTokenService.revoke(3L);
+        qrTokenService.observeGeneration(3L, 5);
+        assertThat(qrTokenService.verify(qrTokenService.issue(seat(1L, 3L, 5)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 발급하지 않음 (기존 UUID 사용)")
+    void testDisabled() {
+        QrTokenService disabled = new QrTokenService(seatRepository, false, "test-secret");
+
+        assertThat(disabled.issue(seat(1L, 3L, 0))).isNull();
+        assertThat(qrTokenService.isSigned("0f8fad5b-d9cb-469f-a165-70867728950e")).isFalse();
+    }
+
+    private Seat seat(Long storeId, Long seatId, int generation) {
+        return Seat.builder().id(seatId).storeId(storeId).qrGeneration(generation).build();
+    }
+}
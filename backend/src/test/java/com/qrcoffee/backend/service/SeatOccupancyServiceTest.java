@@ -0,0 +1,154 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.SeatOccupancyMessage;
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.repository.SeatRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SeatOccupancyService 테스트")
+class SeatOccupancyServiceTest {
+
+    private static final long IDLE_TIMEOUT_MS = 50;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private WebSocketNotificationService webSocketNotificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatOccupancyService seatOccupancyService;
+
+    private Seat seat;
+
+    @BeforeEach
+    void setUp() {
+        seat = Seat.builder().id(1L).storeId(10L).seatNumber("A1").qrCode("qr-1").isOccupied(false).build();
+        when(seatRepository.findOrderOccupiedSeatIds()).thenReturn(List.of());
+
+        seatOccupancyService = newService();
+        seatOccupancyService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatOccupancyService.stop();
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 좌석 점유 및 현황판 전송")
+    void testOccupy() {
+        // when
+        seatOccupancyService.occupy(seat);
+
+        // then
+        assertThat(seat.getIsOccupied()).isTrue();
+        assertThat(seat.getOccupiedByOrder()).isTrue();
+        assertThat(seat.getLastUsedAt()).isNotNull();
+        ArgumentCaptor<SeatOccupancyMessage> captor = ArgumentCaptor.forClass(SeatOccupancyMessage.class);
+        verify(webSocketNotificationService).sendSeatOccupancy(eq(10L), captor.capture());
+        assertThat(captor.getValue().getSeatId()).isEqualTo(1L);
+        assertThat(captor.getValue().getIsOccupied()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지나면 점유 해제 후 현황판 전송")
+    void testReleaseAfterIdleTimeout() {
+        // given
+        when(seatRepository.releaseIfIdle(eq(1L), any(), anyCollection())).thenReturn(1);
+        Seat released = Seat.builder().id(1L).storeId(10L).seatNumber("A1").qrCode("qr-1").isOccupied(false).build();
+        when(seatRepository.findById(1L)).thenReturn(Optional.of(released));
+
+        // when
+        seatOccupancyService.scheduleRelease(10L, 1L);
+
+        // then
+        verify(seatRepository, timeout(2000)).releaseIfIdle(eq(1L), any(), anyCollection());
+        ArgumentCaptor<SeatOccupancyMessage> captor = ArgumentCaptor.forClass(SeatOccupancyMessage.class);
+        verify(webSocketNotificationService, timeout(2000)).sendSeatOccupancy(eq(10L), captor.capture());
+        assertThat(captor.getValue().getIsOccupied()).isFalse();
+    }
+
+    @Test
+    @DisplayName("해제 예약 후 새 주문이 들어오면 해제하지 않음")
+    void testOccupyCancelsPendingRelease() {
+        // given
+        seatOccupancyService.scheduleRelease(10L, 1L);
+
+        // when
+        seatOccupancyService.occupy(seat);
+
+        // then
+        verify(seatRepository, after(IDLE_TIMEOUT_MS * 6).never()).releaseIfIdle(any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("같은 좌석을 여러 번 예약하면 마지막 예약만 처리")
+    void testRescheduleReplacesPreviousRelease() {
+        // given
+        when(seatRepository.releaseIfIdle(eq(1L), any(), anyCollection())).thenReturn(0);
+
+        // when
+        seatOccupancyService.scheduleRelease(10L, 1L);
+        seatOccupancyService.scheduleRelease(10L, 1L);
+        seatOccupancyService.scheduleRelease(10L, 1L);
+
+        // then
+        verify(seatRepository, after(IDLE_TIMEOUT_MS * 6).times(1)).releaseIfIdle(eq(1L), any(), anyCollection());
+        verify(webSocketNotificationService, never()).sendSeatOccupancy(any(), any());
+    }
+
+    @Test
+    @DisplayName("기동 시 주문으로 점유 중인 좌석만 해제 일정 복구")
+    void testStartRestoresOrderOccupiedSeats() {
+        // given
+        seatOccupancyService.stop();
+        List<Object[]> occupied = new ArrayList<>();
+        occupied.add(new Object[]{2L, 10L});
+        when(seatRepository.findOrderOccupiedSeatIds()).thenReturn(occupied);
+        when(seatRepository.releaseIfIdle(eq(2L), any(), anyCollection())).thenReturn(0);
+
+        // when
+        seatOccupancyService = newService();
+        seatOccupancyService.start();
+
+        // then
+        verify(seatRepository, timeout(2000)).releaseIfIdle(eq(2L), any(), anyCollection());
+        verify(seatRepository, after(IDLE_TIMEOUT_MS * 4).never()).releaseIfIdle(eq(1L), any(), anyCollection());
+    }
+
+    private SeatOccupancyService newService() {
+        return new SeatOccupancyService(seatRepository,
+                new SeatQrCache(new SimpleMeterRegistry()), webSocketNotificationService, transactionManager, IDLE_TIMEOUT_MS);
+    }
+}
@@ -0,0 +1,108 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.common.Constants;
+import com.qrcoffee.backend.dto.SeatResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SeatQrCache 테스트")
+class SeatQrCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private SeatQrCache seatQrCache;
+
+    private final String qrCode = "0f8fad5b-d9cb-469f-a165-70867728950e";
+    private final SeatResponse seat = SeatResponse.builder().id(1L).storeId(1L).qrCode(qrCode).isActive(true).build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        seatQrCache = new SeatQrCache(meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("활성 좌석은 한 번만 조회하고 이후 캐시에서 반환")
+    void testCachesActiveSeat() {
+        Function<String, SeatResponse> loader = counting(seat);
+
+        assertThat(seatQrCache.getActiveSeat(qrCode, loader)).isSameAs(seat);
+        assertThat(seatQrCache.getActiveSeat(qrCode, loader)).isSameAs(seat);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("seat.qr.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("없는 QR코드도 TTL 동안 캐시 (반복 스캔 시 DB 조회 없음)")
+    void testNegativeCache() {
+        Function<String, SeatResponse> loader = counting(null);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(seatQrCache.getActiveSeat("unknown-code", loader)).isNull();
+        }
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(Constants.Seat.QR_NEGATIVE_CACHE_TTL_MS + 1);
+        seatQrCache.getActiveSeat("unknown-code", loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void testInvalidate() {
+        Function<String, SeatResponse> loader = counting(seat);
+        seatQrCache.getActiveSeat(qrCode, loader);
+
+        seatQrCache.invalidate(qrCode);
+        seatQrCache.getActiveSeat(qrCode, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void testExpires() {
+        Function<String, SeatResponse> loader = counting(seat);
+        seatQrCache.getActiveSeat(qrCode, loader);
+
+        now.addAndGet(Constants.Seat.QR_CACHE_TTL_MS + 1);
+        seatQrCache.getActiveSeat(qrCode, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 값은 캐시하지 않음")
+    void testInvalidationDuringLoadIsNotCached() {
+        // given - DB 조회 중 좌석이 비활성화됨
+        Function<String, SeatResponse> staleLoader = code -> {
+            loads.incrementAndGet();
+            seatQrCache.invalidate(qrCode);
+            return seat;
+        };
+
+        // when
+        assertThat(seatQrCache.getActiveSeat(qrCode, staleLoader)).isSameAs(seat);
+
+        // then - 다음 조회는 다시 DB에서 (비활성 → null)
+        assertThat(seatQrCache.getActiveSeat(qrCode, counting(null))).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    private Function<String, SeatResponse> counting(SeatResponse result) {
+        return code -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+}
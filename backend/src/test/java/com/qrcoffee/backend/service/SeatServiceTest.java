@@ -0,0 +1,232 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.dto.SeatBulkRequest;
+import com.qrcoffee.backend.dto.SeatResponse;
+import com.qrcoffee.backend.entity.Seat;
+import com.qrcoffee.backend.exception.BusinessException;
+import com.qrcoffee.backend.repository.SeatBatchRepository;
+import com.qrcoffee.backend.repository.SeatRepository;
+import com.qrcoffee.backend.util.QRCodeUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatService 테스트")
+class SeatServiceTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatBatchRepository seatBatchRepository;
+
+    @Mock
+    private QRCodeUtil qrCodeUtil;
+
+    @Mock
+    private SeatQrCache seatQrCache;
+
+    @Mock
+    private SeatOccupancyService seatOccupancyService;
+
+    @Test
+    @DisplayName("일괄 생성: 접두어 + 자리수만큼 0으로 채운 좌석번호를 한 번의 IN 쿼리로 중복 확인 후 batch 등록")
+    void testBulkCreateSeatNumbersWithPadding() {
+        // given
+        SeatService seatService = seatService(false);
+        stubQrCodes("QR000001", "QR000002", "QR000003");
+        when(seatRepository.findExistingSeatNumbers(eq(STORE_ID), anyCollection())).thenReturn(List.of());
+        when(seatRepository.findExistingQrCodes(anyCollection())).thenReturn(List.of());
+
+        // when
+        List<SeatResponse> responses = seatService.createSeatsBulk(STORE_ID, request(" A ", 8, 3, 2));
+
+        // then
+        assertThat(responses).extracting(SeatResponse::getSeatNumber).containsExactly("A08", "A09", "A10");
+        verify(seatRepository, times(1)).findExistingSeatNumbers(STORE_ID, List.of("A08", "A09", "A10"));
+        List<Seat> inserted = captureInsertedSeats();
+        assertThat(inserted).extracting(Seat::getSeatNumber).containsExactly("A08", "A09", "A10");
+        assertThat(inserted).extracting(Seat::getQrCode).containsExactly("QR000001", "QR000002", "QR000003");
+        assertThat(inserted).allSatisfy(seat -> {
+            assertThat(seat.getStoreId()).isEqualTo(STORE_ID);
+            assertThat(seat.getIsOccupied()).isFalse();
+            assertThat(seat.getQrCodeImageUrl()).endsWith(seat.getQrCode() + "/image.png");
+        });
+    }
+
+    @Test
+    @DisplayName("일괄 생성: 자리수를 주지 않으면 번호를 그대로 사용")
+    void testBulkCreateSeatNumbersWithoutPadding() {
+        // given
+        SeatService seatService = seatService(false);
+        stubQrCodes("QR000001", "QR000002");
+        when(seatRepository.findExistingSeatNumbers(eq(STORE_ID), anyCollection())).thenReturn(List.of());
+        when(seatRepository.findExistingQrCodes(anyCollection())).thenReturn(List.of());
+
+        // when
+        List<SeatResponse> responses = seatService.createSeatsBulk(STORE_ID, request(null, 9, 2, null));
+
+        // then
+        assertThat(responses).extracting(SeatResponse::getSeatNumber).containsExactly("9", "10");
+    }
+
+    @Test
+    @DisplayName("일괄 생성: 이미 있는 좌석번호가 하나라도 있으면 모두 알려주고 등록하지 않음")
+    void testBulkCreateRejectsDuplicateNumbers() {
+        // given
+        SeatService seatService = seatService(false);
+        when(seatRepository.findExistingSeatNumbers(STORE_ID, List.of("T1", "T2", "T3")))
+                .thenReturn(List.of("T1", "T3"));
+
+        // when & then
+        assertThatThrownBy(() -> seatService.createSeatsBulk(STORE_ID, request("T", 1, 3, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("T1, T3")
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verify(seatRepository, times(1)).findExistingSeatNumbers(eq(STORE_ID), anyCollection());
+        verify(seatRepository, never()).findExistingQrCodes(anyCollection());
+        verify(seatBatchRepository, never()).insertSeats(any());
+    }
+
+    @Test
+    @DisplayName("일괄 생성: 기존 QR코드와 겹친 후보만 다시 생성")
+    void testBulkCreateRegeneratesCollidingQrCodes() {
+        // given
+        SeatService seatService = seatService(false);
+        stubQrCodes("QR000001", "QR000002", "QR000003");
+        when(seatRepository.findExistingSeatNumbers(eq(STORE_ID), anyCollection())).thenReturn(List.of());
+        when(seatRepository.findExistingQrCodes(anyCollection()))
+                .thenReturn(List.of("QR000002"))
+                .thenReturn(List.of());
+
+        // when
+        seatService.createSeatsBulk(STORE_ID, request("B", 1, 2, null));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> candidates = ArgumentCaptor.forClass(Collection.class);
+        verify(seatRepository, times(2)).findExistingQrCodes(candidates.capture());
+        assertThat(candidates.getAllValues().get(1)).containsExactly("QR000003");
+        assertThat(captureInsertedSeats()).extracting(Seat::getQrCode).containsExactly("QR000001", "QR000003");
+    }
+
+    @Test
+    @DisplayName("일괄 생성: 서명 QR코드는 등록 후 읽어 온 좌석 ID로 발급해 한 번에 교체")
+    void testBulkCreateSignsWithReadBackIds() {
+        // given
+        QrTokenService qrTokenService = new QrTokenService(seatRepository, true, "test-secret");
+        SeatService seatService = seatService(qrTokenService);
+        stubQrCodes("QR000001", "QR000002");
+        when(seatRepository.findExistingSeatNumbers(eq(STORE_ID), anyCollection())).thenReturn(List.of());
+        when(seatRepository.findExistingQrCodes(anyCollection())).thenReturn(List.of());
+        when(seatBatchRepository.findSeatIds(STORE_ID, List.of("S1", "S2"))).thenReturn(Map.of("S1", 101L, "S2", 102L));
+
+        // when
+        List<SeatResponse> responses = seatService.createSeatsBulk(STORE_ID, request("S", 1, 2, null));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Seat>> updated = ArgumentCaptor.forClass(List.class);
+        verify(seatBatchRepository).updateQrCodes(updated.capture());
+        assertThat(updated.getValue()).extracting(Seat::getId).containsExactly(101L, 102L);
+        assertThat(updated.getValue()).allSatisfy(seat -> {
+            assertThat(qrTokenService.isSigned(seat.getQrCode())).isTrue();
+            assertThat(qrTokenService.verify(seat.getQrCode())).isTrue();
+            assertThat(seat.getQrCodeImageUrl()).endsWith(seat.getQrCode() + "/image.png");
+        });
+        assertThat(responses).extracting(SeatResponse::getId).containsExactly(101L, 102L);
+        assertThat(responses).extracting(SeatResponse::getQrCode)
+                .containsExactlyElementsOf(updated.getValue().stream().map(Seat::getQrCode).toList());
+        verify(seatQrCache).invalidate(updated.getValue().stream().map(Seat::getQrCode).toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("일괄 생성: 서명 QR코드를 쓰지 않으면 QR코드를 다시 쓰지 않음")
+    void testBulkCreateWithoutSigningSkipsQrUpdate() {
+        // given
+        SeatService seatService = seatService(false);
+        stubQrCodes("QR000001");
+        when(seatRepository.findExistingSeatNumbers(eq(STORE_ID), anyCollection())).thenReturn(List.of());
+        when(seatRepository.findExistingQrCodes(anyCollection())).thenReturn(List.of());
+
+        // when
+        seatService.createSeatsBulk(STORE_ID, request("C", 1, 1, null));
+
+        // then
+        verify(seatBatchRepository, never()).updateQrCodes(any());
+        verify(seatQrCache).invalidate("QR000001");
+    }
+
+    @Test
+    @DisplayName("관리자가 직접 점유한 좌석은 자동 해제 대상에서 제외")
+    void testToggleOccupancyClearsOrderSource() {
+        // given
+        SeatService seatService = seatService(false);
+        Seat seat = Seat.builder().id(5L).storeId(STORE_ID).seatNumber("A1").qrCode("QR000005")
+                .isOccupied(false).occupiedByOrder(true).build();
+        when(seatRepository.findById(5L)).thenReturn(Optional.of(seat));
+        when(seatRepository.save(seat)).thenReturn(seat);
+
+        // when
+        SeatResponse response = seatService.toggleSeatOccupancy(5L, STORE_ID);
+
+        // then
+        assertThat(response.getIsOccupied()).isTrue();
+        assertThat(seat.getOccupiedByOrder()).isFalse();
+        verify(seatOccupancyService).onManualChange(seat);
+    }
+
+    private SeatService seatService(boolean signed) {
+        return seatService(new QrTokenService(seatRepository, signed, "test-secret"));
+    }
+
+    private SeatService seatService(QrTokenService qrTokenService) {
+        return new SeatService(seatRepository, seatBatchRepository, qrCodeUtil, seatQrCache, qrTokenService,
+                seatOccupancyService);
+    }
+
+    private void stubQrCodes(String first, String... rest) {
+        when(qrCodeUtil.generateQRCode()).thenReturn(first, rest);
+        when(qrCodeUtil.generateQRCodeImage(anyString()))
+                .thenAnswer(invocation -> "/api/public/seats/qr/" + invocation.getArgument(0) + "/image.png");
+    }
+
+    private List<Seat> captureInsertedSeats() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Seat>> seats = ArgumentCaptor.forClass(List.class);
+        verify(seatBatchRepository).insertSeats(seats.capture());
+        return seats.getValue();
+    }
+
+    private SeatBulkRequest request(String prefix, int startNumber, int count, Integer padding) {
+        return SeatBulkRequest.builder()
+                .prefix(prefix)
+                .startNumber(startNumber)
+                .count(count)
+                .padding(padding)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.repository.RateLimitBucketRepository;
+import com.qrcoffee.backend.util.RateLimitPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SharedRateLimitBackend 테스트")
+class SharedRateLimitBackendTest {
+
+    // burst 100, 초당 10개 → 토큰 간격 100ms, 한 번에 10개씩 lease
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("api", 100, 10);
+    private static final long INTERVAL_MICROS = 100_000;
+
+    @Mock
+    private RateLimitBucketRepository repository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private SharedRateLimitBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new SharedRateLimitBackend(repository, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("묶음으로 받은 토큰을 다 쓸 때까지 공유 저장소를 다시 호출하지 않음")
+    void testLeaseBatching() {
+        // given
+        when(repository.tryAcquire(eq("api"), eq("1.1.1.1"), anyLong(), eq(10 * INTERVAL_MICROS), eq(100 * INTERVAL_MICROS)))
+                .thenReturn(0L);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            assertThat(backend.tryAcquire(POLICY, "1.1.1.1", 1)).isEqualTo(RateLimitBackend.ALLOWED);
+        }
+
+        // then
+        verify(repository, times(2)).tryAcquire(eq("api"), eq("1.1.1.1"), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반납 시각이 지나도 정리 전까지는 남은 토큰을 계속 사용")
+    void testLeaseOutlivesTtlUntilEvicted() {
+        // given
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong())).thenReturn(0L);
+        backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toMillis(20));
+        long result = backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // then
+        assertThat(result).isEqualTo(RateLimitBackend.ALLOWED);
+        verify(repository, times(1)).tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다시 받을 때는 남은 토큰을 뺀 만큼만 공유 버킷에서 차감")
+    void testRefillNetsRemainingTokens() {
+        // given (10개 lease에서 3개씩 세 번 사용하면 1개 남음)
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong())).thenReturn(0L);
+        for (int i = 0; i < 3; i++) {
+            backend.tryAcquire(POLICY, "1.1.1.1", 3);
+        }
+
+        // when
+        long result = backend.tryAcquire(POLICY, "1.1.1.1", 3);
+
+        // then
+        assertThat(result).isEqualTo(RateLimitBackend.ALLOWED);
+        verify(repository).tryAcquire(eq("api"), eq("1.1.1.1"), anyLong(), eq(9 * INTERVAL_MICROS), anyLong());
+    }
+
+    @Test
+    @DisplayName("정리 시 반납 시각이 지난 lease의 남은 토큰을 공유 버킷에 반납")
+    void testEvictReturnsUnusedTokens() {
+        // given
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong())).thenReturn(0L);
+        backend.tryAcquire(POLICY, "1.1.1.1", 1);
+        backend.tryAcquire(POLICY, "2.2.2.2", 1);
+        now.addAndGet(TimeUnit.SECONDS.toMillis(5));
+        backend.tryAcquire(POLICY, "2.2.2.2", 9);
+        backend.tryAcquire(POLICY, "2.2.2.2", 1);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toMillis(6));
+        backend.evictIdle();
+
+        // then (1.1.1.1은 9개 반납, 2.2.2.2는 5초 전에 다시 받았으므로 유지)
+        verify(repository).release("api", "1.1.1.1", 9 * INTERVAL_MICROS);
+        verify(repository, never()).release(eq("api"), eq("2.2.2.2"), anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음을 받을 수 없으면 요청 비용만큼만 다시 시도")
+    void testFallbackToSingleToken() {
+        // given
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), eq(10 * INTERVAL_MICROS), anyLong())).thenReturn(500L);
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), eq(INTERVAL_MICROS), anyLong())).thenReturn(0L);
+
+        // when
+        long result = backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // then
+        assertThat(result).isEqualTo(RateLimitBackend.ALLOWED);
+        verify(repository).tryAcquire(anyString(), anyString(), anyLong(), eq(INTERVAL_MICROS), anyLong());
+    }
+
+    @Test
+    @DisplayName("거부 시 대기 시간을 나노초로 반환")
+    void testRejectReturnsWait() {
+        // given
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong())).thenReturn(40_000L);
+
+        // when
+        long result = backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // then
+        assertThat(result).isEqualTo(TimeUnit.MICROSECONDS.toNanos(40_000));
+    }
+
+    @Test
+    @DisplayName("거부된 키는 대기 시간이 끝날 때까지 공유 저장소를 호출하지 않고 거부")
+    void testDenialIsCached() {
+        // given
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(40_000L, 40_000L, 0L);
+        backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // when
+        now.addAndGet(15);
+        long cached = backend.tryAcquire(POLICY, "1.1.1.1", 1);
+        now.addAndGet(25);
+        long afterWait = backend.tryAcquire(POLICY, "1.1.1.1", 1);
+
+        // then
+        assertThat(cached).isEqualTo(TimeUnit.MILLISECONDS.toNanos(25));
+        assertThat(afterWait).isEqualTo(RateLimitBackend.ALLOWED);
+        verify(repository, times(3)).tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("공유 저장소 오류 시 서버 메모리 한도로 대체")
+    void testFallbackOnStoreFailure() {
+        // given
+        RateLimitPolicy policy = new RateLimitPolicy("payment", 2, 0.1);
+        when(repository.tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when & then
+        assertThat(backend.tryAcquire(policy, "1.1.1.1", 1)).isEqualTo(RateLimitBackend.ALLOWED);
+        assertThat(backend.tryAcquire(policy, "1.1.1.1", 1)).isEqualTo(RateLimitBackend.ALLOWED);
+        assertThat(backend.tryAcquire(policy, "1.1.1.1", 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("정리 시 가득 찬 공유 버킷 삭제, 저장소 오류는 무시")
+    void testEvictIdle() {
+        // given
+        when(repository.deleteIdle(anyLong())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        backend.evictIdle();
+
+        // then
+        verify(repository).deleteIdle(TimeUnit.MILLISECONDS.toMicros(now.get()));
+        verify(repository, never()).tryAcquire(anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,99 @@
+package com.qrcoffee.backend.service;
+
+import com.qrcoffee.backend.entity.RevokedToken;
+import com.qrcoffee.backend.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TokenRevocationService 테스트")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                revoked("loaded-token", LocalDateTime.now().plusMinutes(10))));
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository);
+        tokenRevocationService.load();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 폐기 토큰 확인")
+    void testLoadedTokensAreRevoked() {
+        assertThat(tokenRevocationService.isRevoked("loaded-token")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("other-token")).isFalse();
+        assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기 즉시 로컬에 반영 (트랜잭션 밖)")
+    void testRevoke() {
+        tokenRevocationService.revoke("new-token", LocalDateTime.now().plusMinutes(30));
+
+        assertThat(tokenRevocationService.isRevoked("new-token")).isTrue();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 기록하지 않음")
+    void testRevokeExpiredTokenIsIgnored() {
+        tokenRevocationService.revoke("expired-token", LocalDateTime.now().minusMinutes(1));
+
+        assertThat(tokenRevocationService.isRevoked("expired-token")).isFalse();
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 토큰을 동기화로 반영")
+    void testSyncFromOtherServers() {
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                revoked("remote-token", LocalDateTime.now().plusMinutes(10))));
+
+        tokenRevocationService.sync();
+
+        assertThat(tokenRevocationService.isRevoked("remote-token")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("loaded-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom filter에 많은 토큰이 있어도 폐기되지 않은 토큰은 통과")
+    void testNoFalseRevocation() {
+        for (int i = 0; i < 5000; i++) {
+            tokenRevocationService.revoke("revoked-" + i, LocalDateTime.now().plusMinutes(30));
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            assertThat(tokenRevocationService.isRevoked("revoked-" + i)).isTrue();
+            assertThat(tokenRevocationService.isRevoked("active-" + i)).isFalse();
+        }
+    }
+
+    private RevokedToken revoked(String tokenId, LocalDateTime expiresAt) {
+        return RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.qrcoffee.backend.service;
 
+import com.qrcoffee.backend.dto.MenuAvailabilityMessage;
 import com.qrcoffee.backend.entity.Notification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,8 +9,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -154,5 +158,39 @@ class WebSocketNotificationServiceTest {
         verify(messagingTemplate, times(1))
                 .convertAndSend(eq("/topic/customer/" + testOrderId), eq(paymentNotification));
     }
+    
+    @Test
+    @DisplayName("메뉴 판매 상태 변경은 매장 공개 메뉴 채널로 전송")
+    void testSendMenuAvailability() {
+        // given
+        MenuAvailabilityMessage message = MenuAvailabilityMessage.builder()
+                .menuId(10L)
+                .available(false)
+                .catalogVersion(42L)
+                .build();
+        
+        // when
+        webSocketNotificationService.sendMenuAvailability(testStoreId, message);
+        
+        // then
+        verify(messagingTemplate, times(1))
+                .convertAndSend(eq("/topic/public/stores/" + testStoreId + "/menus"), eq(message));
+    }
+    
+    @Test
+    @DisplayName("메뉴 판매 상태 전송 실패는 호출자에게 전파하지 않음")
+    void testSendMenuAvailabilityFailureIsSwallowed() {
+        // given
+        MenuAvailabilityMessage message = MenuAvailabilityMessage.builder()
+                .menuId(10L)
+                .available(true)
+                .catalogVersion(43L)
+                .build();
+        doThrow(new MessageDeliveryException("broker down"))
+                .when(messagingTemplate).convertAndSend(any(String.class), any(Object.class));
+        
+        // when & then
+        assertThatCode(() -> webSocketNotificationService.sendMenuAvailability(testStoreId, message))
+                .doesNotThrowAnyException();
+    }
 }
-
@@ -0,0 +1,100 @@
+package com.qrcoffee.backend.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtUtil 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKeyForJwtUtilTestThatIsLongEnough2024";
+    private static final long EXPIRATION_MS = 1800000;
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION_MS, EXPIRATION_MS * 2, now::get);
+    }
+
+    @Test
+    @DisplayName("한 번의 검증으로 사용자 정보 전체 반환")
+    void testAuthenticate() {
+        String token = jwtUtil.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 10L);
+
+        JwtPrincipal principal = jwtUtil.authenticate(token);
+
+        assertThat(principal.tokenId()).isEqualTo("token-1");
+        assertThat(principal.email()).isEqualTo("admin@test.com");
+        assertThat(principal.userId()).isEqualTo(1L);
+        assertThat(principal.role()).isEqualTo("MASTER");
+        assertThat(principal.storeId()).isEqualTo(10L);
+        assertThat(principal.expiresAt()).isEqualTo(now.get() / 1000 * 1000 + EXPIRATION_MS);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 캐시된 사용자 정보 반환")
+    void testCachesVerifiedToken() {
+        String token = jwtUtil.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 10L);
+
+        JwtPrincipal first = jwtUtil.authenticate(token);
+        JwtPrincipal second = jwtUtil.authenticate(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부")
+    void testRejectsTamperedToken() {
+        String token = jwtUtil.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 10L);
+        // 길이가 같은 다른 키 (키 길이가 다르면 서명 알고리즘이 달라져 서명 검증 전에 거부됨)
+        String otherSecret = SECRET.substring(0, SECRET.length() - 4) + "2025";
+        JwtUtil otherKey = new JwtUtil(otherSecret, EXPIRATION_MS, EXPIRATION_MS * 2, now::get);
+        String forged = otherKey.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 99L);
+
+        jwtUtil.authenticate(token);
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(forged)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("더 긴 키(다른 알고리즘)로 서명된 토큰도 JwtException으로 거부")
+    void testRejectsTokenSignedWithDifferentAlgorithm() {
+        JwtUtil longerKey = new JwtUtil(SECRET + "-other", EXPIRATION_MS, EXPIRATION_MS * 2, now::get);
+        String forged = longerKey.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 99L);
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 후에는 거부")
+    void testCachedTokenExpires() {
+        String token = jwtUtil.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 10L);
+        jwtUtil.authenticate(token);
+
+        now.addAndGet(EXPIRATION_MS + 1000);
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 인증에 사용할 수 없음")
+    void testRefreshTokenIsNotAccessToken() {
+        String refreshToken = jwtUtil.generateRefreshToken("refresh-1", "admin@test.com");
+        String accessToken = jwtUtil.generateAccessToken("token-1", "admin@test.com", 1L, "MASTER", 10L);
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(refreshToken)).isInstanceOf(UnsupportedJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.parseRefreshToken(accessToken)).isInstanceOf(UnsupportedJwtException.class);
+        assertThat(jwtUtil.parseRefreshToken(refreshToken).getId()).isEqualTo("refresh-1");
+    }
+}
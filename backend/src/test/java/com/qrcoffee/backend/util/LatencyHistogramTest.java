@@ -0,0 +1,81 @@
+package com.qrcoffee.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("기록이 없으면 백분위는 0")
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentile(50)).isZero();
+        assertThat(histogram.getPercentile(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("32초 미만은 정확한 값으로 백분위 계산")
+    void testExactPercentilesForSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getPercentile(50)).isEqualTo(5);
+        assertThat(histogram.getPercentile(90)).isEqualTo(9);
+        assertThat(histogram.getPercentile(100)).isEqualTo(10);
+        assertThat(histogram.getMax()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("큰 값은 상대 오차 약 6% 이내로 근사")
+    void testRelativeErrorForLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 3600; i++) {
+            histogram.record(i);
+        }
+
+        assertThat((double) histogram.getPercentile(50)).isCloseTo(1800, within(1800 * 0.07));
+        assertThat((double) histogram.getPercentile(99)).isCloseTo(3564, within(3564 * 0.07));
+        assertThat(histogram.getPercentile(100)).isEqualTo(3600);
+    }
+
+    @Test
+    @DisplayName("병합 결과는 전체 값을 한 번에 기록한 것과 동일")
+    void testMerge() {
+        LatencyHistogram morning = new LatencyHistogram();
+        LatencyHistogram afternoon = new LatencyHistogram();
+        LatencyHistogram all = new LatencyHistogram();
+        for (int i = 0; i < 500; i++) {
+            morning.record(i * 3L);
+            afternoon.record(i * 7L);
+            all.record(i * 3L);
+            all.record(i * 7L);
+        }
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.merge(morning);
+        merged.merge(afternoon);
+
+        assertThat(merged.getCount()).isEqualTo(all.getCount());
+        assertThat(merged.getMax()).isEqualTo(all.getMax());
+        assertThat(merged.getPercentile(50)).isEqualTo(all.getPercentile(50));
+        assertThat(merged.getPercentile(90)).isEqualTo(all.getPercentile(90));
+        assertThat(merged.getPercentile(99)).isEqualTo(all.getPercentile(99));
+    }
+
+    @Test
+    @DisplayName("버킷 상한은 해당 버킷에 속한 값 이상")
+    void testBucketBounds() {
+        for (long value = 0; value < 100_000; value += 7) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+        }
+    }
+}
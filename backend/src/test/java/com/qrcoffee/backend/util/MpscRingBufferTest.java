@@ -0,0 +1,91 @@
+package com.qrcoffee.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MpscRingBuffer 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고 가득 차면 거부")
+    void testOfferAndDrain() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+
+        // 꺼낸 자리는 다시 사용
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.drain(drained::add)).isEqualTo(1);
+        assertThat(drained).endsWith(5);
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱만 허용")
+    void testCapacityMustBePowerOfTwo() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실/중복 없음 (거부된 개수 제외)")
+    void testConcurrentProducers() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] rejected = new long[producers];
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    if (!buffer.offer(producer * perProducer + i)) {
+                        rejected[producer]++;
+                    }
+                }
+                return null;
+            });
+        }
+
+        boolean[] seen = new boolean[producers * perProducer];
+        long[] received = new long[1];
+        start.countDown();
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            buffer.drain(value -> {
+                assertThat(seen[value]).isFalse();
+                seen[value] = true;
+                received[0]++;
+            });
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.drain(value -> {
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+            received[0]++;
+        });
+
+        long totalRejected = 0;
+        for (long count : rejected) {
+            totalRejected += count;
+        }
+        assertThat(received[0] + totalRejected).isEqualTo((long) producers * perProducer);
+    }
+}
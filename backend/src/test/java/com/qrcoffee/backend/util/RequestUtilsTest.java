@@ -0,0 +1,55 @@
+package com.qrcoffee.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestUtils 테스트")
+class RequestUtilsTest {
+
+    @Test
+    @DisplayName("외부에서 직접 연결하면 X-Forwarded-For를 무시")
+    void testIgnoresForwardedHeaderFromPublicPeer() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        // when
+        String ip = RequestUtils.getTrustedClientIpAddress(request);
+
+        // then
+        assertThat(ip).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("내부 프록시 뒤에서는 클라이언트가 붙인 값이 아닌 프록시가 추가한 주소 사용")
+    void testUsesRightmostPublicHopBehindProxy() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("172.18.0.5");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 10.0.0.2");
+
+        // when
+        String ip = RequestUtils.getTrustedClientIpAddress(request);
+
+        // then
+        assertThat(ip).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For가 없으면 연결 주소 사용")
+    void testFallsBackToRemoteAddr() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+
+        // when
+        String ip = RequestUtils.getTrustedClientIpAddress(request);
+
+        // then
+        assertThat(ip).isEqualTo("127.0.0.1");
+    }
+}
@@ -0,0 +1,114 @@
+package com.qrcoffee.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    @DisplayName("burst개까지 즉시 허용하고 이후 거부")
+    void testBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 5, 1, 100, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", 1)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        }
+        long wait = limiter.tryAcquire("10.0.0.1", 1);
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("10.0.0.2", 1)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 rate개씩 보충")
+    void testRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 2, 2, 100, now::get);
+        limiter.tryAcquire("ip", 1);
+        limiter.tryAcquire("ip", 1);
+        assertThat(limiter.tryAcquire("ip", 1)).isPositive();
+
+        now.addAndGet(SECOND / 2);
+
+        assertThat(limiter.tryAcquire("ip", 1)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("ip", 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("비용이 큰 요청은 토큰을 여러 개 사용")
+    void testCost() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 1, 100, now::get);
+
+        assertThat(limiter.tryAcquire("ip", 8)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("ip", 3)).isPositive();
+        assertThat(limiter.tryAcquire("ip", 2)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("버킷이 다시 가득 찬 키만 정리")
+    void testEvictIdle() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 1, 100, now::get);
+        limiter.tryAcquire("idle", 1);
+        now.addAndGet(2 * SECOND);
+        limiter.tryAcquire("busy", 5);
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 수 상한에서 유휴 키를 정리하고, 그래도 가득 차면 새 키는 공유 overflow 버킷으로 제한")
+    void testMaxKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 1, 2, now::get);
+        limiter.tryAcquire("a", 1);
+        limiter.tryAcquire("b", 1);
+
+        assertThat(limiter.tryAcquire("c", 1)).isEqualTo(TokenBucketRateLimiter.OVERFLOW);
+        assertThat(limiter.tryAcquire("d", 1)).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+
+        now.addAndGet(2 * SECOND);
+        assertThat(limiter.tryAcquire("c", 1)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 burst개만 허용")
+    void testConcurrentAcquire() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1000, 1, 100, now::get);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire("nat-ip", 1) == TokenBucketRateLimiter.ALLOWED) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed).hasValue(1000);
+    }
+}
@@ -21,11 +21,13 @@ CREATE TABLE stores (
     phone VARCHAR(20) COMMENT '매장 전화번호',
     business_hours JSON COMMENT '영업시간 (JSON 형태)',
     is_active BOOLEAN DEFAULT TRUE COMMENT '매장 활성화 상태',
+    owner_user_id BIGINT COMMENT '가맹 본사(MASTER) 사용자 ID',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
     INDEX idx_stores_active (is_active),
-    INDEX idx_stores_created (created_at)
+    INDEX idx_stores_created (created_at),
+    INDEX idx_stores_owner_active (owner_user_id, is_active)
 ) ENGINE=InnoDB COMMENT='매장 정보';
 
 -- ================================================================================
@@ -56,6 +58,36 @@ CREATE TABLE users (
     INDEX idx_users_active (is_active)
 ) ENGINE=InnoDB COMMENT='사용자 관리 (관리자/서브계정)';
 
+-- Refresh Token 테이블 (사용 시마다 교체, 재사용 감지 시 같은 계열 전체 폐기)
+CREATE TABLE refresh_tokens (
+    token_id VARCHAR(36) PRIMARY KEY COMMENT '토큰 ID (jti)',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    family_id VARCHAR(36) NOT NULL COMMENT '같은 로그인에서 이어지는 토큰 계열',
+    access_token_id VARCHAR(36) NOT NULL COMMENT '함께 발급한 Access Token ID',
+    access_expires_at TIMESTAMP NOT NULL COMMENT 'Access Token 만료 시각',
+    expires_at TIMESTAMP NOT NULL COMMENT '만료 시각',
+    revoked_at TIMESTAMP NULL COMMENT '교체/폐기 시각',
+    replaced_by VARCHAR(36) NULL COMMENT '교체된 새 토큰 ID',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    
+    INDEX idx_refresh_tokens_user (user_id),
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_access (access_token_id),
+    INDEX idx_refresh_tokens_expires (expires_at)
+) ENGINE=InnoDB COMMENT='Refresh Token';
+
+-- 폐기된 Access Token (로그아웃 등. 각 서버가 메모리에 적재해 요청마다 확인, 만료 후 삭제)
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(36) PRIMARY KEY COMMENT '토큰 ID (jti)',
+    expires_at TIMESTAMP NOT NULL COMMENT '토큰 만료 시각',
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '폐기 시각 (서버 간 동기화 기준)',
+    
+    INDEX idx_revoked_tokens_revoked (revoked_at),
+    INDEX idx_revoked_tokens_expires (expires_at)
+) ENGINE=InnoDB COMMENT='폐기된 Access Token';
+
 -- ================================================================================
 -- 3. 좌석 및 QR코드 관리 테이블
 -- ================================================================================
@@ -72,7 +104,9 @@ CREATE TABLE seats (
     max_capacity INT DEFAULT 4 COMMENT '최대 수용 인원',
     qr_code_image_url VARCHAR(500) COMMENT 'QR코드 이미지 URL (선택사항)',
     qr_generated_at TIMESTAMP COMMENT 'QR코드 생성 시점',
+    qr_generation INT NOT NULL DEFAULT 0 COMMENT 'QR코드 재생성 횟수 (서명 QR 폐기 판정)',
     last_used_at TIMESTAMP COMMENT '마지막 사용 시점',
+    occupied_by_order BOOLEAN NOT NULL DEFAULT FALSE COMMENT '주문으로 점유된 좌석 여부 (자동 해제 대상)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
@@ -115,8 +149,10 @@ CREATE TABLE menus (
     description TEXT COMMENT '메뉴 설명',
     price DECIMAL(10,0) NOT NULL COMMENT '가격 (원 단위)',
     image_url VARCHAR(500) COMMENT '메뉴 이미지 URL',
+    thumbnail_url VARCHAR(500) COMMENT '메뉴 썸네일 URL (업로드 이미지 변환본)',
     is_available BOOLEAN DEFAULT TRUE COMMENT '판매 가능 상태 (품절 관리)',
     display_order INT DEFAULT 0 COMMENT '진열 순서',
+    stock_quantity INT NULL COMMENT '남은 재고 (NULL이면 재고 관리 안 함)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
@@ -147,6 +183,10 @@ CREATE TABLE orders (
     customer_request TEXT COMMENT '고객 요청사항',
     access_token VARCHAR(64) UNIQUE NOT NULL COMMENT '주문 접근 토큰 (소유권 검증용)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    preparing_started_at TIMESTAMP NULL COMMENT '제조 시작 시각',
+    completed_at TIMESTAMP NULL COMMENT '제조 완료 시각',
+    picked_up_at TIMESTAMP NULL COMMENT '수령 완료 시각',
+    cancelled_at TIMESTAMP NULL COMMENT '취소 시각',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
     FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE,
@@ -209,6 +249,43 @@ CREATE TABLE payments (
     INDEX idx_payments_approved (approved_at)
 ) ENGINE=InnoDB COMMENT='결제 관리';
 
+-- 일 마감 매출 스냅샷 테이블 (마감 후 변경 불가)
+CREATE TABLE daily_sales_snapshots (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    store_id BIGINT NOT NULL COMMENT '매장 ID',
+    business_date DATE NOT NULL COMMENT '영업일',
+    order_count BIGINT NOT NULL COMMENT '주문 수 (취소 제외)',
+    cancelled_count BIGINT NOT NULL COMMENT '취소 주문 수',
+    payment_count BIGINT NOT NULL COMMENT '승인 완료 결제 수',
+    total_sales DECIMAL(12,0) NOT NULL COMMENT '총 매출',
+    supplied_amount DECIMAL(12,0) NOT NULL COMMENT '공급가액',
+    vat DECIMAL(12,0) NOT NULL COMMENT '부가세',
+    method_amounts JSON COMMENT '결제 수단별 금액',
+    method_counts JSON COMMENT '결제 수단별 건수',
+    menu_quantities JSON COMMENT '메뉴별 판매 수량',
+    hourly_order_counts JSON COMMENT '시간대별 주문 수 (0-23시)',
+    hourly_sales JSON COMMENT '시간대별 주문 금액 (0-23시)',
+    closed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '마감 시각',
+    
+    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE,
+    
+    UNIQUE KEY uk_daily_sales_store_date (store_id, business_date)
+) ENGINE=InnoDB COMMENT='일 마감 매출 스냅샷';
+
+-- 좌석별 시간대 QR 스캔 집계 (스캔 이벤트를 메모리에서 모아 주기적으로 누적)
+CREATE TABLE seat_scan_stats (
+    seat_id BIGINT NOT NULL COMMENT '좌석 ID',
+    scan_hour DATETIME NOT NULL COMMENT '집계 시간대 (정시)',
+    store_id BIGINT NOT NULL COMMENT '매장 ID',
+    scan_count BIGINT NOT NULL DEFAULT 0 COMMENT '스캔 수',
+    
+    PRIMARY KEY (seat_id, scan_hour),
+    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE,
+    FOREIGN KEY (seat_id) REFERENCES seats(id) ON DELETE CASCADE,
+    
+    INDEX idx_seat_scan_stats_store_hour (store_id, scan_hour)
+) ENGINE=InnoDB COMMENT='좌석별 QR 스캔 집계';
+
 -- ================================================================================
 -- 7. 알림 관리 테이블
 -- ================================================================================
@@ -278,6 +355,16 @@ CREATE TABLE store_settings (
     INDEX idx_store_settings_key (setting_key)
 ) ENGINE=InnoDB COMMENT='매장별 설정 관리';
 
+-- 서버 공유 Rate Limit 버킷 (rate-limit.backend=shared 일 때 사용)
+CREATE TABLE rate_limit_buckets (
+    policy VARCHAR(20) NOT NULL COMMENT 'Rate Limit 정책 (api, public, payment, ws-connect)',
+    bucket_key VARCHAR(64) NOT NULL COMMENT '버킷 키 (클라이언트 IP)',
+    tat BIGINT NOT NULL COMMENT '다음 토큰 보충 이론 시각 (epoch 마이크로초)',
+    
+    PRIMARY KEY (policy, bucket_key),
+    INDEX idx_rate_limit_buckets_tat (tat)
+) ENGINE=InnoDB COMMENT='서버 공유 Rate Limit 버킷';
+
 -- ================================================================================
 -- 10. 초기 데이터 삽입
 -- ================================================================================
@@ -299,9 +386,13 @@ INSERT INTO users (email, password, name, phone, role, store_id) VALUES
 -- ================================================================================
 
 -- 주문 조회 최적화를 위한 복합 인덱스
+-- 대시보드 날짜 조건은 created_at >= :start AND created_at < :end 반개구간으로 작성하여 범위 검색 사용
 CREATE INDEX idx_orders_store_status_created ON orders(store_id, status, created_at);
 CREATE INDEX idx_orders_store_created_desc ON orders(store_id, created_at DESC);
 
+-- 매출 집계 최적화를 위한 복합 인덱스 (orders → payments 조인 후 상태/승인일시 범위 필터)
+CREATE INDEX idx_payments_order_status_approved ON payments(order_id, status, approved_at);
+
 -- 메뉴 조회 최적화를 위한 복합 인덱스  
 CREATE INDEX idx_menus_store_category_available ON menus(store_id, category_id, is_available);
 CREATE INDEX idx_menus_store_available_order ON menus(store_id, is_available, display_order);
@@ -327,7 +418,8 @@ BEGIN
     
     SELECT COUNT(*) + 1 INTO order_count 
     FROM orders 
-    WHERE DATE(created_at) = CURDATE() AND store_id = NEW.store_id;
+    WHERE store_id = NEW.store_id
+      AND created_at >= CURDATE() AND created_at < CURDATE() + INTERVAL 1 DAY;
     
     SET NEW.order_number = CONCAT(today_str, '-', LPAD(NEW.store_id, 3, '0'), '-', LPAD(order_count, 4, '0'));
 END$$
@@ -143,21 +143,13 @@ export const authService = {
    * 토큰 갱신
    */
   async refreshToken(): Promise<void> {
-    const refreshToken = localStorage.getItem('refreshToken');
-    
-    if (!refreshToken) {
-      throw new Error('Refresh token이 없습니다.');
-    }
-
-    try {
-      // TODO: 백엔드에 토큰 갱신 API가 구현되면 여기서 호출
-      // 현재는 단순히 기존 토큰을 유지
-      console.log('토큰 갱신 기능은 아직 구현되지 않았습니다.');
-    } catch (error) {
-      localStorage.removeItem('accessToken');
-      localStorage.removeItem('refreshToken');
-      throw error;
+    // Refresh Token은 한 번만 사용 가능하므로 동시 갱신 요청은 하나로 합침
+    if (!refreshInFlight) {
+      refreshInFlight = requestTokenRefresh().finally(() => {
+        refreshInFlight = null;
+      });
     }
+    return refreshInFlight;
   },
 
   /**
@@ -183,6 +175,38 @@ export const getAuthToken = (): string | null => {
   return localStorage.getItem('accessToken');
 };
 
+let refreshInFlight: Promise<void> | null = null;
+
+/**
+ * 토큰 갱신 API 호출 (인터셉터를 거치지 않도록 axios 직접 사용)
+ */
+async function requestTokenRefresh(): Promise<void> {
+  const storedRefreshToken = localStorage.getItem('refreshToken');
+  
+  if (!storedRefreshToken) {
+    throw new Error('Refresh token이 없습니다.');
+  }
+
+  try {
+    const response = await axios.post<ApiResponse<JwtResponse>>(
+      `${API_BASE_URL}/api/auth/refresh`,
+      { refreshToken: storedRefreshToken },
+      { timeout: 10000 }
+    );
+    
+    if (response.data.success && response.data.data) {
+      localStorage.setItem('accessToken', response.data.data.accessToken);
+      localStorage.setItem('refreshToken', response.data.data.refreshToken);
+    } else {
+      throw new Error(response.data.message || '토큰 갱신에 실패했습니다.');
+    }
+  } catch (error) {
+    localStorage.removeItem('accessToken');
+    localStorage.removeItem('refreshToken');
+    throw error;
+  }
+}
+
 // 토큰 갱신 함수를 별도로 export (인터셉터에서 사용)
 async function refreshToken(): Promise<void> {
   return authService.refreshToken();
@@ -1,5 +1,5 @@
 import { api } from './api';
-import { DashboardStats } from '../types/dashboard';
+import { DashboardStats, ScanConversion } from '../types/dashboard';
 
 export const dashboardService = {
   /**
@@ -48,5 +48,13 @@ export const dashboardService = {
   getHourlyStats: async () => {
     const response = await api.get('/dashboard/stats/hourly');
     return response.data.data;
+  },
+
+  /**
+   * QR 스캔 대비 주문 전환 조회 (date: YYYY-MM-DD, 생략 시 오늘)
+   */
+  getScanConversion: async (date?: string): Promise<ScanConversion> => {
+    const response = await api.get<ScanConversion>('/dashboard/stats/scan-conversion', date ? { date } : undefined);
+    return response.data.data!;
   }
 };
@@ -42,6 +42,11 @@ export const categoryService = {
   toggleCategoryStatus: async (categoryId: number): Promise<Category> => {
     const response = await api.put(`/categories/${categoryId}/status`);
     return response.data.data;
+  },
+
+  // 카테고리 일괄 정렬 (전체 카테고리 ID를 표시 순서대로)
+  reorderCategories: async (categoryIds: number[]): Promise<void> => {
+    await api.put('/categories/order', { ids: categoryIds });
   }
 };
 
@@ -92,6 +97,19 @@ export const menuService = {
   toggleMenuAvailability: async (menuId: number): Promise<Menu> => {
     const response = await api.put(`/menus/${menuId}/status`);
     return response.data.data;
+  },
+
+  // 메뉴 이미지 업로드 (서버에서 변환본 생성 후 imageUrl/thumbnailUrl 설정)
+  uploadMenuImage: async (menuId: number, file: File): Promise<Menu> => {
+    const formData = new FormData();
+    formData.append('file', file);
+    const response = await api.post(`/menus/${menuId}/image`, formData);
+    return response.data.data;
+  },
+
+  // 카테고리 내 메뉴 일괄 정렬 (카테고리의 전체 메뉴 ID를 표시 순서대로)
+  reorderMenus: async (categoryId: number, menuIds: number[]): Promise<void> => {
+    await api.put(`/menus/category/${categoryId}/order`, { ids: menuIds });
   }
 };
 
@@ -1,5 +1,5 @@
 import { ApiResponse } from '../types/api';
-import { Seat, SeatRequest, SeatStats } from '../types/seat';
+import { Seat, SeatBulkRequest, SeatRequest, SeatStats } from '../types/seat';
 import { getAuthToken } from './authService';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080';
@@ -61,6 +61,31 @@ export const seatService = {
     return apiResponse.data;
   },
 
+  // 좌석 일괄 생성 (좌석번호 패턴)
+  createSeatsBulk: async (bulkData: SeatBulkRequest): Promise<Seat[]> => {
+    const response = await fetch(`${API_BASE_URL}/api/seats/bulk`, {
+      method: 'POST',
+      headers: getHeaders(),
+      body: JSON.stringify(bulkData),
+    });
+    const apiResponse = await handleResponse<Seat[]>(response);
+    return apiResponse.data || [];
+  },
+
+  // 좌석 일괄 생성 후 QR코드 인쇄용 ZIP 다운로드
+  createSeatsBulkWithQRSheet: async (bulkData: SeatBulkRequest): Promise<Blob> => {
+    const response = await fetch(`${API_BASE_URL}/api/seats/bulk/qr-sheet`, {
+      method: 'POST',
+      headers: getHeaders(),
+      body: JSON.stringify(bulkData),
+    });
+    if (!response.ok) {
+      const errorData = await response.json().catch(() => ({ message: 'Network error' }));
+      throw new Error(errorData.message || `HTTP error! status: ${response.status}`);
+    }
+    return response.blob();
+  },
+
   // 좌석 수정
   updateSeat: async (id: number, seatData: SeatRequest): Promise<Seat> => {
     const response = await fetch(`${API_BASE_URL}/api/seats/${id}`, {
@@ -49,3 +49,27 @@ export interface DashboardStats {
   popularMenus: PopularMenu[];
   hourlyStats: HourlyStats[];
 }
+
+export interface SeatConversion {
+  seatId: number;
+  seatNumber: string;
+  scanCount: number;
+  orderCount: number;
+  conversionRate: number;
+}
+
+export interface HourlyConversion {
+  hour: number;
+  scanCount: number;
+  orderCount: number;
+  conversionRate: number;
+}
+
+export interface ScanConversion {
+  date: string;
+  scanCount: number;
+  orderCount: number;
+  conversionRate: number;
+  seats: SeatConversion[];
+  hourlyStats: HourlyConversion[];
+}
@@ -22,6 +22,7 @@ export interface Menu {
   description?: string;
   price: number;
   imageUrl?: string;
+  thumbnailUrl?: string; // 업로드 이미지의 작은 변환본
   isAvailable: boolean;
   displayOrder: number;
   createdAt: string;
@@ -17,6 +17,15 @@ export interface SeatRequest {
   maxCapacity: number;
 }
 
+export interface SeatBulkRequest {
+  prefix?: string;
+  startNumber: number;
+  count: number;
+  padding?: number;
+  description?: string;
+  maxCapacity?: number;
+}
+
 export interface SeatStats {
   totalSeats: number;
   activeSeats: number;